@@ -0,0 +1,73 @@
+package com.hydro.sql.benchmark;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * In memory database used by the benchmarks. It holds a sensor readings table
+ * seeded with the given number of systems and readings.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class BenchmarkDatabase {
+    private static final String CREATE_TABLE = "CREATE TABLE sensor_readings ("
+            + "id BIGINT AUTO_INCREMENT PRIMARY KEY, system_id INT NOT NULL, ph DOUBLE, tds DOUBLE, "
+            + "water_temp_celsius DOUBLE, air_temp_celsius DOUBLE, humidity DOUBLE, light_status TINYINT, "
+            + "insert_date_utc TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+
+    private BenchmarkDatabase() {}
+
+    /**
+     * Creates a new in memory database with a seeded sensor readings table.
+     * 
+     * @param name             The name of the database.
+     * @param systems          The number of systems to seed.
+     * @param readingsPerSystem The number of readings for each system.
+     * @return The pooled {@link HikariDataSource} of the database.
+     */
+    public static HikariDataSource create(String name, int systems, int readingsPerSystem) {
+        return create(DatabaseConnectionBuilder.create().embedded(name), systems, readingsPerSystem);
+    }
+
+    /**
+     * Creates a seeded sensor readings table on the database of the given
+     * builder. This is used to run the benchmarks against a real MySQL server.
+     * 
+     * @param builder          The builder of the database.
+     * @param systems          The number of systems to seed.
+     * @param readingsPerSystem The number of readings for each system.
+     * @return The pooled {@link HikariDataSource} of the database.
+     */
+    public static HikariDataSource create(DatabaseConnectionBuilder builder, int systems, int readingsPerSystem) {
+        HikariDataSource source = builder.leakDetectionThreshold(0).buildPooledSource();
+        seed(source, systems, readingsPerSystem);
+        return source;
+    }
+
+    /**
+     * Creates the sensor readings table and fills it with readings.
+     * 
+     * @param source           The datasource of the database.
+     * @param systems          The number of systems to seed.
+     * @param readingsPerSystem The number of readings for each system.
+     */
+    private static void seed(DataSource source, int systems, int readingsPerSystem) {
+        JdbcTemplate template = new JdbcTemplate(source);
+        template.execute("DROP TABLE IF EXISTS sensor_readings");
+        template.execute(CREATE_TABLE);
+        template.execute("CREATE INDEX sensor_readings_system_id ON sensor_readings (system_id)");
+
+        for(int system = 1; system <= systems; system++) {
+            for(int i = 0; i < readingsPerSystem; i++) {
+                template.update("INSERT INTO sensor_readings (system_id, ph, tds, water_temp_celsius, "
+                        + "air_temp_celsius, humidity, light_status) VALUES (?, ?, ?, ?, ?, ?, ?)", system,
+                                6.0 + (i % 10) / 10.0, 800 + i % 200, 20.5, 24.1, 55.0 + i % 20, i % 2);
+            }
+        }
+    }
+}
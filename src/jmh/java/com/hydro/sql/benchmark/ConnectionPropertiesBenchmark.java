@@ -0,0 +1,100 @@
+package com.hydro.sql.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Benchmarks of the dao calls with the default and the high throughput driver
+ * properties. The driver properties only apply to MySQL, so these run against
+ * the server given by the {@code hydro.benchmark.url},
+ * {@code hydro.benchmark.username} and {@code hydro.benchmark.password} system
+ * properties, such as {@code jdbc:mysql://localhost:3306/hydro_db_benchmark}.
+ * The sensor readings table on that schema is replaced. The gradle
+ * {@code jmh} task passes them on from the project properties of the same
+ * name and skips this benchmark when no url is given.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConnectionPropertiesBenchmark {
+
+    @Param({ "default", "highThroughput" })
+    private String profile;
+
+    private HikariDataSource source;
+
+    private SensorReadingDao dao;
+
+    private SensorReading reading;
+
+    private List<SensorReading> readings;
+
+    @Setup
+    public void setup() {
+        String url = System.getProperty("hydro.benchmark.url");
+        if(url == null) {
+            throw new IllegalStateException("Set hydro.benchmark.url to a MySQL schema to run this benchmark");
+        }
+
+        DatabaseConnectionBuilder builder = DatabaseConnectionBuilder.create().url(url)
+                .username(System.getProperty("hydro.benchmark.username", "root"))
+                .password(System.getProperty("hydro.benchmark.password", "")).useDefaultProperties();
+        if("highThroughput".equals(profile)) {
+            builder.useHighThroughputProperties();
+        }
+        source = BenchmarkDatabase.create(builder, 10, 1000);
+        dao = new SensorReadingDao(source);
+
+        reading = new SensorReading();
+        reading.setSystemId(11);
+        reading.setPh(6.2);
+        reading.setTds(840);
+        reading.setWaterTempCelsius(20.5);
+        reading.setAirTempCelsius(24.1);
+        reading.setHumidity(55);
+        reading.setLightStatus(true);
+        readings = Collections.nCopies(100, reading);
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.close();
+    }
+
+    @Benchmark
+    public SensorReading get() {
+        return dao.getReading(500);
+    }
+
+    @Benchmark
+    public List<SensorReading> getPage() {
+        return dao.getReadings(5);
+    }
+
+    @Benchmark
+    public int post() {
+        return dao.insertReading(reading);
+    }
+
+    @Benchmark
+    public int bulkInsert() {
+        return dao.bulkInsertReadings(readings);
+    }
+}
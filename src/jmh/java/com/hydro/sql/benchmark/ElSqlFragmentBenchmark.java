@@ -0,0 +1,62 @@
+package com.hydro.sql.benchmark;
+
+import static com.hydro.sql.abstracts.AbstractSqlGlobals.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.hydro.sql.builder.SqlParamBuilder;
+import com.opengamma.elsql.ElSqlBundle;
+import com.opengamma.elsql.ElSqlConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Benchmarks rendering an elsql fragment, both straight from the bundle and
+ * through the dao fragment cache.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ElSqlFragmentBenchmark {
+    private final MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, 12).build();
+
+    private ElSqlBundle bundle;
+
+    private HikariDataSource source;
+
+    private SensorReadingDao dao;
+
+    @Setup
+    public void setup() {
+        bundle = ElSqlBundle.of(ElSqlConfig.MYSQL, SensorReadingDao.class);
+        source = BenchmarkDatabase.create("elsql_fragment_benchmark", 0, 0);
+        dao = new SensorReadingDao(source);
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.close();
+    }
+
+    @Benchmark
+    public String bundleGetSql() {
+        return bundle.getSql("getReadings", params).trim();
+    }
+
+    @Benchmark
+    public String daoGetSql() {
+        return dao.renderSql(params);
+    }
+}
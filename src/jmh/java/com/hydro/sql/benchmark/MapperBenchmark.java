@@ -0,0 +1,64 @@
+package com.hydro.sql.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hydro.sql.abstracts.AbstractMapper;
+import com.hydro.sql.abstracts.AbstractSqlGlobals;
+import com.hydro.sql.abstracts.CompiledRowMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Benchmarks mapping a page of sensor readings through the row mappers.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+    private static final String SQL = "SELECT * FROM sensor_readings WHERE system_id = 1 ORDER BY id";
+
+    private static final CompiledRowMapper<SensorReading> COMPILED_MAPPER = AbstractMapper
+            .compiled(SensorReading.class).withColumn("insertDate", AbstractSqlGlobals.INSERT_DATE);
+
+    @Param({ "100", "10000" })
+    private int rows;
+
+    private HikariDataSource source;
+
+    private JdbcTemplate template;
+
+    @Setup
+    public void setup() {
+        source = BenchmarkDatabase.create("mapper_benchmark_" + rows, 1, rows);
+        template = new JdbcTemplate(source);
+    }
+
+    @TearDown
+    public void tearDown() {
+        source.close();
+    }
+
+    @Benchmark
+    public List<SensorReading> handWrittenMapper() {
+        return template.query(SQL, SensorReadingMapper.SENSOR_READING_MAPPER);
+    }
+
+    @Benchmark
+    public List<SensorReading> compiledMapper() {
+        return template.query(SQL, COMPILED_MAPPER);
+    }
+}
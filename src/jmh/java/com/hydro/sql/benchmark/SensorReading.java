@@ -0,0 +1,101 @@
+package com.hydro.sql.benchmark;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sensor reading used by the benchmarks.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SensorReading {
+    private long id;
+
+    private int systemId;
+
+    private double ph;
+
+    private double tds;
+
+    private double waterTempCelsius;
+
+    private double airTempCelsius;
+
+    private double humidity;
+
+    private boolean lightStatus;
+
+    private LocalDateTime insertDate;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public int getSystemId() {
+        return systemId;
+    }
+
+    public void setSystemId(int systemId) {
+        this.systemId = systemId;
+    }
+
+    public double getPh() {
+        return ph;
+    }
+
+    public void setPh(double ph) {
+        this.ph = ph;
+    }
+
+    public double getTds() {
+        return tds;
+    }
+
+    public void setTds(double tds) {
+        this.tds = tds;
+    }
+
+    public double getWaterTempCelsius() {
+        return waterTempCelsius;
+    }
+
+    public void setWaterTempCelsius(double waterTempCelsius) {
+        this.waterTempCelsius = waterTempCelsius;
+    }
+
+    public double getAirTempCelsius() {
+        return airTempCelsius;
+    }
+
+    public void setAirTempCelsius(double airTempCelsius) {
+        this.airTempCelsius = airTempCelsius;
+    }
+
+    public double getHumidity() {
+        return humidity;
+    }
+
+    public void setHumidity(double humidity) {
+        this.humidity = humidity;
+    }
+
+    public boolean isLightStatus() {
+        return lightStatus;
+    }
+
+    public void setLightStatus(boolean lightStatus) {
+        this.lightStatus = lightStatus;
+    }
+
+    public LocalDateTime getInsertDate() {
+        return insertDate;
+    }
+
+    public void setInsertDate(LocalDateTime insertDate) {
+        this.insertDate = insertDate;
+    }
+}
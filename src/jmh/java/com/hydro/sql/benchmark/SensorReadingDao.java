@@ -0,0 +1,79 @@
+package com.hydro.sql.benchmark;
+
+import static com.hydro.sql.benchmark.SensorReadingMapper.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.BulkInsertBuilder;
+import com.hydro.sql.builder.SqlParamBuilder;
+import com.hydro.sql.builder.SqlParamSchema;
+import com.hydro.sql.columnar.ColumnarResult;
+import com.hydro.sql.columnar.ColumnarResultSetExtractor;
+import com.hydro.sql.ingest.WriteBehindQueue;
+
+/**
+ * Dao for the sensor readings table used by the benchmarks.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SensorReadingDao extends BaseDao {
+    public static final SqlParamSchema READING_SCHEMA = SqlParamSchema.of(SYSTEM_ID, PH, TDS, WATER_TEMP_CELSIUS,
+                                                                          AIR_TEMP_CELSIUS, HUMIDITY, LIGHT_STATUS,
+                                                                          INSERT_DATE);
+
+    private static final BulkInsertBuilder READING_INSERT = BulkInsertBuilder.into("sensor_readings")
+            .columns(SYSTEM_ID, PH, TDS, WATER_TEMP_CELSIUS, AIR_TEMP_CELSIUS, HUMIDITY, LIGHT_STATUS);
+
+    public SensorReadingDao(DataSource source) {
+        super(source);
+    }
+
+    public SensorReading getReading(long id) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(ID, id).build();
+        return get(getSql("getReadings", params), params, SENSOR_READING_MAPPER);
+    }
+
+    public List<SensorReading> getReadings(int systemId) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemId).build();
+        return getPage(getSql("getReadings", params), params, SENSOR_READING_MAPPER);
+    }
+
+    public ColumnarResult getReadingColumns(int systemId) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(SYSTEM_ID, systemId).build();
+        return getColumns(getSql("getReadings", params), params,
+                          ColumnarResultSetExtractor.create().longColumns(ID)
+                                  .doubleColumns(PH, TDS, WATER_TEMP_CELSIUS, AIR_TEMP_CELSIUS, HUMIDITY)
+                                  .timestampColumns(INSERT_DATE));
+    }
+
+    public int insertReading(SensorReading reading) {
+        MapSqlParameterSource params = readingParams(reading);
+        return post(getSql("insertReading", params), params);
+    }
+
+    public int bulkInsertReadings(List<SensorReading> readings) {
+        return bulkInsert(READING_INSERT, readings.stream().map(SensorReadingDao::readingParams));
+    }
+
+    public WriteBehindQueue<SqlParameterSource> readingQueue() {
+        return writeBehind(READING_INSERT);
+    }
+
+    public String renderSql(MapSqlParameterSource params) {
+        return getSql("getReadings", params);
+    }
+
+    public static MapSqlParameterSource readingParams(SensorReading reading) {
+        return SqlParamBuilder.with().withParam(SYSTEM_ID, reading.getSystemId()).withParam(PH, reading.getPh())
+                .withParam(TDS, reading.getTds()).withParam(WATER_TEMP_CELSIUS, reading.getWaterTempCelsius())
+                .withParam(AIR_TEMP_CELSIUS, reading.getAirTempCelsius()).withParam(HUMIDITY, reading.getHumidity())
+                .withParam(LIGHT_STATUS, reading.isLightStatus()).build();
+    }
+}
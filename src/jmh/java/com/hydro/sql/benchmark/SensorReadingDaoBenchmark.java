@@ -0,0 +1,95 @@
+package com.hydro.sql.benchmark;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.hydro.sql.columnar.ColumnarResult;
+import com.hydro.sql.ingest.WriteBehindQueue;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * End to end benchmarks of the dao get, page and post calls against an in
+ * memory database.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SensorReadingDaoBenchmark {
+    private HikariDataSource source;
+
+    private SensorReadingDao dao;
+
+    private SensorReading reading;
+
+    private List<SensorReading> readings;
+
+    private WriteBehindQueue<SqlParameterSource> readingQueue;
+
+    @Setup
+    public void setup() {
+        source = BenchmarkDatabase.create("dao_benchmark", 10, 1000);
+        dao = new SensorReadingDao(source);
+
+        reading = new SensorReading();
+        reading.setSystemId(11);
+        reading.setPh(6.2);
+        reading.setTds(840);
+        reading.setWaterTempCelsius(20.5);
+        reading.setAirTempCelsius(24.1);
+        reading.setHumidity(55);
+        reading.setLightStatus(true);
+        readings = Collections.nCopies(1000, reading);
+        readingQueue = dao.readingQueue().maxDelay(Duration.ofMillis(5)).start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        readingQueue.close();
+        source.close();
+    }
+
+    @Benchmark
+    public SensorReading get() {
+        return dao.getReading(500);
+    }
+
+    @Benchmark
+    public List<SensorReading> getPage() {
+        return dao.getReadings(5);
+    }
+
+    @Benchmark
+    public ColumnarResult getColumns() {
+        return dao.getReadingColumns(5);
+    }
+
+    @Benchmark
+    public int post() {
+        return dao.insertReading(reading);
+    }
+
+    @Benchmark
+    public void writeBehindPost() {
+        readingQueue.put(SensorReadingDao.readingParams(reading));
+    }
+
+    @Benchmark
+    public int bulkInsert() {
+        return dao.bulkInsertReadings(readings);
+    }
+}
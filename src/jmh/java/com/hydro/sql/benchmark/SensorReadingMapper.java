@@ -0,0 +1,31 @@
+package com.hydro.sql.benchmark;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.hydro.sql.abstracts.AbstractMapper;
+
+/**
+ * Hand written mapper for the sensor readings, written the same way as the
+ * mappers in the services.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SensorReadingMapper extends AbstractMapper<SensorReading> {
+    public static final SensorReadingMapper SENSOR_READING_MAPPER = new SensorReadingMapper();
+
+    public SensorReading mapRow(ResultSet rs, int rowNum) throws SQLException {
+        SensorReading reading = new SensorReading();
+        reading.setId(rs.getLong(ID));
+        reading.setSystemId(rs.getInt(SYSTEM_ID));
+        reading.setPh(rs.getDouble(PH));
+        reading.setTds(rs.getDouble(TDS));
+        reading.setWaterTempCelsius(rs.getDouble(WATER_TEMP_CELSIUS));
+        reading.setAirTempCelsius(rs.getDouble(AIR_TEMP_CELSIUS));
+        reading.setHumidity(rs.getDouble(HUMIDITY));
+        reading.setLightStatus(rs.getBoolean(LIGHT_STATUS));
+        reading.setInsertDate(rs.getTimestamp(INSERT_DATE).toLocalDateTime());
+        return reading;
+    }
+}
@@ -0,0 +1,56 @@
+package com.hydro.sql.benchmark;
+
+import static com.hydro.sql.abstracts.AbstractSqlGlobals.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.hydro.common.dictionary.enums.WebRole;
+import com.hydro.sql.builder.SchemaParameterSource;
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Benchmarks building the query params for a sensor reading row.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlParamBuilderBenchmark {
+    private final LocalDateTime insertDate = LocalDateTime.of(2022, 8, 27, 12, 30);
+
+    private final List<WebRole> roles = List.of(WebRole.ADMIN, WebRole.DEVELOPER);
+
+    private final SchemaParameterSource reusableParams = SensorReadingDao.READING_SCHEMA.newSource();
+
+    @Benchmark
+    public MapSqlParameterSource sensorReadingParams() {
+        return SqlParamBuilder.with().withParam(SYSTEM_ID, 12).withParam(PH, 6.2).withParam(TDS, 840.0)
+                .withParam(WATER_TEMP_CELSIUS, 20.5).withParam(AIR_TEMP_CELSIUS, 24.1).withParam(HUMIDITY, 55.0)
+                .withParam(LIGHT_STATUS, true).withParam(INSERT_DATE, insertDate).build();
+    }
+
+    @Benchmark
+    public MapSqlParameterSource reusableSensorReadingParams() {
+        return SqlParamBuilder.with(reusableParams.reset()).withParam(SYSTEM_ID, 12).withParam(PH, 6.2)
+                .withParam(TDS, 840.0).withParam(WATER_TEMP_CELSIUS, 20.5).withParam(AIR_TEMP_CELSIUS, 24.1)
+                .withParam(HUMIDITY, 55.0).withParam(LIGHT_STATUS, true).withTimestamp(INSERT_DATE, insertDate)
+                .build();
+    }
+
+    @Benchmark
+    public MapSqlParameterSource textEnumCollectionParams() {
+        return SqlParamBuilder.with().withParamTextEnumCollection(WEB_ROLE, roles).build();
+    }
+}
@@ -8,4 +8,18 @@ import org.springframework.jdbc.core.RowMapper;
  * @author Sam Butler
  * @since April 21, 2022
  */
-public abstract class AbstractMapper<T> extends AbstractSqlGlobals implements RowMapper<T> {}
+public abstract class AbstractMapper<T> extends AbstractSqlGlobals implements RowMapper<T> {
+
+    /**
+     * Builds a mapper for the given class from its setters or record components,
+     * for classes that do not need a hand written mapper.
+     * 
+     * @param <T>  The type of the mapped rows.
+     * @param type The class to map the rows to.
+     * @return {@link CompiledRowMapper} for the class.
+     * @see CompiledRowMapper
+     */
+    public static <T> CompiledRowMapper<T> compiled(Class<T> type) {
+        return CompiledRowMapper.of(type);
+    }
+}
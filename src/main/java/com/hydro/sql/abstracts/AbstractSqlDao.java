@@ -1,42 +1,134 @@
 package com.hydro.sql.abstracts;
 
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.opengamma.elsql.ElSqlBundle;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
+import com.hydro.sql.async.BoundedQueryExecutor;
+import com.hydro.sql.builder.BulkInsertBuilder;
+import com.hydro.sql.builder.InList;
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.hydro.sql.bulk.DelimitedRowInputStream;
+import com.hydro.sql.bulk.LoadDataResult;
+import com.hydro.sql.cache.ElSqlFragmentCache;
+import com.hydro.sql.cache.QueryResultCache;
+import com.hydro.sql.cache.QueryResultCache.QueryKey;
+import com.hydro.sql.cache.SqlResourceRegistry;
+import com.hydro.sql.columnar.ColumnarResult;
+import com.hydro.sql.columnar.ColumnarResultSetExtractor;
+import com.hydro.sql.ingest.WriteBehindQueue;
+import com.hydro.sql.metrics.SqlMetrics;
+import com.hydro.sql.paging.Keyset;
+import com.hydro.sql.paging.KeysetPage;
+import com.hydro.sql.paging.KeysetPageExtractor;
+import com.hydro.sql.retry.RetryPolicy;
+import com.hydro.sql.retry.RetryScope;
+import com.hydro.sql.retry.SqlErrorType;
+import com.hydro.sql.routing.DataSourceRouting;
+import com.hydro.sql.statement.StatementOptions;
+import com.hydro.sql.statement.StatementOptionsJdbcTemplate;
+import com.hydro.sql.statement.StatementScope;
+import com.hydro.sql.transaction.TransactionOptions;
+import com.hydro.sql.transaction.UnitOfWork;
+import com.mysql.cj.jdbc.JdbcStatement;
 import com.opengamma.elsql.ElSqlConfig;
 
 /**
  * Abstract class for building the DAO classes and running queries against the
  * database.
  * 
+ * <p>
+ * The batch writes parse their sql once, using the params of the first row.
+ * Every row of a batch must have the same parameter shape, so a collection
+ * param has to have the same number of values in every row. Rows that do not
+ * match are rejected before anything is written.
+ * 
  * @author Sam Butler
  * @since July 31, 2021
  */
 @Service
 public abstract class AbstractSqlDao extends AbstractSqlGlobals {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSqlDao.class);
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int ROW_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final String MYSQL_DRIVER_NAME = "MySQL Connector/J";
+    private static final String UNKNOWN_FRAGMENT = "unknown";
+    private static final ToIntFunction<Object> SINGLE_ROW = result -> result == null ? 0 : 1;
     private final NamedParameterJdbcTemplate template;
-    private final ElSqlBundle bundle;
+    private final ElSqlConfig config;
+    private final ElSqlFragmentCache fragments;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int inListChunkSize = InList.DEFAULT_MAX_SIZE;
+    private int streamFetchSize = ROW_STREAMING_FETCH_SIZE;
+    private volatile NamedParameterJdbcTemplate streamingTemplate;
+    private QueryResultCache resultCache;
+    private volatile Executor queryExecutor;
+    private final String daoName = this.getClass().getSimpleName();
+    private SqlMetrics sqlMetrics = SqlMetrics.NOOP;
+    private long slowQueryThresholdNanos = 0;
+    private RetryPolicy retryPolicy;
+    private StatementOptions statementOptions;
+    private volatile boolean statementTemplateChecked;
 
     public AbstractSqlDao() {
         this.template = null;
-        this.bundle = null;
+        this.config = null;
+        this.fragments = null;
     }
 
     public AbstractSqlDao(NamedParameterJdbcTemplate template, ElSqlConfig config) {
         this.template = template;
-        this.bundle = ElSqlBundle.of(config, this.getClass());
+        this.config = config;
+        this.fragments = SqlResourceRegistry.fragments(config, this.getClass());
     }
 
     /**
@@ -48,6 +140,214 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
         return template;
     }
 
+    /**
+     * Sets the number of rows that will be sent to the database in a single batch
+     * when using the batch write methods. Larger collections will be split into
+     * multiple batches of this size.
+     * 
+     * @param batchSize The max number of rows per batch.
+     */
+    public void setBatchSize(int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the max number of keys bound to a single query by
+     * {@link #getForKeys(String, MapSqlParameterSource, String, Collection, RowMapper)}.
+     * Larger key sets are split into multiple queries of this size. It should be a
+     * power of two, so the full chunks do not need any padding.
+     * 
+     * @param inListChunkSize The max keys per query.
+     */
+    public void setInListChunkSize(int inListChunkSize) {
+        if(inListChunkSize < 1) {
+            throw new IllegalArgumentException("In list chunk size must be greater than 0");
+        }
+        this.inListChunkSize = inListChunkSize;
+    }
+
+    /**
+     * Sets the fetch size used by the streaming query methods. The default of
+     * {@link Integer#MIN_VALUE} makes MySQL stream the result one row at a time.
+     * It is only used with the MySQL Connector/J driver, other drivers such as the
+     * embedded H2 database reject it and use their own default fetch size. A
+     * positive size can be used when the connection has {@code useCursorFetch}
+     * enabled, which reads the rows through a server side cursor in chunks of that
+     * size. Cursor fetch is recommended when streams are often closed early, as the
+     * cursor is closed instead of the remaining rows being read off the wire.
+     * 
+     * @param fetchSize The fetch size for the streaming queries.
+     */
+    public void setStreamFetchSize(int fetchSize) {
+        this.streamFetchSize = fetchSize;
+        this.streamingTemplate = null;
+    }
+
+    /**
+     * Enables caching of the get and page query results for the dao. Results are
+     * cached under the tags from {@link #getCacheTags()}, which are invalidated
+     * when the dao does a write. The cache can be shared between daos. Passing
+     * null turns off the caching.
+     * 
+     * <p>
+     * Results are keyed by the class of the mapper, so mappers used with a cache
+     * should not hold any state that changes the mapped rows.
+     * 
+     * @param resultCache The cache to store the results in.
+     */
+    public void setResultCache(QueryResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Gets the tags that the query results of this dao are cached under and that
+     * are invalidated when the dao does a write. Defaults to the name of the dao
+     * class. Daos that read tables written by other daos should add a shared tag
+     * for those tables.
+     * 
+     * @return Set of the cache tags for the dao.
+     */
+    protected Set<String> getCacheTags() {
+        return Set.of(this.getClass().getName());
+    }
+
+    /**
+     * Evicts all of the cached results under the given tags. This can be used to
+     * invalidate the reads of another dao that shares the same cache.
+     * 
+     * @param tags The tags to evict.
+     */
+    protected void evictCacheTags(String... tags) {
+        if(resultCache != null) {
+            resultCache.invalidateTags(tags);
+        }
+    }
+
+    /**
+     * Sets the executor the async query methods run on. By default a
+     * {@link BoundedQueryExecutor} is shared between all daos of the same
+     * datasource, which runs at most as many queries at once as the connection pool
+     * holds.
+     * 
+     * @param queryExecutor The executor to run the async queries on.
+     */
+    public void setQueryExecutor(Executor queryExecutor) {
+        this.queryExecutor = queryExecutor;
+    }
+
+    /**
+     * Sets the metrics that every query of the dao is recorded to. Queries are
+     * tagged with the dao class, the elsql fragment name and the operation.
+     * Defaults to {@link SqlMetrics#NOOP}.
+     * 
+     * @param sqlMetrics The metrics to record the queries to.
+     */
+    public void setSqlMetrics(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics == null ? SqlMetrics.NOOP : sqlMetrics;
+    }
+
+    /**
+     * Sets the threshold for logging slow queries. Any query that takes at least
+     * this long is logged as a warning with its fragment name and row count.
+     * Passing null or zero turns off the slow query log.
+     * 
+     * @param threshold The slow query threshold.
+     */
+    public void setSlowQueryThreshold(Duration threshold) {
+        this.slowQueryThresholdNanos = threshold == null ? 0 : threshold.toNanos();
+    }
+
+    /**
+     * Sets the policy used to retry queries that fail with a transient error, such
+     * as a deadlock or a connection lost during a failover. Reads are retried on
+     * any transient error. Writes are only retried when the statement is known to
+     * not have been applied, unless they are run inside of
+     * {@link #idempotent(Supplier)}. Batches and bulk inserts are only retried when
+     * no connection could be made. Nothing is retried inside of a transaction.
+     * Passing null turns off retries.
+     * 
+     * @param retryPolicy The policy to retry the queries with.
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Sets the default statement options for every query of the dao, such as the
+     * query timeout, max rows and fetch size. Options set for a single call with
+     * {@link #withStatementOptions(StatementOptions, Supplier)} take priority over
+     * these. The options are only applied when the dao template is the shared one
+     * from {@link SqlResourceRegistry#template(javax.sql.DataSource)}, or another
+     * {@link StatementOptionsJdbcTemplate}, a warning is logged for any other
+     * template. Passing null removes the defaults.
+     * 
+     * @param statementOptions The default options for the statements.
+     */
+    public void setStatementOptions(StatementOptions statementOptions) {
+        this.statementOptions = statementOptions;
+    }
+
+    /**
+     * Runs the given call with the options applied to the statements of every
+     * query inside of it. This is used to give a single call its own timeout or
+     * row limit, or to make it cancellable with a
+     * {@link com.hydro.sql.statement.QueryCancellation}.
+     * 
+     * @param <T>     The return type of the call.
+     * @param options The options for the statements.
+     * @param call    The call to run.
+     * @return The result of the call.
+     */
+    protected <T> T withStatementOptions(StatementOptions options, Supplier<T> call) {
+        return StatementScope.with(options, call);
+    }
+
+    /**
+     * Runs the given call with its writes marked as idempotent, so they are
+     * retried even when the connection was lost while they ran. This should only
+     * wrap writes that have the same result when run twice, such as an upsert or
+     * a delete by key.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to run.
+     * @return The result of the call.
+     */
+    protected <T> T idempotent(Supplier<T> call) {
+        return RetryPolicy.idempotent(call);
+    }
+
+    /**
+     * Runs the work in a single transaction. Every query of this dao, and of any
+     * other dao on the same datasource, that is run inside of the work uses the
+     * same connection, so the writes are committed once when the work returns and
+     * rolled back together if it throws. Nothing inside of the work is retried by
+     * the retry policy, since the whole transaction would have to be run again.
+     * 
+     * @param <T>  The return type of the work.
+     * @param work The work to run.
+     * @return The result of the work.
+     */
+    public <T> T inTransaction(Function<UnitOfWork, T> work) {
+        return inTransaction(TransactionOptions.create(), work);
+    }
+
+    /**
+     * Runs the work in a single transaction with the given isolation level, read
+     * only and timeout options.
+     * 
+     * @param <T>     The return type of the work.
+     * @param options The options of the transaction.
+     * @param work    The work to run.
+     * @return The result of the work.
+     * @see #inTransaction(Function)
+     */
+    public <T> T inTransaction(TransactionOptions options, Function<UnitOfWork, T> work) {
+        return UnitOfWork.run(getTemplate().getJdbcTemplate().getDataSource(), options, work);
+    }
+
     /**
      * Does a get on the database for a single record. It will return the top most
      * record if multiple rows are returned.
@@ -59,7 +359,8 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> T get(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
-        return getTemplate().queryForObject(sql, params, mapper);
+        return cached("get", sql, params, resultType(mapper),
+                      () -> read("get", sql, () -> getTemplate().queryForObject(sql, params, mapper), SINGLE_ROW));
     }
 
     /**
@@ -87,7 +388,8 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> T get(String sql, MapSqlParameterSource params, Class<T> clazz) {
-        return getTemplate().queryForObject(sql, params, clazz);
+        return cached("get", sql, params, clazz,
+                      () -> read("get", sql, () -> getTemplate().queryForObject(sql, params, clazz), SINGLE_ROW));
     }
 
     /**
@@ -134,7 +436,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> Optional<T> getForOptional(String sql, RowMapper<T> mapper) {
-        return getForOptional(sql, mapper);
+        return getForOptional(sql, new MapSqlParameterSource(), mapper);
     }
 
     /**
@@ -167,7 +469,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> Optional<T> getForOptional(String sql, Class<T> clazz) {
-        return getForOptional(sql, clazz);
+        return getForOptional(sql, new MapSqlParameterSource(), clazz);
     }
 
     /**
@@ -181,7 +483,8 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return List of the returned data.
      */
     protected <T> List<T> getPage(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
-        return getTemplate().query(sql, params, mapper);
+        return cachedPage(sql, params, resultType(mapper),
+                          () -> read("getPage", sql, () -> getTemplate().query(sql, params, mapper), List::size));
     }
 
     /**
@@ -194,7 +497,70 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return List of the returned data.
      */
     protected <T> List<T> getPage(String sql, RowMapper<T> mapper) {
-        return getTemplate().query(sql, new MapSqlParameterSource(), mapper);
+        return getPage(sql, new MapSqlParameterSource(), mapper);
+    }
+
+    /**
+     * Querys the database for the rows of the given keys, which are bound to the
+     * {@code IN (:keyParam)} list of the sql. The keys are split into padded
+     * chunks with {@link InList#chunks(Collection, int)}, so only a few distinct
+     * statements are ever run. The chunks are queried in parallel on the query
+     * executor of the dao and the rows are merged in chunk order. Inside of a
+     * transaction the chunks are run one after another on the bound connection,
+     * and the same is done when called from a query executor thread, since
+     * waiting there on more queries could deadlock the executor.
+     * 
+     * @param <T>      The object type of the method to cast the rows too.
+     * @param sql      The sql to run against the database.
+     * @param params   Params to be inserted into the query, besides the keys.
+     * @param keyParam The name of the param of the in list.
+     * @param keys     The keys to look up.
+     * @param mapper   The mapper to return the data as.
+     * @return List of the returned data.
+     */
+    protected <T> List<T> getForKeys(String sql, MapSqlParameterSource params, String keyParam, Collection<?> keys,
+            RowMapper<T> mapper) {
+        List<List<Object>> chunks = InList.chunks(keys, inListChunkSize);
+        List<T> rows = new ArrayList<>();
+        if(chunks.size() <= 1 || TransactionSynchronizationManager.isActualTransactionActive()
+                || BoundedQueryExecutor.isQueryThread()) {
+            for(List<Object> chunk : chunks) {
+                rows.addAll(getPage(sql, chunkParams(params, keyParam, chunk), mapper));
+            }
+            return rows;
+        }
+
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(chunks.size());
+        for(List<Object> chunk : chunks) {
+            futures.add(getPageAsync(sql, chunkParams(params, keyParam, chunk), mapper));
+        }
+        for(CompletableFuture<List<T>> future : futures) {
+            try {
+                rows.addAll(future.join());
+            }
+            catch(CompletionException e) {
+                if(e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Querys the database for the rows of the given keys.
+     * 
+     * @param <T>      The object type of the method to cast the rows too.
+     * @param sql      The sql to run against the database.
+     * @param keyParam The name of the param of the in list.
+     * @param keys     The keys to look up.
+     * @param mapper   The mapper to return the data as.
+     * @return List of the returned data.
+     * @see #getForKeys(String, MapSqlParameterSource, String, Collection, RowMapper)
+     */
+    protected <T> List<T> getForKeys(String sql, String keyParam, Collection<?> keys, RowMapper<T> mapper) {
+        return getForKeys(sql, new MapSqlParameterSource(), keyParam, keys, mapper);
     }
 
     /**
@@ -207,7 +573,107 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return List of the returned data.
      */
     protected <T> List<T> getPage(String sql, Class<T> clazz) {
-        return getTemplate().queryForList(sql, new MapSqlParameterSource(), clazz);
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return cachedPage(sql, params, clazz,
+                          () -> read("getPage", sql, () -> getTemplate().queryForList(sql, params, clazz), List::size));
+    }
+
+    /**
+     * Querys the database for a single page of rows using keyset pagination. The
+     * keyset params are added to the params before the fragment is rendered, so
+     * the fragment can filter past the last key of the previous page and limit the
+     * rows to {@code :page_fetch}. Every page costs the same no matter how deep it
+     * is, unlike an offset.
+     * 
+     * @param <T>       The object type of the method to cast the rows too.
+     * @param name      The name of the elsql fragment.
+     * @param params    Params to be inserted into the query.
+     * @param keyset    The ordered key columns of the query.
+     * @param pageSize  The number of rows in a page.
+     * @param pageToken The token from the previous page, or null for the first
+     *                  page.
+     * @param mapper    The mapper to return the data as.
+     * @return {@link KeysetPage} of the rows and the next page token.
+     * @see Keyset
+     */
+    protected <T> KeysetPage<T> getKeysetPage(String name, MapSqlParameterSource params, Keyset keyset, int pageSize,
+            String pageToken, RowMapper<T> mapper) {
+        keyset.bind(params, pageToken, pageSize);
+        String sql = getSql(name, params);
+        KeysetPageExtractor<T> extractor = new KeysetPageExtractor<>(keyset, pageSize, mapper);
+        return cached("keysetPage", sql, params, resultType(mapper),
+                      () -> read("getKeysetPage", sql, () -> getTemplate().query(sql, params, extractor),
+                                 page -> page.getItems().size()));
+    }
+
+    /**
+     * Querys the database for a stream of data. The rows are read from the
+     * database as the stream is consumed, so the memory used stays the same no
+     * matter the size of the result. The returned stream holds an open connection
+     * and must be closed, preferably with a try-with-resources block.
+     * 
+     * @param <T>    The object type of the method to cast the rows too.
+     * @param sql    The sql to run against the database.
+     * @param params Params to be inserted into the query.
+     * @param mapper The mapper to return the data as.
+     * @return Lazily evaluated {@link Stream} of the returned data.
+     */
+    protected <T> Stream<T> getStream(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
+        return DataSourceRouting.onReplica(() -> retry("getStream", sql, RetryScope.READ,
+                                                       () -> getStreamingTemplate().queryForStream(sql, params,
+                                                                                                   mapper)));
+    }
+
+    /**
+     * Querys the database for a stream of data. The rows are read from the
+     * database as the stream is consumed, so the memory used stays the same no
+     * matter the size of the result. The returned stream holds an open connection
+     * and must be closed, preferably with a try-with-resources block.
+     * 
+     * @param <T>    The object type of the method to cast the rows too.
+     * @param sql    The sql to run against the database.
+     * @param mapper The mapper to return the data as.
+     * @return Lazily evaluated {@link Stream} of the returned data.
+     */
+    protected <T> Stream<T> getStream(String sql, RowMapper<T> mapper) {
+        return getStream(sql, new MapSqlParameterSource(), mapper);
+    }
+
+    /**
+     * Querys the database and hands each row to the given consumer as it is read.
+     * Only the current row is held in memory. The connection is released once all
+     * rows have been consumed.
+     * 
+     * @param <T>      The object type of the method to cast the rows too.
+     * @param sql      The sql to run against the database.
+     * @param params   Params to be inserted into the query.
+     * @param mapper   The mapper to return the data as.
+     * @param consumer The consumer to hand each row to.
+     */
+    protected <T> void getEach(String sql, MapSqlParameterSource params, RowMapper<T> mapper,
+            Consumer<? super T> consumer) {
+        int[] rowNum = new int[1];
+        RowCallbackHandler handler = rs -> consumer.accept(mapper.mapRow(rs, rowNum[0]++));
+        read("getEach", sql, RetryScope.CONNECT_ONLY, () -> {
+            getStreamingTemplate().query(sql, params, handler);
+            return rowNum[0];
+        }, Integer::intValue);
+    }
+
+    /**
+     * Querys the database and reads the requested numeric columns into primitive
+     * columns instead of mapping an object per row. Rows are streamed from the
+     * database, so only the columns are held in memory.
+     * 
+     * @param sql       The sql to run against the database.
+     * @param params    Params to be inserted into the query.
+     * @param extractor The columns to read from the result.
+     * @return {@link ColumnarResult} of the requested columns.
+     */
+    protected ColumnarResult getColumns(String sql, MapSqlParameterSource params,
+            ColumnarResultSetExtractor extractor) {
+        return read("getColumns", sql, () -> getStreamingTemplate().query(sql, params, extractor),
+                    ColumnarResult::size);
     }
 
     /**
@@ -219,7 +685,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param keyHolder used to get the auto increment id.
      */
     protected int post(String sql, MapSqlParameterSource params, KeyHolder keyHolder) {
-        return getTemplate().update(sql, params, keyHolder);
+        return write("post", sql, () -> getTemplate().update(sql, params, keyHolder), Integer::intValue);
     }
 
     /**
@@ -229,7 +695,136 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param params Params to be inserted into the query.
      */
     protected int post(String sql, MapSqlParameterSource params) {
-        return getTemplate().update(sql, params);
+        return write("post", sql, () -> getTemplate().update(sql, params), Integer::intValue);
+    }
+
+    /**
+     * Does a batch insertion into the database with the given sql and a set of
+     * params for each row. The rows will be sent in batches of the configured
+     * batch size. The generated keys for each row will be added to the key holder
+     * in the same order as the given rows. The rows must have the same parameter
+     * shape, as described on the {@link AbstractSqlDao class}.
+     * 
+     * @param sql       The sql to run against the database.
+     * @param params    Params for each row to be inserted.
+     * @param keyHolder used to get the auto increment ids.
+     * @return The affected row counts for each row. If the connection is using
+     *         {@code rewriteBatchedStatements} the driver may return
+     *         {@link Statement#SUCCESS_NO_INFO} for the rows.
+     */
+    protected int[] postBatch(String sql, Collection<MapSqlParameterSource> params, KeyHolder keyHolder) {
+        return executeBatch("postBatch", sql, params, keyHolder);
+    }
+
+    /**
+     * Does a batch insertion into the database with the given sql and a set of
+     * params for each row. The rows will be sent in batches of the configured
+     * batch size. The rows must have the same parameter shape, as described on
+     * the {@link AbstractSqlDao class}.
+     * 
+     * @param sql    The sql to run against the database.
+     * @param params Params for each row to be inserted.
+     * @return The affected row counts for each row.
+     */
+    protected int[] postBatch(String sql, Collection<MapSqlParameterSource> params) {
+        return executeBatch("postBatch", sql, params, null);
+    }
+
+    /**
+     * Performs a batch update against the database with a set of params for each
+     * row. The rows will be sent in batches of the configured batch size. The
+     * rows must have the same parameter shape, as described on the
+     * {@link AbstractSqlDao class}.
+     * 
+     * @param sql    The sql to run against the database.
+     * @param params Params for each row to be updated.
+     * @return The affected row counts for each row.
+     */
+    protected int[] updateBatch(String sql, Collection<MapSqlParameterSource> params) {
+        return executeBatch("updateBatch", sql, params, null);
+    }
+
+    /**
+     * Performs a batch delete against the database with a set of params for each
+     * row. The rows will be sent in batches of the configured batch size. The
+     * rows must have the same parameter shape, as described on the
+     * {@link AbstractSqlDao class}.
+     * 
+     * @param sql    The sql to run against the database.
+     * @param params Params for each row to be deleted.
+     * @return The affected row counts for each row.
+     */
+    protected int[] deleteBatch(String sql, Collection<MapSqlParameterSource> params) {
+        return executeBatch("deleteBatch", sql, params, null);
+    }
+
+    /**
+     * Inserts the rows with multi row insert statements built by the given
+     * {@link BulkInsertBuilder}. All statements are run on a single connection and
+     * the statement for a full set of rows is only prepared once.
+     * 
+     * @param insert The bulk insert to run.
+     * @param rows   Params for each row to be inserted.
+     * @return The total affected rows.
+     */
+    protected int bulkInsert(BulkInsertBuilder insert, Iterable<? extends SqlParameterSource> rows) {
+        return bulkInsert(insert, rows.iterator());
+    }
+
+    /**
+     * Inserts the rows with multi row insert statements built by the given
+     * {@link BulkInsertBuilder}. Rows are read from the stream as each statement
+     * is filled, so the stream does not need to fit in memory.
+     * 
+     * @param insert The bulk insert to run.
+     * @param rows   Params for each row to be inserted.
+     * @return The total affected rows.
+     */
+    protected int bulkInsert(BulkInsertBuilder insert, Stream<? extends SqlParameterSource> rows) {
+        return bulkInsert(insert, rows.iterator());
+    }
+
+    /**
+     * Streams the rows into the table of the given {@link BulkInsertBuilder} with
+     * {@code LOAD DATA LOCAL INFILE}. The rows are written as tab separated lines
+     * straight from memory, no temp files are used. This needs the MySQL driver
+     * and {@link DatabaseConnectionBuilder#allowLoadLocalInfile(boolean)} turned
+     * on for the datasource.
+     * 
+     * @param insert The table and columns to load into.
+     * @param rows   Params for each row to be loaded.
+     * @return {@link LoadDataResult} with the rows loaded and the load rate.
+     */
+    protected LoadDataResult loadData(BulkInsertBuilder insert, Iterable<? extends SqlParameterSource> rows) {
+        return loadData(insert, rows.iterator());
+    }
+
+    /**
+     * Streams the rows into the table of the given {@link BulkInsertBuilder} with
+     * {@code LOAD DATA LOCAL INFILE}. Rows are read from the stream as the server
+     * reads the data, so the stream does not need to fit in memory.
+     * 
+     * @param insert The table and columns to load into.
+     * @param rows   Params for each row to be loaded.
+     * @return {@link LoadDataResult} with the rows loaded and the load rate.
+     */
+    protected LoadDataResult loadData(BulkInsertBuilder insert, Stream<? extends SqlParameterSource> rows) {
+        return loadData(insert, rows.iterator());
+    }
+
+    /**
+     * Creates a write behind queue that writes its rows with the given
+     * {@link BulkInsertBuilder}. The queue is returned unstarted so its capacity,
+     * batch size and delay can be set before {@link WriteBehindQueue#start()} is
+     * called. The queue should be closed when the dao is no longer used, so the
+     * rows left in it are written.
+     * 
+     * @param insert The bulk insert to write the rows with.
+     * @return {@link WriteBehindQueue} for the rows of the insert.
+     */
+    protected WriteBehindQueue<SqlParameterSource> writeBehind(BulkInsertBuilder insert) {
+        return WriteBehindQueue.<SqlParameterSource>create(rows -> bulkInsert(insert, rows))
+                .name(daoName + "-" + insert.getTable());
     }
 
     /**
@@ -239,7 +834,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param params Params to be inserted into the query.
      */
     protected int delete(String sql, MapSqlParameterSource params) {
-        return getTemplate().update(sql, params);
+        return write("delete", sql, () -> getTemplate().update(sql, params), Integer::intValue);
     }
 
     /**
@@ -249,7 +844,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param params Params to be inserted into the query.
      */
     protected int update(String sql, MapSqlParameterSource params) {
-        return getTemplate().update(sql, params);
+        return write("update", sql, () -> getTemplate().update(sql, params), Integer::intValue);
     }
 
     /**
@@ -258,7 +853,87 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param sql The sql to be run.
      */
     protected void execute(String sql) {
-        getTemplate().update(sql, new MapSqlParameterSource());
+        write("execute", sql, () -> getTemplate().update(sql, new MapSqlParameterSource()), Integer::intValue);
+    }
+
+    /**
+     * Runs {@link #get(String, MapSqlParameterSource, RowMapper)} on the query
+     * executor of the dao.
+     * 
+     * @param <T>    The object type of the method to cast the rows too.
+     * @param sql    The sql to run against the database.
+     * @param params Params to be inserted into the query.
+     * @param mapper The mapper to return the data as.
+     * @return {@link CompletableFuture} of the returned data.
+     */
+    protected <T> CompletableFuture<T> getAsync(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
+        return async(() -> get(sql, params, mapper));
+    }
+
+    /**
+     * Runs {@link #get(String, MapSqlParameterSource, Class)} on the query
+     * executor of the dao.
+     * 
+     * @param <T>    The object type of the method to cast the rows too.
+     * @param sql    The sql to run against the database.
+     * @param params Params to be inserted into the query.
+     * @param clazz  The class to map the data as.
+     * @return {@link CompletableFuture} of the returned data.
+     */
+    protected <T> CompletableFuture<T> getAsync(String sql, MapSqlParameterSource params, Class<T> clazz) {
+        return async(() -> get(sql, params, clazz));
+    }
+
+    /**
+     * Runs {@link #getPage(String, MapSqlParameterSource, RowMapper)} on the query
+     * executor of the dao.
+     * 
+     * @param <T>    The object type of the method to cast the rows too.
+     * @param sql    The sql to run against the database.
+     * @param params Params to be inserted into the query.
+     * @param mapper The mapper to return the data as.
+     * @return {@link CompletableFuture} of the list of returned data.
+     */
+    protected <T> CompletableFuture<List<T>> getPageAsync(String sql, MapSqlParameterSource params,
+            RowMapper<T> mapper) {
+        return async(() -> getPage(sql, params, mapper));
+    }
+
+    /**
+     * Runs {@link #post(String, MapSqlParameterSource, KeyHolder)} on the query
+     * executor of the dao.
+     * 
+     * @param sql       The sql to run against the database.
+     * @param params    Params to be inserted into the query.
+     * @param keyHolder used to get the auto increment id.
+     * @return {@link CompletableFuture} of the affected row count.
+     */
+    protected CompletableFuture<Integer> postAsync(String sql, MapSqlParameterSource params, KeyHolder keyHolder) {
+        return async(() -> post(sql, params, keyHolder));
+    }
+
+    /**
+     * Runs {@link #post(String, MapSqlParameterSource)} on the query executor of
+     * the dao.
+     * 
+     * @param sql    The sql to run against the database.
+     * @param params Params to be inserted into the query.
+     * @return {@link CompletableFuture} of the affected row count.
+     */
+    protected CompletableFuture<Integer> postAsync(String sql, MapSqlParameterSource params) {
+        return async(() -> post(sql, params));
+    }
+
+    /**
+     * Runs {@link #update(String, MapSqlParameterSource)} on the query executor of
+     * the dao.
+     * 
+     * @param sql    The sql to run against the database.
+     * @param params Params to be inserted into the query.
+     * @return {@link CompletableFuture} of the affected row count.
+     */
+    protected CompletableFuture<Integer> updateAsync(String sql, MapSqlParameterSource params) {
+        return async(() -> update(sql, params));
     }
 
     /**
@@ -270,7 +945,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return {@link String} of the filtered query.
      */
     protected String getSql(String name, SqlParameterSource params) {
-        return bundle.getSql(name, params).trim();
+        return fragments.getSql(name, params);
     }
 
     /**
@@ -280,7 +955,24 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return {@link String} of the sql fragment.
      */
     protected String getSql(String name) {
-        return bundle.getSql(name).trim();
+        return fragments.getSql(name);
+    }
+
+    /**
+     * Reloads the elsql file for the dao and clears the cached sql fragments. The
+     * fragments are shared, so this reloads the sql for every instance of the dao.
+     */
+    protected void reloadSql() {
+        fragments.reload(config, this.getClass());
+    }
+
+    /**
+     * Gets the hit and miss stats for the cached sql fragments of the dao.
+     * 
+     * @return {@link CacheStats} of the sql fragment cache.
+     */
+    public CacheStats getSqlCacheStats() {
+        return fragments.stats();
     }
 
     /**
@@ -294,4 +986,639 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
     protected MapSqlParameterSource parameterSource(String name, Object value) {
         return new MapSqlParameterSource(name, value);
     }
+
+    /**
+     * Runs the call on the query executor of the dao. The datasource route, the
+     * statement options and the idempotent flag of the calling thread are carried
+     * over to the executor thread.
+     * 
+     * @param <T>  The type of the result.
+     * @param call The call to run.
+     * @return {@link CompletableFuture} of the result of the call.
+     */
+    private <T> CompletableFuture<T> async(Supplier<T> call) {
+        Executor executor = this.queryExecutor;
+        if(executor == null) {
+            executor = SqlResourceRegistry.queryExecutor(getTemplate().getJdbcTemplate().getDataSource());
+            this.queryExecutor = executor;
+        }
+        Supplier<T> propagated = DataSourceRouting.propagate(StatementScope.propagate(RetryPolicy.propagate(call)));
+        return CompletableFuture.supplyAsync(propagated, executor);
+    }
+
+    /**
+     * Runs the query through the result cache if one is set for the dao.
+     * 
+     * @param <T>    The type of the result.
+     * @param kind   The kind of query being run.
+     * @param sql    The sql of the query.
+     * @param params The params of the query.
+     * @param type   The type the rows are mapped with.
+     * @param query  Runs the query against the database.
+     * @return The cached or queried result.
+     */
+    private <T> T cached(String kind, String sql, SqlParameterSource params, Class<?> type, Supplier<T> query) {
+        if(resultCache == null) {
+            return query.get();
+        }
+        return resultCache.get(new QueryKey(kind, sql, params, type), getCacheTags(), query);
+    }
+
+    /**
+     * Runs the page query through the result cache if one is set for the dao. A
+     * copy of the cached page is returned so callers can not change the cached
+     * list.
+     * 
+     * @param <T>    The type of the rows.
+     * @param sql    The sql of the query.
+     * @param params The params of the query.
+     * @param type   The type the rows are mapped with.
+     * @param query  Runs the query against the database.
+     * @return The cached or queried page.
+     */
+    private <T> List<T> cachedPage(String sql, SqlParameterSource params, Class<?> type, Supplier<List<T>> query) {
+        if(resultCache == null) {
+            return query.get();
+        }
+        return new ArrayList<>(cached("page", sql, params, type, query));
+    }
+
+    /**
+     * Runs the read on a replica and records it to the dao metrics.
+     * 
+     * @param <T>       The type of the result.
+     * @param operation The dao operation being run.
+     * @param sql       The sql of the query.
+     * @param read      Runs the read against the database.
+     * @param rows      Gets the number of rows returned from the result.
+     * @return The result of the read.
+     */
+    private <T> T read(String operation, String sql, Supplier<T> read, ToIntFunction<? super T> rows) {
+        return read(operation, sql, RetryScope.READ, read, rows);
+    }
+
+    /**
+     * Runs the read on a replica with the given retry scope and records it to the
+     * dao metrics.
+     * 
+     * @param <T>       The type of the result.
+     * @param operation The dao operation being run.
+     * @param sql       The sql of the query.
+     * @param scope     What the read can be retried on.
+     * @param read      Runs the read against the database.
+     * @param rows      Gets the number of rows returned from the result.
+     * @return The result of the read.
+     */
+    private <T> T read(String operation, String sql, RetryScope scope, Supplier<T> read,
+            ToIntFunction<? super T> rows) {
+        return DataSourceRouting.onReplica(() -> retry(operation, sql, scope,
+                                                       () -> instrument(operation, sql, statements(read), rows)));
+    }
+
+    /**
+     * Runs the write on the primary, records it to the dao metrics and evicts the
+     * cached results of the dao once it is done.
+     * 
+     * @param <T>       The type of the result.
+     * @param operation The dao operation being run.
+     * @param sql       The sql of the query.
+     * @param write     Runs the write against the database.
+     * @param rows      Gets the number of rows affected from the result.
+     * @return The result of the write.
+     */
+    private <T> T write(String operation, String sql, Supplier<T> write, ToIntFunction<? super T> rows) {
+        RetryScope scope = RetryPolicy.isIdempotent() ? RetryScope.IDEMPOTENT_WRITE : RetryScope.WRITE;
+        return write(operation, sql, scope, write, rows);
+    }
+
+    /**
+     * Runs the write on the primary with the given retry scope, records it to the
+     * dao metrics and evicts the cached results of the dao once it is done.
+     * 
+     * @param <T>       The type of the result.
+     * @param operation The dao operation being run.
+     * @param sql       The sql of the query.
+     * @param scope     What the write can be retried on.
+     * @param write     Runs the write against the database.
+     * @param rows      Gets the number of rows affected from the result.
+     * @return The result of the write.
+     */
+    private <T> T write(String operation, String sql, RetryScope scope, Supplier<T> write,
+            ToIntFunction<? super T> rows) {
+        T result = DataSourceRouting.onPrimary(() -> retry(operation, sql, scope,
+                                                           () -> instrument(operation, sql, statements(write),
+                                                                            rows)));
+        if(resultCache != null) {
+            invalidateCache();
+        }
+        return result;
+    }
+
+    /**
+     * Evicts the cached results of the dao. Inside of a transaction they are
+     * evicted again once it completes, so reads made before the commit are not
+     * left in the cache.
+     */
+    private void invalidateCache() {
+        QueryResultCache cache = this.resultCache;
+        Set<String> tags = getCacheTags();
+        cache.invalidateTags(tags);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateTags(tags);
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs the query through the retry policy if one is set for the dao.
+     * 
+     * @param <T>       The type of the result.
+     * @param operation The dao operation being run.
+     * @param sql       The sql of the query.
+     * @param scope     What the query can be retried on.
+     * @param query     Runs the query against the database.
+     * @return The result of the query.
+     */
+    private <T> T retry(String operation, String sql, RetryScope scope, Supplier<T> query) {
+        RetryPolicy policy = this.retryPolicy;
+        if(policy == null) {
+            return query.get();
+        }
+        return policy.execute(scope, query, (type, attempt, error) -> recordRetry(operation, sql, type, attempt,
+                                                                                  error));
+    }
+
+    /**
+     * Copies the params of a key lookup with the keys of a single chunk added.
+     * 
+     * @param params   The params of the query.
+     * @param keyParam The name of the param of the in list.
+     * @param chunk    The keys of the chunk.
+     * @return {@link MapSqlParameterSource} for the chunk.
+     */
+    private static MapSqlParameterSource chunkParams(MapSqlParameterSource params, String keyParam,
+            List<Object> chunk) {
+        return new MapSqlParameterSource(params.getValues()).addValue(keyParam, chunk);
+    }
+
+    /**
+     * Wraps the query so it runs with the default statement options of the dao,
+     * if any are set. The statements the query closed are released from the
+     * current scope once it is done.
+     * 
+     * @param <T>   The type of the result.
+     * @param query Runs the query against the database.
+     * @return {@link Supplier} that runs the query with the dao options.
+     */
+    private <T> Supplier<T> statements(Supplier<T> query) {
+        StatementOptions options = this.statementOptions;
+        if(options == null && StatementScope.current() == null) {
+            return query;
+        }
+
+        checkStatementTemplate();
+        Supplier<T> scoped = options == null ? query : () -> StatementScope.withDefaults(options, query);
+        return () -> {
+            try {
+                return scoped.get();
+            }
+            finally {
+                StatementScope.releaseClosed();
+            }
+        };
+    }
+
+    /**
+     * Warns once when statement options are used with a template that does not
+     * apply them, since the options would be dropped without any error.
+     */
+    private void checkStatementTemplate() {
+        if(statementTemplateChecked) {
+            return;
+        }
+        statementTemplateChecked = true;
+        if(!(getTemplate().getJdbcTemplate() instanceof StatementOptionsJdbcTemplate)) {
+            LOGGER.warn("Statement options are set for '{}', but its template is not a {} so they are not applied",
+                        daoName, StatementOptionsJdbcTemplate.class.getSimpleName());
+        }
+    }
+
+    /**
+     * Gets the type used to key the cached results of the given mapper. Compiled
+     * mappers share a class, so they are keyed by the class they map to.
+     * 
+     * @param mapper The mapper of the query.
+     * @return The type to key the results by.
+     */
+    private static Class<?> resultType(RowMapper<?> mapper) {
+        if(mapper instanceof CompiledRowMapper) {
+            return ((CompiledRowMapper<?>) mapper).getMappedClass();
+        }
+        return mapper.getClass();
+    }
+
+    /**
+     * Times the given query and records it to the dao metrics. When metrics are
+     * turned off and there is no slow query threshold the query is run as is.
+     * 
+     * @param <T>       The type of the result.
+     * @param operation The dao operation being run.
+     * @param sql       The sql of the query.
+     * @param query     Runs the query against the database.
+     * @param rows      Gets the number of rows returned or affected from the
+     *                  result.
+     * @return The result of the query.
+     */
+    private <T> T instrument(String operation, String sql, Supplier<T> query, ToIntFunction<? super T> rows) {
+        if(sqlMetrics == SqlMetrics.NOOP && slowQueryThresholdNanos <= 0) {
+            return query.get();
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        int rowCount = 0;
+        try {
+            T result = query.get();
+            rowCount = rows.applyAsInt(result);
+            success = true;
+            return result;
+        }
+        catch(EmptyResultDataAccessException e) {
+            success = true;
+            throw e;
+        }
+        finally {
+            recordQuery(operation, sql, System.nanoTime() - start, rowCount, success);
+        }
+    }
+
+    /**
+     * Records the query to the dao metrics and logs it if it was slower than the
+     * slow query threshold.
+     * 
+     * @param operation     The dao operation that was run.
+     * @param sql           The sql of the query.
+     * @param durationNanos How long the query took in nanoseconds.
+     * @param rows          The rows returned or affected by the query.
+     * @param success       If the query completed without an error.
+     */
+    private void recordQuery(String operation, String sql, long durationNanos, int rows, boolean success) {
+        String fragment = fragmentName(sql);
+        sqlMetrics.record(daoName, fragment, operation, durationNanos, rows, success);
+
+        if(slowQueryThresholdNanos > 0 && durationNanos >= slowQueryThresholdNanos) {
+            LOGGER.warn("Slow query '{}' on {}.{} took {}ms with {} rows", fragment, daoName, operation,
+                        TimeUnit.NANOSECONDS.toMillis(durationNanos), rows);
+        }
+    }
+
+    /**
+     * Records the retry to the dao metrics and logs it.
+     * 
+     * @param operation The dao operation being retried.
+     * @param sql       The sql of the query.
+     * @param type      The type of the error the query failed with.
+     * @param attempt   The attempt that failed.
+     * @param error     The error the query failed with.
+     */
+    private void recordRetry(String operation, String sql, SqlErrorType type, int attempt, RuntimeException error) {
+        String fragment = fragmentName(sql);
+        sqlMetrics.recordRetry(daoName, fragment, operation, type.name());
+        LOGGER.warn("Retrying '{}' on {}.{} after attempt {} failed with {}: {}", fragment, daoName, operation,
+                    attempt, type, error.getMessage());
+    }
+
+    /**
+     * Gets the name of the elsql fragment the sql was rendered from.
+     * 
+     * @param sql The sql of the query.
+     * @return The fragment name, or {@code unknown} if it is not known.
+     */
+    private String fragmentName(String sql) {
+        String fragmentName = fragments == null ? null : fragments.fragmentName(sql);
+        return fragmentName == null ? UNKNOWN_FRAGMENT : fragmentName;
+    }
+
+    /**
+     * Adds up the affected rows of a batch. Rows that the driver could not report
+     * a count for are not included.
+     * 
+     * @param counts The affected row counts of the batch.
+     * @return The total affected rows.
+     */
+    private static int affectedRows(int[] counts) {
+        int total = 0;
+        for(int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the template used for the streaming queries. It shares the datasource
+     * of the default template but applies the stream fetch size to its
+     * statements.
+     * 
+     * @return {@link NamedParameterJdbcTemplate} for streaming queries.
+     */
+    private NamedParameterJdbcTemplate getStreamingTemplate() {
+        NamedParameterJdbcTemplate streaming = this.streamingTemplate;
+        if(streaming == null) {
+            DataSource source = getTemplate().getJdbcTemplate().getDataSource();
+            JdbcTemplate jdbcTemplate = new StatementOptionsJdbcTemplate(source);
+            jdbcTemplate.setFetchSize(streamingFetchSize(source));
+            streaming = new NamedParameterJdbcTemplate(jdbcTemplate);
+            this.streamingTemplate = streaming;
+        }
+        return streaming;
+    }
+
+    /**
+     * Gets the fetch size for the streaming statements. The row by row
+     * {@link Integer#MIN_VALUE} fetch size is a MySQL Connector/J convention that
+     * other drivers reject, so they are left at the driver default instead.
+     * 
+     * @param source The datasource the streams are read from.
+     * @return The fetch size for the streaming template, or -1 for the driver
+     *         default.
+     */
+    private int streamingFetchSize(DataSource source) {
+        if(streamFetchSize != ROW_STREAMING_FETCH_SIZE) {
+            return streamFetchSize;
+        }
+
+        try {
+            String driverName = JdbcUtils.extractDatabaseMetaData(source, DatabaseMetaData::getDriverName);
+            return driverName != null && driverName.startsWith(MYSQL_DRIVER_NAME) ? ROW_STREAMING_FETCH_SIZE : -1;
+        }
+        catch(MetaDataAccessException e) {
+            LOGGER.warn("Unable to read the driver name, streaming rows with the MySQL fetch size: {}",
+                        e.getMessage());
+            return ROW_STREAMING_FETCH_SIZE;
+        }
+    }
+
+    /**
+     * Runs the given sql as a JDBC batch over a single prepared statement. The sql
+     * is parsed once using the first row, so every row is checked to have the same
+     * parameter shape first.
+     * 
+     * @param operation The batch operation being run.
+     * @param sql       The sql to run against the database.
+     * @param params    Params for each row in the batch.
+     * @param keyHolder Optional key holder to collect the generated keys.
+     * @return The affected row counts for each row.
+     */
+    private int[] executeBatch(String operation, String sql, Collection<MapSqlParameterSource> params,
+            KeyHolder keyHolder) {
+        List<MapSqlParameterSource> rows = new ArrayList<>(params);
+        if(rows.isEmpty()) {
+            return new int[0];
+        }
+
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        List<SqlParameter> parameters = NamedParameterUtils.buildSqlParameterList(parsedSql, rows.get(0));
+        checkParameterShape(parameters, rows);
+        PreparedStatementCreatorFactory pscf = new PreparedStatementCreatorFactory(NamedParameterUtils
+                .substituteNamedParameters(parsedSql, rows.get(0)), parameters);
+
+        return write(operation, sql, RetryScope.CONNECT_ONLY,
+                     () -> getTemplate().getJdbcOperations()
+                             .execute((ConnectionCallback<int[]>) con -> executeBatch(con, parsedSql, pscf, rows,
+                                                                                      keyHolder)),
+                     AbstractSqlDao::affectedRows);
+    }
+
+    /**
+     * Checks that every row of a batch expands to the same sql as the first row.
+     * Every row needs the same params, and a collection param is expanded into one
+     * placeholder per value, so it has to have the same number of values in every
+     * row.
+     * 
+     * @param parameters The params of the sql.
+     * @param rows       Params for each row in the batch.
+     */
+    private static void checkParameterShape(List<SqlParameter> parameters, List<MapSqlParameterSource> rows) {
+        MapSqlParameterSource first = rows.get(0);
+        for(SqlParameter parameter : parameters) {
+            String name = parameter.getName();
+            int size = valueCount(first, name);
+            for(int i = 1; i < rows.size(); i++) {
+                if(valueCount(rows.get(i), name) != size) {
+                    throw new InvalidDataAccessApiUsageException("Batch row " + i + " does not have the same '"
+                            + name + "' param shape as the first row");
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of values of a param that is expanded into a list.
+     * 
+     * @param row  The params of the row.
+     * @param name The name of the param.
+     * @return The number of values, -1 if the value is not a collection or array,
+     *         or -2 if the row does not have the param.
+     */
+    private static int valueCount(MapSqlParameterSource row, String name) {
+        if(!row.hasValue(name)) {
+            return -2;
+        }
+
+        Object value = row.getValue(name);
+        if(value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        }
+        else if(value instanceof Object[]) {
+            return ((Object[]) value).length;
+        }
+        return -1;
+    }
+
+    /**
+     * Runs the bulk insert on the primary as a single write.
+     * 
+     * @param insert The bulk insert to run.
+     * @param rows   Params for each row to be inserted.
+     * @return The total affected rows.
+     */
+    private int bulkInsert(BulkInsertBuilder insert, Iterator<? extends SqlParameterSource> rows) {
+        if(!rows.hasNext()) {
+            return 0;
+        }
+
+        return write("bulkInsert", insert.getTable(), RetryScope.CONNECT_ONLY,
+                     () -> getTemplate().getJdbcOperations()
+                             .execute((ConnectionCallback<Integer>) con -> executeBulkInsert(con, insert, rows)),
+                     Integer::intValue);
+    }
+
+    /**
+     * Runs the load data import on the primary as a single write.
+     * 
+     * @param insert The table and columns to load into.
+     * @param rows   Params for each row to be loaded.
+     * @return {@link LoadDataResult} of the import.
+     */
+    private LoadDataResult loadData(BulkInsertBuilder insert, Iterator<? extends SqlParameterSource> rows) {
+        String sql = insert.buildLoadDataSql();
+        DelimitedRowInputStream data = new DelimitedRowInputStream(rows, insert.getColumns());
+
+        long start = System.nanoTime();
+        long loaded = write("loadData", sql, RetryScope.CONNECT_ONLY,
+                            () -> getTemplate().getJdbcOperations()
+                                    .execute((ConnectionCallback<Long>) con -> executeLoadData(con, sql, data)),
+                            count -> (int) Math.min(count, Integer.MAX_VALUE));
+        LoadDataResult result = new LoadDataResult(data.getRowCount(), loaded,
+                                                   Duration.ofNanos(System.nanoTime() - start));
+        LOGGER.info("Loaded {} rows into {} in {}ms ({} rows/sec)", result.getRowsLoaded(), insert.getTable(),
+                    result.getDuration().toMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Runs the load data statement with the given stream as the local file.
+     * 
+     * @param con  The connection to run the import on.
+     * @param sql  The load data sql.
+     * @param data The rows to stream to the server.
+     * @return The rows loaded.
+     * @throws SQLException If the import fails.
+     */
+    private static long executeLoadData(Connection con, String sql, InputStream data) throws SQLException {
+        Statement statement = con.createStatement();
+        try {
+            if(!statement.isWrapperFor(JdbcStatement.class)) {
+                throw new IllegalStateException("LOAD DATA LOCAL INFILE needs the MySQL Connector/J driver");
+            }
+
+            JdbcStatement mysqlStatement = statement.unwrap(JdbcStatement.class);
+            mysqlStatement.setLocalInfileInputStream(data);
+            try {
+                return statement.executeLargeUpdate(sql);
+            }
+            finally {
+                mysqlStatement.setLocalInfileInputStream(null);
+            }
+        }
+        finally {
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+
+    /**
+     * Runs each statement of the bulk insert on the given connection. The
+     * statement for a full set of rows is reused, only the last partial statement
+     * is prepared on its own.
+     * 
+     * @param con    The connection to run the inserts on.
+     * @param insert The bulk insert to run.
+     * @param rows   Params for each row to be inserted.
+     * @return The total affected rows.
+     * @throws SQLException If an insert fails.
+     */
+    private int executeBulkInsert(Connection con, BulkInsertBuilder insert,
+            Iterator<? extends SqlParameterSource> rows) throws SQLException {
+        int fullRows = insert.getMaxRowsPerStatement();
+        int affected = 0;
+        PreparedStatement full = null;
+        try {
+            Iterator<List<SqlParameterSource>> chunks = insert.chunks(rows);
+            while(chunks.hasNext()) {
+                List<SqlParameterSource> chunk = chunks.next();
+                if(chunk.size() == fullRows) {
+                    if(full == null) {
+                        full = con.prepareStatement(insert.buildSql(fullRows));
+                    }
+                    affected += executeBulkInsert(full, insert.getColumns(), chunk);
+                }
+                else {
+                    PreparedStatement ps = con.prepareStatement(insert.buildSql(chunk.size()));
+                    try {
+                        affected += executeBulkInsert(ps, insert.getColumns(), chunk);
+                    }
+                    finally {
+                        JdbcUtils.closeStatement(ps);
+                    }
+                }
+            }
+        }
+        finally {
+            JdbcUtils.closeStatement(full);
+        }
+        return affected;
+    }
+
+    /**
+     * Binds the values of each row to the statement in column order and runs it.
+     * 
+     * @param ps      The insert statement for the rows.
+     * @param columns The columns being inserted.
+     * @param rows    Params for each row to be inserted.
+     * @return The affected rows.
+     * @throws SQLException If the insert fails.
+     */
+    private static int executeBulkInsert(PreparedStatement ps, List<String> columns, List<SqlParameterSource> rows)
+            throws SQLException {
+        int index = 1;
+        for(SqlParameterSource row : rows) {
+            for(String column : columns) {
+                StatementCreatorUtils.setParameterValue(ps, index++, row.getSqlType(column),
+                                                        BulkInsertBuilder.columnValue(row, column));
+            }
+        }
+        return ps.executeUpdate();
+    }
+
+    /**
+     * Runs the batch over a single prepared statement on the given connection,
+     * sending the rows in chunks of the batch size.
+     * 
+     * @param con       The connection to run the batch on.
+     * @param parsedSql The parsed sql of the batch.
+     * @param pscf      The statement factory for the sql.
+     * @param rows      Params for each row in the batch.
+     * @param keyHolder Optional key holder to collect the generated keys.
+     * @return The affected row counts for each row.
+     * @throws SQLException If the batch fails.
+     */
+    private int[] executeBatch(Connection con, ParsedSql parsedSql, PreparedStatementCreatorFactory pscf,
+            List<MapSqlParameterSource> rows, KeyHolder keyHolder) throws SQLException {
+        int[] counts = new int[rows.size()];
+        int offset = 0;
+        PreparedStatement ps = keyHolder == null ? con.prepareStatement(pscf.getSql())
+                                                 : con.prepareStatement(pscf.getSql(), Statement.RETURN_GENERATED_KEYS);
+        try {
+            for(List<MapSqlParameterSource> batch : Lists.partition(rows, batchSize)) {
+                for(MapSqlParameterSource row : batch) {
+                    pscf.newPreparedStatementSetter(NamedParameterUtils.buildValueArray(parsedSql, row, null))
+                            .setValues(ps);
+                    ps.addBatch();
+                }
+
+                int[] batchCounts = ps.executeBatch();
+                System.arraycopy(batchCounts, 0, counts, offset, batchCounts.length);
+                offset += batch.size();
+
+                if(keyHolder != null) {
+                    ResultSet keys = ps.getGeneratedKeys();
+                    try {
+                        keyHolder.getKeyList().addAll(new RowMapperResultSetExtractor<>(new ColumnMapRowMapper(),
+                                                                                        batch.size()).extractData(keys));
+                    }
+                    finally {
+                        JdbcUtils.closeResultSet(keys);
+                    }
+                }
+            }
+        }
+        finally {
+            JdbcUtils.closeStatement(ps);
+        }
+        return counts;
+    }
 }
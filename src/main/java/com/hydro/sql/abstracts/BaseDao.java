@@ -2,8 +2,7 @@ package com.hydro.sql.abstracts;
 
 import javax.sql.DataSource;
 
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-
+import com.hydro.sql.cache.SqlResourceRegistry;
 import com.opengamma.elsql.ElSqlConfig;
 
 /**
@@ -15,6 +14,6 @@ import com.opengamma.elsql.ElSqlConfig;
 public class BaseDao extends AbstractSqlDao {
 
     public BaseDao(DataSource source) {
-        super(new NamedParameterJdbcTemplate(source),ElSqlConfig.MYSQL);
+        super(SqlResourceRegistry.template(source), ElSqlConfig.MYSQL);
     }
 }
@@ -0,0 +1,477 @@
+package com.hydro.sql.abstracts;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Row mapper that is built from the setters or record components of the mapped
+ * class instead of being written by hand. The properties of the class are
+ * resolved once into {@link MethodHandle}s that read the column with the typed
+ * {@link ResultSet} getter and pass it to the setter. Column indexes are then
+ * resolved once per {@link ResultSet}, so each row is mapped without any
+ * column label lookups or reflection.
+ *
+ * <p>
+ * Properties are mapped to the snake case of their name, {@code systemId} is
+ * read from {@code system_id}. Use {@link #withColumn(String, String)} when the
+ * column has a different name. Properties without a matching column in the
+ * result are left as their default value.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class CompiledRowMapper<T> extends AbstractMapper<T> {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType BINDER_TYPE = MethodType.methodType(void.class, Object.class, ResultSet.class,
+                                                                        int.class);
+
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, ResultSet.class, int.class);
+
+    private final Class<T> type;
+
+    private final Map<String, String> columns;
+
+    private final MethodHandle constructor;
+
+    private final List<Property> properties;
+
+    private final boolean record;
+
+    private final Object[] defaults;
+
+    private final ThreadLocal<Plan> plans = new ThreadLocal<>();
+
+    /**
+     * Private Constructor that resolves the properties of the given class.
+     *
+     * @param type    The class to map the rows to.
+     * @param columns The column overrides for the properties.
+     */
+    private CompiledRowMapper(Class<T> type, Map<String, String> columns) {
+        this.type = type;
+        this.columns = columns;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            List<Component> components = recordComponents(type);
+            this.record = components != null;
+            if(record) {
+                this.properties = recordProperties(lookup, components);
+                this.defaults = new Object[components.size()];
+                Class<?>[] componentTypes = new Class<?>[components.size()];
+                for(int i = 0; i < components.size(); i++) {
+                    componentTypes[i] = components.get(i).type;
+                    defaults[i] = componentTypes[i].isPrimitive() ? Array.get(Array.newInstance(componentTypes[i], 1), 0)
+                                                                  : null;
+                }
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, componentTypes))
+                        .asSpreader(Object[].class, componentTypes.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            }
+            else {
+                this.properties = setterProperties(lookup);
+                this.defaults = null;
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            }
+        }
+        catch(ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to build a row mapper for " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Builds a row mapper for the given class. The class needs either a no-args
+     * constructor and setters, or be a record.
+     *
+     * @param <T>  The type of the mapped rows.
+     * @param type The class to map the rows to.
+     * @return {@link CompiledRowMapper} for the class.
+     */
+    public static <T> CompiledRowMapper<T> of(Class<T> type) {
+        return new CompiledRowMapper<>(type, Map.of());
+    }
+
+    /**
+     * Gets a new mapper that reads the given property from the given column
+     * instead of the snake case of the property name.
+     *
+     * @param property The name of the property on the class.
+     * @param column   The column to read the property from.
+     * @return {@link CompiledRowMapper} with the column override.
+     */
+    public CompiledRowMapper<T> withColumn(String property, String column) {
+        Map<String, String> overrides = new HashMap<>(columns);
+        overrides.put(property, column);
+        return new CompiledRowMapper<>(type, overrides);
+    }
+
+    /**
+     * Gets the class the rows are mapped to.
+     *
+     * @return The mapped class.
+     */
+    public Class<T> getMappedClass() {
+        return type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Plan plan = plans.get();
+        if(plan == null || rowNum == 0 || plan.resultSet.get() != rs) {
+            plan = plan(rs);
+            plans.set(plan);
+        }
+
+        try {
+            if(record) {
+                Object[] args = defaults.clone();
+                for(int i = 0; i < plan.handles.length; i++) {
+                    args[plan.positions[i]] = (Object) plan.handles[i].invokeExact(rs, plan.indexes[i]);
+                }
+                return (T) (Object) constructor.invokeExact(args);
+            }
+
+            Object row = (Object) constructor.invokeExact();
+            for(int i = 0; i < plan.handles.length; i++) {
+                plan.handles[i].invokeExact(row, rs, plan.indexes[i]);
+            }
+            return (T) row;
+        }
+        catch(SQLException | RuntimeException | Error e) {
+            throw e;
+        }
+        catch(Throwable e) {
+            throw new IllegalStateException("Unable to map row to " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Resolves the column index of each property for the given result set.
+     *
+     * @param rs The result set being mapped.
+     * @return {@link Plan} for the result set.
+     * @throws SQLException If the result set metadata can not be read.
+     */
+    private Plan plan(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Map<String, Integer> labels = new HashMap<>(metaData.getColumnCount() * 2);
+        for(int i = metaData.getColumnCount(); i > 0; i--) {
+            labels.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+
+        List<Property> mapped = new ArrayList<>(properties.size());
+        List<Integer> indexes = new ArrayList<>(properties.size());
+        for(Property property : properties) {
+            Integer index = labels.get(property.column);
+            if(index != null) {
+                mapped.add(property);
+                indexes.add(index);
+            }
+        }
+
+        Plan plan = new Plan(rs, mapped.size());
+        for(int i = 0; i < mapped.size(); i++) {
+            plan.handles[i] = mapped.get(i).handle;
+            plan.positions[i] = mapped.get(i).position;
+            plan.indexes[i] = indexes.get(i);
+        }
+        return plan;
+    }
+
+    /**
+     * Builds the properties of a class from its public setters. Each handle reads
+     * the column and passes it to the setter.
+     *
+     * @param lookup The lookup for the mapped class.
+     * @return List of the properties.
+     * @throws ReflectiveOperationException If a setter can not be accessed.
+     */
+    private List<Property> setterProperties(MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        Map<String, Property> setters = new LinkedHashMap<>();
+        for(Method method : type.getMethods()) {
+            if(Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+                    || method.getName().length() <= 3 || !method.getName().startsWith("set")) {
+                continue;
+            }
+
+            String name = Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4);
+            MethodHandle setter = lookup.unreflect(method);
+            Class<?> propertyType = method.getParameterTypes()[0];
+            setter = setter.asType(MethodType.methodType(void.class, Object.class, propertyType));
+            MethodHandle handle = MethodHandles.collectArguments(setter, 1, reader(propertyType)).asType(BINDER_TYPE);
+            setters.putIfAbsent(name, new Property(column(name), handle, -1));
+        }
+        return new ArrayList<>(setters.values());
+    }
+
+    /**
+     * Builds the properties of a record from its components. Each handle reads the
+     * column as an object for the canonical constructor.
+     *
+     * @param lookup     The lookup for the mapped class.
+     * @param components The components of the record.
+     * @return List of the properties.
+     * @throws ReflectiveOperationException If a reader can not be built.
+     */
+    private List<Property> recordProperties(MethodHandles.Lookup lookup, List<Component> components)
+            throws ReflectiveOperationException {
+        List<Property> recordProperties = new ArrayList<>(components.size());
+        for(int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            recordProperties.add(new Property(column(component.name), reader(component.type).asType(READER_TYPE), i));
+        }
+        return recordProperties;
+    }
+
+    /**
+     * Gets the lower case column name for the given property.
+     *
+     * @param property The name of the property.
+     * @return The column the property is read from.
+     */
+    private String column(String property) {
+        String column = columns.get(property);
+        if(column == null) {
+            StringBuilder snakeCase = new StringBuilder(property.length() + 4);
+            for(char c : property.toCharArray()) {
+                if(Character.isUpperCase(c)) {
+                    snakeCase.append('_').append(Character.toLowerCase(c));
+                }
+                else {
+                    snakeCase.append(c);
+                }
+            }
+            column = snakeCase.toString();
+        }
+        return column.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the handle that reads a column of the given type from the result set.
+     * The handle takes the result set and the column index.
+     *
+     * @param propertyType The type of the property.
+     * @return {@link MethodHandle} that reads the column.
+     * @throws ReflectiveOperationException If the reader can not be found.
+     */
+    private static MethodHandle reader(Class<?> propertyType) throws ReflectiveOperationException {
+        if(propertyType == int.class) {
+            return resultSetGetter("getInt", int.class);
+        }
+        else if(propertyType == long.class) {
+            return resultSetGetter("getLong", long.class);
+        }
+        else if(propertyType == double.class) {
+            return resultSetGetter("getDouble", double.class);
+        }
+        else if(propertyType == float.class) {
+            return resultSetGetter("getFloat", float.class);
+        }
+        else if(propertyType == boolean.class) {
+            return resultSetGetter("getBoolean", boolean.class);
+        }
+        else if(propertyType == short.class) {
+            return resultSetGetter("getShort", short.class);
+        }
+        else if(propertyType == byte.class) {
+            return resultSetGetter("getByte", byte.class);
+        }
+        else if(propertyType == String.class) {
+            return resultSetGetter("getString", String.class);
+        }
+        else if(propertyType == BigDecimal.class) {
+            return resultSetGetter("getBigDecimal", BigDecimal.class);
+        }
+        else if(propertyType == byte[].class) {
+            return resultSetGetter("getBytes", byte[].class);
+        }
+        else if(propertyType == Timestamp.class || propertyType == java.util.Date.class) {
+            return resultSetGetter("getTimestamp", Timestamp.class).asType(MethodType
+                    .methodType(propertyType, ResultSet.class, int.class));
+        }
+        else if(propertyType == Integer.class || propertyType == Long.class || propertyType == Double.class
+                || propertyType == Float.class || propertyType == Boolean.class || propertyType == Short.class
+                || propertyType == LocalDateTime.class || propertyType == LocalDate.class) {
+            return LOOKUP.findStatic(CompiledRowMapper.class, "read" + propertyType.getSimpleName(),
+                                     MethodType.methodType(propertyType, ResultSet.class, int.class));
+        }
+        else if(propertyType.isEnum()) {
+            MethodHandle readEnum = LOOKUP.findStatic(CompiledRowMapper.class, "readEnum",
+                                                      MethodType.methodType(Enum.class, ResultSet.class, int.class,
+                                                                            Class.class));
+            return MethodHandles.insertArguments(readEnum, 2, propertyType)
+                    .asType(MethodType.methodType(propertyType, ResultSet.class, int.class));
+        }
+
+        MethodHandle readObject = LOOKUP.findStatic(CompiledRowMapper.class, "readObject",
+                                                    MethodType.methodType(Object.class, ResultSet.class, int.class,
+                                                                          Class.class));
+        return MethodHandles.insertArguments(readObject, 2, propertyType)
+                .asType(MethodType.methodType(propertyType, ResultSet.class, int.class));
+    }
+
+    /**
+     * Gets the handle for the {@link ResultSet} getter that takes a column index.
+     *
+     * @param name       The name of the getter.
+     * @param returnType The type the getter returns.
+     * @return {@link MethodHandle} of the getter.
+     * @throws ReflectiveOperationException If the getter can not be found.
+     */
+    private static MethodHandle resultSetGetter(String name, Class<?> returnType) throws ReflectiveOperationException {
+        return LOOKUP.findVirtual(ResultSet.class, name, MethodType.methodType(returnType, int.class));
+    }
+
+    /**
+     * Gets the components of the given class if it is a record. This is looked up
+     * reflectively so the library can still run on versions of java without
+     * records.
+     *
+     * @param type The class to check.
+     * @return List of the record components, or null if the class is not a record.
+     * @throws ReflectiveOperationException If the components can not be read.
+     */
+    private static List<Component> recordComponents(Class<?> type) throws ReflectiveOperationException {
+        Method isRecord;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+        }
+        catch(NoSuchMethodException e) {
+            return null;
+        }
+
+        if(!(Boolean) isRecord.invoke(type)) {
+            return null;
+        }
+
+        Object[] recordComponents = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+        List<Component> components = new ArrayList<>(recordComponents.length);
+        for(Object recordComponent : recordComponents) {
+            Class<?> componentClass = recordComponent.getClass();
+            components.add(new Component((String) componentClass.getMethod("getName").invoke(recordComponent),
+                                         (Class<?>) componentClass.getMethod("getType").invoke(recordComponent)));
+        }
+        return components;
+    }
+
+    private static Integer readInteger(ResultSet rs, int index) throws SQLException {
+        int value = rs.getInt(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Long readLong(ResultSet rs, int index) throws SQLException {
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Double readDouble(ResultSet rs, int index) throws SQLException {
+        double value = rs.getDouble(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Float readFloat(ResultSet rs, int index) throws SQLException {
+        float value = rs.getFloat(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Boolean readBoolean(ResultSet rs, int index) throws SQLException {
+        boolean value = rs.getBoolean(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Short readShort(ResultSet rs, int index) throws SQLException {
+        short value = rs.getShort(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime readLocalDateTime(ResultSet rs, int index) throws SQLException {
+        Timestamp value = rs.getTimestamp(index);
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    private static LocalDate readLocalDate(ResultSet rs, int index) throws SQLException {
+        java.sql.Date value = rs.getDate(index);
+        return value == null ? null : value.toLocalDate();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Enum readEnum(ResultSet rs, int index, Class enumType) throws SQLException {
+        String value = rs.getString(index);
+        return value == null ? null : Enum.valueOf(enumType, value);
+    }
+
+    private static Object readObject(ResultSet rs, int index, Class<?> objectType) throws SQLException {
+        return rs.getObject(index, objectType);
+    }
+
+    /**
+     * Property of the mapped class with the column it is read from.
+     */
+    private static class Property {
+        private final String column;
+
+        private final MethodHandle handle;
+
+        private final int position;
+
+        private Property(String column, MethodHandle handle, int position) {
+            this.column = column;
+            this.handle = handle;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Name and type of a record component.
+     */
+    private static class Component {
+        private final String name;
+
+        private final Class<?> type;
+
+        private Component(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Column indexes of the mapped properties for a single result set.
+     */
+    private static class Plan {
+        private final WeakReference<ResultSet> resultSet;
+
+        private final MethodHandle[] handles;
+
+        private final int[] positions;
+
+        private final int[] indexes;
+
+        private Plan(ResultSet resultSet, int size) {
+            this.resultSet = new WeakReference<>(resultSet);
+            this.handles = new MethodHandle[size];
+            this.positions = new int[size];
+            this.indexes = new int[size];
+        }
+    }
+}
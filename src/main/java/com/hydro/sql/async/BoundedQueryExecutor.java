@@ -0,0 +1,190 @@
+package com.hydro.sql.async;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hydro.sql.routing.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Executor for running dao queries off of the caller thread. The number of
+ * queries running at once is capped, normally at the size of the connection
+ * pool, so fanning out queries can not starve the pool. Queries over the limit
+ * are queued and wait for a permit, the caller thread is never blocked.
+ * 
+ * <p>
+ * On JDK 21 and newer each query runs on its own virtual thread. On older JDKs
+ * a pool of daemon threads the size of the limit is used, and idle threads are
+ * let go after a minute.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class BoundedQueryExecutor implements Executor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedQueryExecutor.class);
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ThreadLocal<Boolean> QUERY_THREAD = new ThreadLocal<>();
+
+    private final ExecutorService delegate;
+
+    private final Semaphore permits;
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new executor that will run at most the given number of queries at
+     * once.
+     * 
+     * @param maxConcurrency The max number of queries to run at once.
+     */
+    public BoundedQueryExecutor(int maxConcurrency) {
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be greater than 0");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.delegate = createDelegate(maxConcurrency);
+    }
+
+    /**
+     * Creates an executor bounded by the connection pool of the given datasource.
+     * For a {@link ReadWriteRoutingDataSource} the limit is the smaller of the
+     * primary pool and the combined replica pools, so neither side can be
+     * starved. If the pool size can not be read the default limit of 10 is used.
+     * 
+     * @param source The datasource the queries will run against.
+     * @return {@link BoundedQueryExecutor} sized to the pool.
+     */
+    public static BoundedQueryExecutor forDataSource(DataSource source) {
+        int poolSize = poolSize(source);
+        return new BoundedQueryExecutor(poolSize > 0 ? poolSize : DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Gets the number of connections the datasource can hand out at once.
+     * 
+     * @param source The datasource to read the pool size of.
+     * @return The pool size, or -1 if it can not be read.
+     */
+    private static int poolSize(DataSource source) {
+        if(source instanceof HikariDataSource) {
+            return ((HikariDataSource) source).getMaximumPoolSize();
+        }
+        else if(source instanceof ReadWriteRoutingDataSource) {
+            ReadWriteRoutingDataSource routing = (ReadWriteRoutingDataSource) source;
+            int primary = poolSize(routing.getPrimary());
+            List<DataSource> replicas = routing.getReplicas();
+            if(primary <= 0 || replicas.isEmpty()) {
+                return primary;
+            }
+
+            int replicaTotal = 0;
+            for(DataSource replica : replicas) {
+                int replicaSize = poolSize(replica);
+                if(replicaSize <= 0) {
+                    return primary;
+                }
+                replicaTotal += replicaSize;
+            }
+            return Math.min(primary, replicaTotal);
+        }
+        return -1;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            QUERY_THREAD.set(Boolean.TRUE);
+            try {
+                command.run();
+            }
+            finally {
+                QUERY_THREAD.remove();
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Checks to see if the current thread is running a query of a
+     * {@link BoundedQueryExecutor}. A query that waits on more queries of the same
+     * executor holds its permit while it waits, so once every permit is held
+     * this way none of them can finish.
+     * 
+     * @return {@link Boolean} saying if the thread is running a query.
+     */
+    public static boolean isQueryThread() {
+        return QUERY_THREAD.get() != null;
+    }
+
+    /**
+     * Gets the max number of queries this executor will run at once.
+     * 
+     * @return The max concurrency.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the number of queries currently running.
+     * 
+     * @return The number of active queries.
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Stops the executor from taking new queries. Queries that are already running
+     * will finish.
+     */
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    /**
+     * Creates the executor the queries run on. Virtual threads are used when the
+     * JDK supports them.
+     * 
+     * @param maxConcurrency The max number of queries to run at once.
+     * @return The {@link ExecutorService} to run the queries on.
+     */
+    private static ExecutorService createDelegate(int maxConcurrency) {
+        try {
+            Method virtualThreads = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtualThreads.invoke(null);
+        }
+        catch(ReflectiveOperationException e) {
+            LOGGER.debug("Virtual threads are not available, using a fixed thread pool");
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(), r -> {
+                                                                 Thread thread = new Thread(r, "hydro-sql-query-"
+                                                                         + THREAD_COUNT.incrementAndGet());
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
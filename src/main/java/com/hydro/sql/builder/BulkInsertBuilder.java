@@ -0,0 +1,359 @@
+package com.hydro.sql.builder;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Builds multi row {@code INSERT ... VALUES (...), (...)} statements for bulk
+ * inserts. Rows are split into statements capped by a row count and by an
+ * estimate of the statement size, so a statement never goes over the
+ * {@code max_allowed_packet} of the server. Each row is a
+ * {@link SqlParameterSource} where the param names are the column names, such
+ * as the ones built by {@link SqlParamBuilder}. Rows are held until their
+ * statement is run, so each row needs to be its own param source.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class BulkInsertBuilder {
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_$]+(\\.[A-Za-z0-9_$]+)?");
+
+    private static final int DEFAULT_MAX_ROWS = 1000;
+
+    private static final long DEFAULT_MAX_STATEMENT_BYTES = 4L * 1024 * 1024;
+
+    private static final int MAX_PLACEHOLDERS = 65535;
+
+    private final String table;
+
+    private List<String> columns = List.of();
+
+    private List<String> updateColumns = List.of();
+
+    private int maxRows = DEFAULT_MAX_ROWS;
+
+    private long maxStatementBytes = DEFAULT_MAX_STATEMENT_BYTES;
+
+    private volatile String fullSql;
+
+    /**
+     * Private Constructor for the static into method.
+     *
+     * @param table The table to insert into.
+     */
+    private BulkInsertBuilder(String table) {
+        this.table = identifier(table);
+    }
+
+    /**
+     * Initialize the {@link BulkInsertBuilder} for the given table.
+     *
+     * @param table The table to insert into.
+     * @return {@link BulkInsertBuilder} for the table.
+     */
+    public static BulkInsertBuilder into(String table) {
+        return new BulkInsertBuilder(table);
+    }
+
+    /**
+     * Sets the columns to insert. The values of each row are read from the params
+     * with the same names, a missing param is inserted as null.
+     *
+     * @param columns The columns to insert.
+     * @return this builder object {@link BulkInsertBuilder}
+     */
+    public BulkInsertBuilder columns(String... columns) {
+        this.columns = identifiers(columns);
+        this.fullSql = null;
+        return this;
+    }
+
+    /**
+     * Turns the insert into an upsert that updates the given columns with the new
+     * values when the row already exists. With this set, MySQL reports 2 affected
+     * rows for every row that was updated.
+     *
+     * @param columns The columns to update on a duplicate key.
+     * @return this builder object {@link BulkInsertBuilder}
+     */
+    public BulkInsertBuilder onDuplicateKeyUpdate(String... columns) {
+        this.updateColumns = identifiers(columns);
+        this.fullSql = null;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows in a single statement. Defaults to
+     * {@value #DEFAULT_MAX_ROWS}.
+     *
+     * @param maxRows The max rows per statement.
+     * @return this builder object {@link BulkInsertBuilder}
+     */
+    public BulkInsertBuilder maxRowsPerStatement(int maxRows) {
+        if(maxRows <= 0) {
+            throw new IllegalArgumentException("Max rows per statement must be greater than 0");
+        }
+        this.maxRows = maxRows;
+        this.fullSql = null;
+        return this;
+    }
+
+    /**
+     * Sets the max estimated size of a single statement. This should be below the
+     * {@code max_allowed_packet} of the server. Defaults to 4MB, the smallest
+     * default of the supported MySQL versions.
+     *
+     * @param maxStatementBytes The max statement size in bytes.
+     * @return this builder object {@link BulkInsertBuilder}
+     */
+    public BulkInsertBuilder maxStatementBytes(long maxStatementBytes) {
+        if(maxStatementBytes <= 0) {
+            throw new IllegalArgumentException("Max statement bytes must be greater than 0");
+        }
+        this.maxStatementBytes = maxStatementBytes;
+        return this;
+    }
+
+    /**
+     * Gets the table being inserted into.
+     *
+     * @return The table name.
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the columns being inserted.
+     *
+     * @return List of the columns.
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the columns updated on a duplicate key.
+     *
+     * @return List of the update columns, empty if this is a plain insert.
+     */
+    public List<String> getUpdateColumns() {
+        return updateColumns;
+    }
+
+    /**
+     * Gets the max number of rows that will be put in a single statement. This is
+     * lowered when needed to keep the statement under 65535 placeholders.
+     *
+     * @return The max rows per statement.
+     */
+    public int getMaxRowsPerStatement() {
+        checkColumns();
+        return Math.min(maxRows, MAX_PLACEHOLDERS / columns.size());
+    }
+
+    /**
+     * Builds the insert statement for the given number of rows, with a
+     * {@code ?} placeholder for each value.
+     *
+     * @param rows The number of rows in the statement.
+     * @return The insert sql.
+     */
+    public String buildSql(int rows) {
+        int maxRowsPerStatement = getMaxRowsPerStatement();
+        if(rows <= 0 || rows > maxRowsPerStatement) {
+            throw new IllegalArgumentException("Rows must be between 1 and " + maxRowsPerStatement);
+        }
+
+        if(rows == maxRowsPerStatement) {
+            String sql = fullSql;
+            if(sql == null) {
+                sql = renderSql(rows);
+                fullSql = sql;
+            }
+            return sql;
+        }
+        return renderSql(rows);
+    }
+
+    /**
+     * Builds the {@code LOAD DATA LOCAL INFILE} statement for the table and
+     * columns. The rows are read as tab separated lines in the format written by
+     * {@link com.hydro.sql.bulk.DelimitedRowInputStream}.
+     *
+     * @return The load data sql.
+     */
+    public String buildLoadDataSql() {
+        checkColumns();
+        if(!updateColumns.isEmpty()) {
+            throw new IllegalStateException("ON DUPLICATE KEY UPDATE is not supported by LOAD DATA");
+        }
+        return "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + table + " CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' ("
+                + String.join(", ", columns) + ")";
+    }
+
+    /**
+     * Splits the given rows into the rows of each statement. Rows are read from
+     * the iterator as the chunks are consumed.
+     *
+     * @param rows The rows to insert.
+     * @return {@link Iterator} of the rows for each statement.
+     */
+    public Iterator<List<SqlParameterSource>> chunks(Iterator<? extends SqlParameterSource> rows) {
+        int maxRowsPerStatement = getMaxRowsPerStatement();
+        long baseBytes = renderSql(1).length();
+        return new Iterator<List<SqlParameterSource>>() {
+            private SqlParameterSource pending;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null || rows.hasNext();
+            }
+
+            @Override
+            public List<SqlParameterSource> next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                List<SqlParameterSource> chunk = new ArrayList<>(Math.min(maxRowsPerStatement, 64));
+                long bytes = baseBytes;
+                while(chunk.size() < maxRowsPerStatement && (pending != null || rows.hasNext())) {
+                    SqlParameterSource row = pending != null ? pending : rows.next();
+                    pending = null;
+
+                    long rowBytes = estimateRowBytes(row);
+                    if(!chunk.isEmpty() && bytes + rowBytes > maxStatementBytes) {
+                        pending = row;
+                        break;
+                    }
+                    chunk.add(row);
+                    bytes += rowBytes;
+                }
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Gets the value of the column from the row.
+     *
+     * @param row    The row being inserted.
+     * @param column The column to get the value of.
+     * @return The value of the column, or null if the row does not have it.
+     */
+    public static Object columnValue(SqlParameterSource row, String column) {
+        return row.hasValue(column) ? row.getValue(column) : null;
+    }
+
+    /**
+     * Estimates how many bytes the row adds to the statement once the driver has
+     * written the values into it.
+     *
+     * @param row The row to estimate.
+     * @return The estimated size of the row in bytes.
+     */
+    private long estimateRowBytes(SqlParameterSource row) {
+        long bytes = 3 + columns.size();
+        for(String column : columns) {
+            bytes += estimateValueBytes(columnValue(row, column));
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimates the size of a single value written into the statement. Strings
+     * are counted at their escaped size and byte arrays at their hex size.
+     *
+     * @param value The value to estimate.
+     * @return The estimated size of the value in bytes.
+     */
+    private static long estimateValueBytes(Object value) {
+        if(value == null) {
+            return 4;
+        }
+        else if(value instanceof Number || value instanceof Boolean) {
+            return 24;
+        }
+        else if(value instanceof CharSequence) {
+            return 2L * ((CharSequence) value).length() * 3 + 2;
+        }
+        else if(value instanceof byte[]) {
+            return 2L * ((byte[]) value).length + 3;
+        }
+        else if(value instanceof Date || value instanceof Temporal) {
+            return 32;
+        }
+        return 2L * String.valueOf(value).length() * 3 + 2;
+    }
+
+    /**
+     * Renders the insert statement for the given number of rows.
+     *
+     * @param rows The number of rows in the statement.
+     * @return The insert sql.
+     */
+    private String renderSql(int rows) {
+        checkColumns();
+        StringBuilder row = new StringBuilder(columns.size() * 2 + 2).append('(');
+        for(int i = 0; i < columns.size(); i++) {
+            row.append(i == 0 ? "?" : ",?");
+        }
+        row.append(')');
+
+        StringBuilder sql = new StringBuilder(64 + columns.size() * 16 + rows * (row.length() + 1));
+        sql.append("INSERT INTO ").append(table).append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for(int i = 0; i < rows; i++) {
+            if(i > 0) {
+                sql.append(',');
+            }
+            sql.append(row);
+        }
+
+        if(!updateColumns.isEmpty()) {
+            sql.append(" ON DUPLICATE KEY UPDATE ");
+            for(int i = 0; i < updateColumns.size(); i++) {
+                String column = updateColumns.get(i);
+                sql.append(i == 0 ? "" : ", ").append(column).append(" = VALUES(").append(column).append(')');
+            }
+        }
+        return sql.toString();
+    }
+
+    private void checkColumns() {
+        if(columns.isEmpty()) {
+            throw new IllegalStateException("No columns set for bulk insert into " + table);
+        }
+    }
+
+    /**
+     * Checks that all of the given names are plain identifiers, since they are
+     * written into the sql as is.
+     *
+     * @param names The names to check.
+     * @return List of the names.
+     */
+    private static List<String> identifiers(String... names) {
+        List<String> identifiers = new ArrayList<>(names.length);
+        for(String name : names) {
+            identifiers.add(identifier(name));
+        }
+        return Collections.unmodifiableList(identifiers);
+    }
+
+    private static String identifier(String name) {
+        if(name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid identifier '" + name + "' for bulk insert");
+        }
+        return name;
+    }
+}
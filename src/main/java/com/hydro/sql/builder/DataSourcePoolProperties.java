@@ -0,0 +1,19 @@
+package com.hydro.sql.builder;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.zaxxer.hikari.HikariConfig;
+
+/**
+ * The {@code spring.datasource.hikari} pool settings from the application
+ * config. It is bound the same way spring boot binds its own hikari pool, so
+ * every hikari setting can be set in the config. Enable it with
+ * {@code @EnableConfigurationProperties(DataSourcePoolProperties.class)} and
+ * pass it to {@link DatabaseConnectionBuilder#poolConfig(HikariConfig)}, so the
+ * config is the one place the pool settings live.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@ConfigurationProperties("spring.datasource.hikari")
+public class DataSourcePoolProperties extends HikariConfig {}
@@ -1,10 +1,19 @@
 package com.hydro.sql.builder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
 import javax.sql.DataSource;
 
-import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import com.hydro.sql.routing.ReadWriteRoutingDataSource;
+import com.hydro.sql.routing.ReplicaLoadBalancer;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.util.PropertyElf;
+
 /**
  * Database connection builder class for managing and building a datasource
  * instance with the database.
@@ -16,12 +25,31 @@ public class DatabaseConnectionBuilder {
 
     private final String DRIVER_CLASSNAME = "com.mysql.cj.jdbc.Driver";
 
+    private final String EMBEDDED_DRIVER_CLASSNAME = "org.h2.Driver";
+
+    public static final String EMBEDDED_URL_PREFIX = "jdbc:h2:mem:";
+
+    private static final String[] EMBEDDED_SETTINGS = { "MODE=MySQL", "DATABASE_TO_LOWER=TRUE",
+            "DEFAULT_NULL_ORDERING=HIGH", "DB_CLOSE_DELAY=-1" };
+
     private DriverManagerDataSource source;
 
+    private HikariConfig poolConfig;
+
     private String dbProperties;
 
     private String dbUrl;
 
+    private String database;
+
+    private String driverClassName;
+
+    private List<String> replicaUrls;
+
+    private ReplicaLoadBalancer replicaLoadBalancer;
+
+    private boolean embedded;
+
     /**
      * Private constructor for setting the datasource.
      * 
@@ -31,7 +59,11 @@ public class DatabaseConnectionBuilder {
         this.source = s;
         this.dbUrl = "";
         this.dbProperties = "?";
+        this.driverClassName = DRIVER_CLASSNAME;
         this.source.setDriverClassName(DRIVER_CLASSNAME);
+        this.poolConfig = defaultPoolConfig();
+        this.replicaUrls = new ArrayList<>();
+        this.replicaLoadBalancer = ReplicaLoadBalancer.roundRobin();
     }
 
     /**
@@ -44,13 +76,96 @@ public class DatabaseConnectionBuilder {
     }
 
     /**
-     * Method for setting the url on the datasource to be used to connect.
+     * Method for setting the url on the datasource to be used to connect. An
+     * embedded url switches to the H2 driver, and a later url that is not
+     * embedded switches back to the MySQL driver.
      * 
      * @param url The url to set.
      * @return The new {@link DatabaseConnectionBuilder} with the updated url.
      */
     public DatabaseConnectionBuilder url(String url) {
+        boolean wasEmbedded = this.embedded;
         this.dbUrl = url;
+        this.embedded = isEmbeddedUrl(url);
+        if(this.embedded) {
+            this.driverClassName(EMBEDDED_DRIVER_CLASSNAME);
+        }
+        else if(wasEmbedded && EMBEDDED_DRIVER_CLASSNAME.equals(this.driverClassName)) {
+            this.driverClassName(DRIVER_CLASSNAME);
+        }
+        return this;
+    }
+
+    /**
+     * Switches the datasource to an in memory H2 database running in MySQL mode,
+     * so the daos can be run in process without a MySQL server. The database lives
+     * until the jvm exits. H2 needs to be on the classpath for this to be used.
+     * The MySQL driver properties and the database name are not used for an
+     * embedded datasource, the name passed in here is the name of the database.
+     * 
+     * @param name The name of the in memory database.
+     * @return The new {@link DatabaseConnectionBuilder} with the embedded url.
+     */
+    public DatabaseConnectionBuilder embedded(String name) {
+        this.url(EMBEDDED_URL_PREFIX + name);
+        this.username("sa");
+        this.password("");
+        return this;
+    }
+
+    /**
+     * Checks to see if the builder is set up for an embedded in memory database.
+     * 
+     * @return {@link Boolean} saying if the datasource is embedded or not.
+     */
+    public boolean isEmbedded() {
+        return this.embedded;
+    }
+
+    /**
+     * Checks to see if the given url is for an embedded in memory database.
+     * 
+     * @param url The url to check.
+     * @return {@link Boolean} saying if the url is embedded or not.
+     */
+    public static boolean isEmbeddedUrl(String url) {
+        return url != null && url.toLowerCase().startsWith(EMBEDDED_URL_PREFIX);
+    }
+
+    /**
+     * Adds a read replica url. When replicas are added the built datasource will
+     * route reads to the replicas and writes to the primary url. The replicas use
+     * the same credentials, database and properties as the primary.
+     * 
+     * @param url The url of the replica.
+     * @return The new {@link DatabaseConnectionBuilder} with the added replica.
+     */
+    public DatabaseConnectionBuilder replicaUrl(String url) {
+        this.replicaUrls.add(url);
+        return this;
+    }
+
+    /**
+     * Sets the policy used to pick which replica a read will go to. Defaults to
+     * round robin.
+     * 
+     * @param loadBalancer The load balancer to use.
+     * @return The new {@link DatabaseConnectionBuilder} with the updated policy.
+     */
+    public DatabaseConnectionBuilder replicaLoadBalancer(ReplicaLoadBalancer loadBalancer) {
+        this.replicaLoadBalancer = loadBalancer;
+        return this;
+    }
+
+    /**
+     * Sets the driver class to connect with. Defaults to the MySQL driver.
+     * 
+     * @param driverClassName The class name of the driver.
+     * @return The new {@link DatabaseConnectionBuilder} with the updated driver.
+     */
+    public DatabaseConnectionBuilder driverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+        this.source.setDriverClassName(driverClassName);
         return this;
     }
 
@@ -88,6 +203,151 @@ public class DatabaseConnectionBuilder {
         return this;
     }
 
+    /**
+     * Sets the database name that should be appended to the url path when the
+     * datasource is built.
+     * 
+     * @param database The database to connect to.
+     * @return The new {@link DatabaseConnectionBuilder} with the updated database.
+     */
+    public DatabaseConnectionBuilder database(String database) {
+        this.database = database;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of connections the pool will hold, both idle and in
+     * use.
+     * 
+     * @param size The max size of the pool.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder maximumPoolSize(int size) {
+        this.poolConfig.setMaximumPoolSize(size);
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of idle connections the pool will try to keep open.
+     * 
+     * @param minIdle The minimum number of idle connections.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder minimumIdle(int minIdle) {
+        this.poolConfig.setMinimumIdle(minIdle);
+        return this;
+    }
+
+    /**
+     * Sets the maximum lifetime of a connection in the pool. This should be several
+     * seconds shorter than the MySQL {@code wait_timeout}.
+     * 
+     * @param ms The max lifetime in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder maxLifetime(long ms) {
+        this.poolConfig.setMaxLifetime(ms);
+        return this;
+    }
+
+    /**
+     * Sets how long a caller will wait for a connection from the pool before an
+     * exception is thrown.
+     * 
+     * @param ms The connection timeout in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder connectionTimeout(long ms) {
+        this.poolConfig.setConnectionTimeout(ms);
+        return this;
+    }
+
+    /**
+     * Sets how long a connection is allowed to sit idle in the pool before it is
+     * retired.
+     * 
+     * @param ms The idle timeout in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder idleTimeout(long ms) {
+        this.poolConfig.setIdleTimeout(ms);
+        return this;
+    }
+
+    /**
+     * Sets how long the pool will wait for a connection to be validated as alive.
+     * 
+     * @param ms The validation timeout in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder validationTimeout(long ms) {
+        this.poolConfig.setValidationTimeout(ms);
+        return this;
+    }
+
+    /**
+     * Sets the query used to validate connections. When not set the JDBC4
+     * {@code Connection.isValid()} check is used, which is the preferred option for
+     * MySQL.
+     * 
+     * @param query The validation query.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder connectionTestQuery(String query) {
+        this.poolConfig.setConnectionTestQuery(query);
+        return this;
+    }
+
+    /**
+     * Sets how long a connection can be out of the pool before a possible leak is
+     * logged. Leak detection is off by default, a value of 0 disables it.
+     * 
+     * @param ms The leak detection threshold in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder leakDetectionThreshold(long ms) {
+        this.poolConfig.setLeakDetectionThreshold(ms);
+        return this;
+    }
+
+    /**
+     * Sets the name of the pool. This is the name the pool stats are registered
+     * under.
+     * 
+     * @param name The name of the pool.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder poolName(String name) {
+        this.poolConfig.setPoolName(name);
+        return this;
+    }
+
+    /**
+     * Replaces the pool settings with the given config, such as the bound
+     * {@link DataSourcePoolProperties} from the application config. Any pool
+     * setters called after this are applied on top of it.
+     * 
+     * @param config The pool config to use.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder poolConfig(HikariConfig config) {
+        config.copyStateTo(this.poolConfig);
+        return this;
+    }
+
+    /**
+     * Applies the given pool properties on top of the current pool settings. The
+     * keys match the {@code spring.datasource.hikari} properties, so the bound
+     * values from the application config can be passed in directly.
+     * 
+     * @param properties The hikari properties to apply.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder poolProperties(Properties properties) {
+        PropertyElf.setTargetFromProperties(this.poolConfig, properties);
+        return this;
+    }
+
     /**
      * This will set a new database property on the datasource. As long as it
      * doesn't already exist it will add it.
@@ -171,6 +431,158 @@ public class DatabaseConnectionBuilder {
         return this;
     }
 
+    /**
+     * Set the ability for the driver to rewrite batched inserts into multi row
+     * statements for the datasource. This greatly reduces the round trips for
+     * batch writes.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder rewriteBatchedStatements(boolean v) {
+        this.addProperty("rewriteBatchedStatements", v);
+        return this;
+    }
+
+    /**
+     * Set the ability for the driver to cache the parsed form of prepared
+     * statements for the datasource. The cache is kept per connection.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder cachePrepStmts(boolean v) {
+        this.addProperty("cachePrepStmts", v);
+        return this;
+    }
+
+    /**
+     * Set the number of prepared statements the driver will cache per connection
+     * for the datasource. Only used when {@link #cachePrepStmts(boolean)} is
+     * enabled.
+     * 
+     * @param size The number of statements to cache.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder prepStmtCacheSize(int size) {
+        this.addProperty("prepStmtCacheSize", size);
+        return this;
+    }
+
+    /**
+     * Set the max length of the sql the driver will cache a prepared statement
+     * for on the datasource. Statements with longer sql are not cached.
+     * 
+     * @param length The max sql length to cache.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder prepStmtCacheSqlLimit(int length) {
+        this.addProperty("prepStmtCacheSqlLimit", length);
+        return this;
+    }
+
+    /**
+     * Set the ability to prepare statements on the server for the datasource. The
+     * statement is parsed once by the server and the values are sent in the binary
+     * protocol on each run.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder useServerPrepStmts(boolean v) {
+        this.addProperty("useServerPrepStmts", v);
+        return this;
+    }
+
+    /**
+     * Set the ability for the driver to cache the result set metadata of prepared
+     * statements for the datasource.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder cacheResultSetMetadata(boolean v) {
+        this.addProperty("cacheResultSetMetadata", v);
+        return this;
+    }
+
+    /**
+     * Set the ability for the driver to skip {@code SET autocommit} calls that do
+     * not change the state of the server for the datasource.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder elideSetAutoCommits(boolean v) {
+        this.addProperty("elideSetAutoCommits", v);
+        return this;
+    }
+
+    /**
+     * Set the ability for the driver to use its own copy of the session state,
+     * such as auto commit and the isolation level, instead of asking the server
+     * for the datasource.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder useLocalSessionState(boolean v) {
+        this.addProperty("useLocalSessionState", v);
+        return this;
+    }
+
+    /**
+     * Set the ability to read results through a server side cursor for the
+     * datasource. When enabled, a positive fetch size on a statement will read the
+     * rows from the server in chunks of that size.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder useCursorFetch(boolean v) {
+        this.addProperty("useCursorFetch", v);
+        return this;
+    }
+
+    /**
+     * Set the ability to run {@code LOAD DATA LOCAL INFILE} statements for the
+     * datasource. The dao bulk loader streams the rows from memory, so no local
+     * files are read. The server also needs {@code local_infile} turned on.
+     * 
+     * @param v The value to enable or disable it.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder allowLoadLocalInfile(boolean v) {
+        this.addProperty("allowLoadLocalInfile", v);
+        return this;
+    }
+
+    /**
+     * Set how long the driver waits on a read from the server before the
+     * connection is closed. This is the last line of defense against a query that
+     * never returns, it should be longer than any statement timeout.
+     * 
+     * @param ms The socket timeout in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder socketTimeout(long ms) {
+        this.addProperty("socketTimeout", ms);
+        return this;
+    }
+
+    /**
+     * Set the default max execution time of read only {@code SELECT} statements
+     * for every session of the datasource. The server stops the query once it runs
+     * for longer, without the driver having to cancel it.
+     * 
+     * @param ms The max execution time in milliseconds.
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder maxExecutionTime(long ms) {
+        this.addProperty("sessionVariables", "max_execution_time=" + ms);
+        return this;
+    }
+
     /**
      * Set the default timezone value.
      * 
@@ -198,28 +610,159 @@ public class DatabaseConnectionBuilder {
     }
 
     /**
-     * Returns the datasource with the defined properties.
+     * Will use the driver properties that cut the per query overhead of the
+     * datasource. Prepared statements are prepared on the server and cached per
+     * connection, batches are rewritten into multi row statements, and the driver
+     * stops asking the server for state it already knows. These are applied on top
+     * of any properties already set, so they can be combined with
+     * {@link #useDefaultProperties()}.
+     * 
+     * @return Updated {@link DatabaseConnectionBuilder} instance
+     */
+    public DatabaseConnectionBuilder useHighThroughputProperties() {
+        this.cachePrepStmts(true);
+        this.prepStmtCacheSize(250);
+        this.prepStmtCacheSqlLimit(2048);
+        this.useServerPrepStmts(true);
+        this.rewriteBatchedStatements(true);
+        this.cacheResultSetMetadata(true);
+        this.elideSetAutoCommits(true);
+        this.useLocalSessionState(true);
+        return this;
+    }
+
+    /**
+     * Returns the pooled datasource with the defined properties. If any replica
+     * urls were added this will be a {@link ReadWriteRoutingDataSource} with a pool
+     * for the primary and each replica.
      * 
      * @return {@link DataSource} instance.
      */
     public DataSource build() {
-        this.buildManagerSource();
-        return DataSourceBuilder.create().driverClassName(DRIVER_CLASSNAME).username(this.source.getUsername())
-                .password(this.source.getPassword()).url(this.source.getUrl()).build();
+        if(this.replicaUrls.isEmpty()) {
+            return buildPooledSource();
+        }
+        return buildRoutingSource();
+    }
+
+    /**
+     * Returns a datasource that routes reads to the replica urls and writes to the
+     * primary url. Each url gets its own pool with the defined pool settings.
+     * 
+     * @return {@link ReadWriteRoutingDataSource} instance.
+     */
+    public ReadWriteRoutingDataSource buildRoutingSource() {
+        List<DataSource> replicas = new ArrayList<>();
+        for(int i = 0; i < this.replicaUrls.size(); i++) {
+            HikariDataSource replica = buildPooledSource(this.buildUrl(this.replicaUrls.get(i)));
+            if(replica.getPoolName() != null) {
+                replica.setPoolName(String.format("%s-replica-%d", replica.getPoolName(), i + 1));
+            }
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(buildPooledSource(), replicas, this.replicaLoadBalancer);
     }
 
     /**
-     * Returns the DriverManagerDataSource with the defined properties.
+     * Returns the pooled datasource with the defined properties and pool settings.
+     * The pool is started lazily on the first connection request. Pool stats can
+     * be read through {@link HikariDataSource#getHikariPoolMXBean()}.
+     * 
+     * @return {@link HikariDataSource} instance.
+     */
+    public HikariDataSource buildPooledSource() {
+        return buildPooledSource(this.buildManagerSource().getUrl());
+    }
+
+    /**
+     * Returns the DriverManagerDataSource with the defined properties. This source
+     * opens a new physical connection on every request and should only be used for
+     * one off work, use {@link #build()} for the application datasource.
      * 
      * @return {@link DriverManagerDataSource} instance.
      */
     public DriverManagerDataSource buildManagerSource() {
-        String lastCharacter = this.dbProperties.substring(this.dbProperties.length() - 1);
+        this.source.setUrl(this.buildUrl(this.dbUrl));
+        return this.source;
+    }
+
+    /**
+     * Creates a pooled datasource for the given url with the defined pool
+     * settings.
+     * 
+     * @param url The full url to connect to.
+     * @return {@link HikariDataSource} instance.
+     */
+    private HikariDataSource buildPooledSource(String url) {
+        HikariDataSource pooledSource = new HikariDataSource();
+        this.poolConfig.copyStateTo(pooledSource);
+        pooledSource.setDriverClassName(this.driverClassName);
+        pooledSource.setJdbcUrl(url);
+        pooledSource.setUsername(this.source.getUsername());
+        pooledSource.setPassword(this.source.getPassword());
+        if(this.source.getSchema() != null) {
+            pooledSource.setSchema(this.source.getSchema());
+        }
+        return pooledSource;
+    }
+
+    /**
+     * Builds the full url for the given base url with the database and properties
+     * added on.
+     * 
+     * @param baseUrl The url to build from.
+     * @return The full url to connect to.
+     */
+    private String buildUrl(String baseUrl) {
+        if(this.embedded) {
+            return buildEmbeddedUrl(baseUrl);
+        }
+
+        String properties = this.dbProperties;
+        String lastCharacter = properties.isEmpty() ? "" : properties.substring(properties.length() - 1);
         if("&".equals(lastCharacter) || "?".equals(lastCharacter)) {
-            this.dbProperties = this.dbProperties.substring(0, this.dbProperties.length() - 1);
+            properties = properties.substring(0, properties.length() - 1);
         }
 
-        this.source.setUrl(this.dbUrl + this.dbProperties);
-        return this.source;
+        String url = this.database == null ? baseUrl : String.format("%s/%s", baseUrl, this.database);
+        return url + properties;
+    }
+
+    /**
+     * Builds the url of the embedded database with the settings that make H2
+     * behave like MySQL. Settings that are already on the url are left as is.
+     * 
+     * @param baseUrl The embedded url to build from.
+     * @return The full url to connect to.
+     */
+    private String buildEmbeddedUrl(String baseUrl) {
+        StringBuilder url = new StringBuilder(baseUrl);
+        String lowerUrl = baseUrl.toLowerCase();
+        for(String setting : EMBEDDED_SETTINGS) {
+            String key = setting.substring(0, setting.indexOf('=') + 1);
+            if(!lowerUrl.contains(";" + key.toLowerCase())) {
+                url.append(';').append(setting);
+            }
+        }
+        return url.toString();
+    }
+
+    /**
+     * Creates the default pool settings, used when no config is passed to
+     * {@link #poolConfig(HikariConfig)}. Leak detection is left off, it has to be
+     * turned on with {@link #leakDetectionThreshold(long)}.
+     * 
+     * @return {@link HikariConfig} with the default pool settings.
+     */
+    private HikariConfig defaultPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setMaximumPoolSize(10);
+        config.setMinimumIdle(10);
+        config.setMaxLifetime(1800000);
+        config.setConnectionTimeout(30000);
+        config.setIdleTimeout(600000);
+        config.setValidationTimeout(5000);
+        return config;
     }
 }
@@ -0,0 +1,99 @@
+package com.hydro.sql.builder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Shapes the values of an {@code IN (:param)} list so the queries that use it
+ * only ever have a few distinct sql strings. Spring expands a list param into
+ * one placeholder per value, so every new list length is a new statement for
+ * the driver and server to parse and cache. Lists are padded up to the next
+ * power of two by repeating the last value, which does not change the rows an
+ * {@code IN} or {@code NOT IN} matches. Large key sets are split into chunks of
+ * at most {@value #DEFAULT_MAX_SIZE} values, so a list of any size only needs
+ * {@code log2(max) + 1} statement shapes.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class InList {
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private InList() {}
+
+    /**
+     * Gets the size the list will be padded to.
+     * 
+     * @param size The number of values in the list.
+     * @return The next power of two, or the size itself if it is 0 or 1.
+     */
+    public static int bucketSize(int size) {
+        if(size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        if(size <= 1) {
+            return size;
+        }
+        int bucket = Integer.highestOneBit(size);
+        return bucket == size ? size : bucket << 1;
+    }
+
+    /**
+     * Removes the duplicate values of the list and pads it up to its bucket size
+     * by repeating the last value. An empty list is returned as is, since an
+     * empty {@code IN ()} is not valid sql either way.
+     * 
+     * @param <T>    The type of the values.
+     * @param values The values of the list, none of which can be null.
+     * @return List of the padded values.
+     */
+    public static <T> List<T> pad(Collection<? extends T> values) {
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        if(distinct.contains(null)) {
+            throw new IllegalArgumentException("IN list values must not be null");
+        }
+
+        int bucket = bucketSize(distinct.size());
+        if(bucket == distinct.size()) {
+            return distinct;
+        }
+
+        List<T> padded = new ArrayList<>(bucket);
+        padded.addAll(distinct);
+        T last = distinct.get(distinct.size() - 1);
+        while(padded.size() < bucket) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * Removes the duplicate values and splits them into padded chunks of at most
+     * the given size. The max size should be a power of two so the full chunks do
+     * not need any padding.
+     * 
+     * @param <T>     The type of the values.
+     * @param values  The values to split, none of which can be null.
+     * @param maxSize The max number of values in a chunk.
+     * @return List of the padded chunks, empty if there are no values.
+     */
+    public static <T> List<List<T>> chunks(Collection<? extends T> values, int maxSize) {
+        if(maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be greater than 0");
+        }
+
+        List<T> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        if(distinct.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<List<T>> chunks = new ArrayList<>((distinct.size() + maxSize - 1) / maxSize);
+        for(int start = 0; start < distinct.size(); start += maxSize) {
+            chunks.add(pad(distinct.subList(start, Math.min(start + maxSize, distinct.size()))));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,166 @@
+package com.hydro.sql.builder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * {@link MapSqlParameterSource} backed by an array sized to a
+ * {@link SqlParamSchema}. Values are stored by their index in the schema
+ * instead of in a map, so a source can be reset and filled again for each row
+ * without allocating. Only params declared in the schema can be added.
+ * 
+ * <p>
+ * A source is not thread safe and should not be shared between threads.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SchemaParameterSource extends MapSqlParameterSource {
+    private static final Object UNSET = new Object();
+
+    private final SqlParamSchema schema;
+
+    private final Object[] values;
+
+    private int setCount;
+
+    /**
+     * Creates an empty source for the given schema.
+     * 
+     * @param schema The schema of the params.
+     */
+    SchemaParameterSource(SqlParamSchema schema) {
+        this.schema = schema;
+        this.values = new Object[schema.size()];
+        Arrays.fill(values, UNSET);
+    }
+
+    /**
+     * Clears all the values so the source can be filled for the next row. Sql
+     * types registered on the source are kept.
+     * 
+     * @return this source {@link SchemaParameterSource}
+     */
+    public SchemaParameterSource reset() {
+        Arrays.fill(values, UNSET);
+        setCount = 0;
+        return this;
+    }
+
+    /**
+     * Sets the given date as a {@link Timestamp} instead of formatting it to a
+     * string.
+     * 
+     * @param name  The name of the parameter.
+     * @param value The value of the parameter.
+     * @return this source {@link SchemaParameterSource}
+     */
+    public SchemaParameterSource addTimestamp(String name, LocalDateTime value) {
+        return addValue(name, value == null ? null : Timestamp.valueOf(value));
+    }
+
+    /**
+     * Sets the given date as a {@link Timestamp} instead of formatting it to a
+     * string.
+     * 
+     * @param name  The name of the parameter.
+     * @param value The value of the parameter.
+     * @return this source {@link SchemaParameterSource}
+     */
+    public SchemaParameterSource addTimestamp(String name, Date value) {
+        return addValue(name, value == null ? null : new Timestamp(value.getTime()));
+    }
+
+    /**
+     * Gets the schema of the source.
+     * 
+     * @return {@link SqlParamSchema} of the source.
+     */
+    public SqlParamSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public SchemaParameterSource addValue(String paramName, Object value) {
+        int index = schema.indexOf(paramName);
+        if(index < 0) {
+            throw new IllegalArgumentException("Param '" + paramName + "' is not part of the sql param schema");
+        }
+
+        if(values[index] == UNSET) {
+            setCount++;
+        }
+        values[index] = value;
+        return this;
+    }
+
+    @Override
+    public SchemaParameterSource addValue(String paramName, Object value, int sqlType) {
+        registerSqlType(paramName, sqlType);
+        return addValue(paramName, value);
+    }
+
+    @Override
+    public SchemaParameterSource addValue(String paramName, Object value, int sqlType, String typeName) {
+        registerSqlType(paramName, sqlType);
+        registerTypeName(paramName, typeName);
+        return addValue(paramName, value);
+    }
+
+    @Override
+    public SchemaParameterSource addValues(Map<String, ?> values) {
+        if(values != null) {
+            values.forEach(this::addValue);
+        }
+        return this;
+    }
+
+    @Override
+    public Map<String, Object> getValues() {
+        Map<String, Object> map = new LinkedHashMap<>(values.length * 2);
+        for(int i = 0; i < values.length; i++) {
+            if(values[i] != UNSET) {
+                map.put(schema.nameAt(i), values[i]);
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public boolean hasValue(String paramName) {
+        int index = schema.indexOf(paramName);
+        return index >= 0 && values[index] != UNSET;
+    }
+
+    @Override
+    public Object getValue(String paramName) {
+        int index = schema.indexOf(paramName);
+        if(index < 0 || values[index] == UNSET) {
+            throw new IllegalArgumentException("No value registered for key '" + paramName + "'");
+        }
+        return values[index];
+    }
+
+    @Override
+    public String[] getParameterNames() {
+        String[] names = new String[setCount];
+        for(int i = 0, j = 0; i < values.length; i++) {
+            if(values[i] != UNSET) {
+                names[j++] = schema.nameAt(i);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + getValues();
+    }
+}
@@ -2,10 +2,12 @@ package com.hydro.sql.builder;
 
 import static com.hydro.common.datetime.DateTimeMapper.*;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
@@ -49,6 +51,18 @@ public class SqlParamBuilder {
         return new SqlParamBuilder(sqlParams);
     }
 
+    /**
+     * Initialize the {@link SqlParamBuilder} with a new param source for the given
+     * schema. The built source can be reset and reused by passing it back to
+     * {@link #with(MapSqlParameterSource)} for the next row.
+     * 
+     * @param schema The schema of the params.
+     * @return {@link SqlParamBuilder} for an empty schema source.
+     */
+    public static SqlParamBuilder with(SqlParamSchema schema) {
+        return new SqlParamBuilder(schema.newSource());
+    }
+
     /**
      * Add a parameter to the sql map.
      * 
@@ -107,6 +121,30 @@ public class SqlParamBuilder {
         return withParam(name, printDate(value));
     }
 
+    /**
+     * Add parameter to sql map for the given {@link LocalDateTime} object bound as
+     * a {@link Timestamp} instead of a formatted string.
+     * 
+     * @param name  The name of the parameter.
+     * @param value The value of the parameter
+     * @return this builder object {@link SqlParamBuilder}
+     */
+    public SqlParamBuilder withTimestamp(String name, LocalDateTime value) {
+        return withParam(name, (Object) (value == null ? null : Timestamp.valueOf(value)));
+    }
+
+    /**
+     * Add parameter to sql map for the given {@link Date} object bound as a
+     * {@link Timestamp} instead of a formatted string.
+     * 
+     * @param name  The name of the parameter.
+     * @param value The value of the parameter
+     * @return this builder object {@link SqlParamBuilder}
+     */
+    public SqlParamBuilder withTimestamp(String name, Date value) {
+        return withParam(name, (Object) (value == null ? null : new Timestamp(value.getTime())));
+    }
+
     /**
      * Add parameter to sql map for an enum collection and check that the text enum
      * is not null, if not get the text id.
@@ -116,8 +154,28 @@ public class SqlParamBuilder {
      * @return this builder object {@link SqlParamBuilder}
      */
     public <T> SqlParamBuilder withParamTextEnumCollection(String name, Collection<? extends TextEnum> values) {
-        return withParam(name,
-                         values == null ? null : values.stream().map(TextEnum::getTextId).collect(Collectors.toList()));
+        if(values == null) {
+            return withParam(name, (Object) null);
+        }
+
+        List<String> textIds = new ArrayList<>(values.size());
+        for(TextEnum value : values) {
+            textIds.add(value.getTextId());
+        }
+        return withParam(name, textIds);
+    }
+
+    /**
+     * Add parameter to sql map for the values of an {@code IN (:param)} list. The
+     * values are padded with {@link InList#pad(Collection)}, so lists of similar
+     * sizes share the same sql.
+     * 
+     * @param name   The name of the parameter.
+     * @param values The values of the list.
+     * @return this builder object {@link SqlParamBuilder}
+     */
+    public SqlParamBuilder withInList(String name, Collection<?> values) {
+        return withParam(name, values == null ? null : InList.pad(values));
     }
 
     /**
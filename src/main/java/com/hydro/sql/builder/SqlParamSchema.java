@@ -0,0 +1,96 @@
+package com.hydro.sql.builder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declares the parameters a query binds, in order. A schema is built once per
+ * query, usually as a constant on the dao, and hands out
+ * {@link SchemaParameterSource} objects that are sized to the declared params
+ * and can be reset and reused between rows.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SqlParamSchema {
+    private final String[] names;
+
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Private Constructor for the schema of the given param names.
+     * 
+     * @param names The names of the params.
+     */
+    private SqlParamSchema(String[] names) {
+        this.names = names;
+        this.indexes = new HashMap<>(names.length * 2);
+        for(int i = 0; i < names.length; i++) {
+            if(indexes.put(names[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate param '" + names[i] + "' in sql param schema");
+            }
+        }
+    }
+
+    /**
+     * Creates a schema for the given param names.
+     * 
+     * @param names The names of the params the query binds.
+     * @return {@link SqlParamSchema} for the param names.
+     */
+    public static SqlParamSchema of(String... names) {
+        return new SqlParamSchema(names.clone());
+    }
+
+    /**
+     * Creates a new empty param source for this schema. A source is not thread
+     * safe, each thread should create its own.
+     * 
+     * @return {@link SchemaParameterSource} with none of the params set.
+     */
+    public SchemaParameterSource newSource() {
+        return new SchemaParameterSource(this);
+    }
+
+    /**
+     * Gets the names of the params in the order they were declared.
+     * 
+     * @return List of the param names.
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Gets the number of params in the schema.
+     * 
+     * @return The number of params.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets the name of the param at the given index.
+     * 
+     * @param index The index of the param.
+     * @return The name of the param.
+     */
+    String nameAt(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the index of the given param name.
+     * 
+     * @param name The name of the param.
+     * @return The index of the param, or -1 if it is not part of the schema.
+     */
+    int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+}
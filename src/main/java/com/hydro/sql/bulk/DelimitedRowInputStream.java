@@ -0,0 +1,203 @@
+package com.hydro.sql.bulk;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * {@link InputStream} that writes rows as tab separated lines in the default
+ * format of MySQL {@code LOAD DATA}. Fields are separated by tabs, lines end
+ * with a newline, special characters are escaped with a backslash and null is
+ * written as {@code \N}. Rows are only read from the iterator as the stream is
+ * read, so only the current row is held in memory. Text is written as UTF-8.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class DelimitedRowInputStream extends InputStream {
+    private static final byte[] NULL = { '\\', 'N' };
+
+    private final Iterator<? extends SqlParameterSource> rows;
+
+    private final List<String> columns;
+
+    private byte[] buffer = new byte[1024];
+
+    private int position;
+
+    private int limit;
+
+    private long rowCount;
+
+    /**
+     * Creates a stream of the given columns of each row.
+     * 
+     * @param rows    The rows to write.
+     * @param columns The columns to write for each row, in order.
+     */
+    public DelimitedRowInputStream(Iterator<? extends SqlParameterSource> rows, List<String> columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    @Override
+    public int read() {
+        if(!fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if(len == 0) {
+            return 0;
+        }
+        if(!fill()) {
+            return -1;
+        }
+
+        int read = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, b, off, read);
+        position += read;
+        return read;
+    }
+
+    /**
+     * Gets the number of rows written to the stream so far.
+     * 
+     * @return The number of rows.
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the next row into the buffer once the current one has been read.
+     * 
+     * @return If there is data left to read.
+     */
+    private boolean fill() {
+        if(position < limit) {
+            return true;
+        }
+        if(!rows.hasNext()) {
+            return false;
+        }
+
+        position = 0;
+        limit = 0;
+        SqlParameterSource row = rows.next();
+        for(int i = 0; i < columns.size(); i++) {
+            if(i > 0) {
+                write((byte) '\t');
+            }
+            String column = columns.get(i);
+            writeValue(row.hasValue(column) ? row.getValue(column) : null);
+        }
+        write((byte) '\n');
+        rowCount++;
+        return true;
+    }
+
+    /**
+     * Writes a single field value into the buffer.
+     * 
+     * @param value The value to write.
+     */
+    private void writeValue(Object value) {
+        if(value == null) {
+            write(NULL);
+        }
+        else if(value instanceof Boolean) {
+            write((byte) ((Boolean) value ? '1' : '0'));
+        }
+        else if(value instanceof Number) {
+            writeAscii(value.toString());
+        }
+        else if(value instanceof LocalDateTime) {
+            writeAscii(Timestamp.valueOf((LocalDateTime) value).toString());
+        }
+        else if(value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof java.sql.Time)) {
+            writeAscii(new Timestamp(((Date) value).getTime()).toString());
+        }
+        else if(value instanceof byte[]) {
+            writeEscaped((byte[]) value);
+        }
+        else {
+            writeEscaped(value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Writes text that is known to have no special characters.
+     * 
+     * @param value The text to write.
+     */
+    private void writeAscii(String value) {
+        ensureCapacity(value.length());
+        for(int i = 0; i < value.length(); i++) {
+            buffer[limit++] = (byte) value.charAt(i);
+        }
+    }
+
+    /**
+     * Writes the bytes with the special characters escaped by a backslash.
+     * 
+     * @param value The bytes to write.
+     */
+    private void writeEscaped(byte[] value) {
+        ensureCapacity(value.length * 2);
+        for(byte b : value) {
+            switch(b) {
+                case '\\':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = '\\';
+                    break;
+                case '\t':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = 't';
+                    break;
+                case '\n':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = 'n';
+                    break;
+                case '\r':
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = 'r';
+                    break;
+                case 0:
+                    buffer[limit++] = '\\';
+                    buffer[limit++] = '0';
+                    break;
+                default:
+                    buffer[limit++] = b;
+            }
+        }
+    }
+
+    private void write(byte b) {
+        ensureCapacity(1);
+        buffer[limit++] = b;
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, limit, bytes.length);
+        limit += bytes.length;
+    }
+
+    private void ensureCapacity(int length) {
+        if(limit + length > buffer.length) {
+            byte[] grown = new byte[Math.max(buffer.length * 2, limit + length)];
+            System.arraycopy(buffer, 0, grown, 0, limit);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.hydro.sql.bulk;
+
+import java.time.Duration;
+
+/**
+ * Result of a {@code LOAD DATA} import.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class LoadDataResult {
+    private final long rowsSent;
+
+    private final long rowsLoaded;
+
+    private final Duration duration;
+
+    public LoadDataResult(long rowsSent, long rowsLoaded, Duration duration) {
+        this.rowsSent = rowsSent;
+        this.rowsLoaded = rowsLoaded;
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the number of rows streamed to the server.
+     * 
+     * @return The rows sent.
+     */
+    public long getRowsSent() {
+        return rowsSent;
+    }
+
+    /**
+     * Gets the number of rows the server reported as loaded. This can be lower
+     * than the rows sent when rows were skipped as duplicates.
+     * 
+     * @return The rows loaded.
+     */
+    public long getRowsLoaded() {
+        return rowsLoaded;
+    }
+
+    /**
+     * Gets how long the import took.
+     * 
+     * @return {@link Duration} of the import.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the rate the rows were loaded at.
+     * 
+     * @return The rows loaded per second.
+     */
+    public double getRowsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : rowsLoaded * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LoadDataResult[rowsSent=%d, rowsLoaded=%d, duration=%dms, rowsPerSecond=%.1f]",
+                             rowsSent, rowsLoaded, duration.toMillis(), getRowsPerSecond());
+    }
+}
@@ -0,0 +1,225 @@
+package com.hydro.sql.cache;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.io.Resources;
+import com.opengamma.elsql.ElSqlBundle;
+import com.opengamma.elsql.ElSqlConfig;
+
+/**
+ * Cache of the rendered sql fragments for an {@link ElSqlBundle}. For most
+ * fragments the rendered sql only depends on which params are present, so the
+ * output is cached by the fragment name and the shape of the params. Bundles
+ * that use tags whose output depends on the param values, such as
+ * {@code @LIKE} or {@code @PAGING}, are rendered on every call.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ElSqlFragmentCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ElSqlFragmentCache.class);
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final Pattern VALUE_DEPENDENT_TAGS = Pattern
+            .compile("@(LIKE|PAGING|OFFSETFETCH|FETCH|VALUE|LOOP|INCLUDE\\(:)|@\\w+\\(:\\w+\\s*=");
+
+    private final Cache<String, String> fragments;
+
+    private final Cache<String, String> fragmentNames;
+
+    private volatile ElSqlBundle bundle;
+
+    private volatile boolean shapeOnly;
+
+    /**
+     * Creates a new fragment cache for the given bundle.
+     * 
+     * @param bundle    The bundle to render the fragments from.
+     * @param shapeOnly If the rendered sql only depends on the shape of the params.
+     */
+    public ElSqlFragmentCache(ElSqlBundle bundle, boolean shapeOnly) {
+        this.bundle = bundle;
+        this.shapeOnly = shapeOnly;
+        this.fragments = CacheBuilder.newBuilder().maximumSize(DEFAULT_MAXIMUM_SIZE).recordStats().build();
+        this.fragmentNames = CacheBuilder.newBuilder().maximumSize(DEFAULT_MAXIMUM_SIZE).build();
+    }
+
+    /**
+     * Loads the elsql bundle for the given class and creates a fragment cache for
+     * it.
+     * 
+     * @param config The elsql config to use.
+     * @param type   The class the elsql file belongs to.
+     * @return {@link ElSqlFragmentCache} for the loaded bundle.
+     */
+    public static ElSqlFragmentCache of(ElSqlConfig config, Class<?> type) {
+        return new ElSqlFragmentCache(ElSqlBundle.of(config, type), isShapeOnly(config, type));
+    }
+
+    /**
+     * Gets the sql fragment for the given name, filtered for the given params.
+     * 
+     * @param name   The name of the sql fragment.
+     * @param params The params to filter out of the query.
+     * @return {@link String} of the filtered query.
+     */
+    public String getSql(String name, SqlParameterSource params) {
+        String[] paramNames = params.getParameterNames();
+        if(!shapeOnly || paramNames == null) {
+            return render(name, bundle.getSql(name, params));
+        }
+
+        String key = shapeKey(name, params, paramNames);
+        String sql = fragments.getIfPresent(key);
+        if(sql == null) {
+            sql = render(name, bundle.getSql(name, params));
+            fragments.put(key, sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Gets the raw sql fragment for the given name.
+     * 
+     * @param name The name of the sql fragment.
+     * @return {@link String} of the sql fragment.
+     */
+    public String getSql(String name) {
+        String sql = fragments.getIfPresent(name);
+        if(sql == null) {
+            sql = render(name, bundle.getSql(name));
+            fragments.put(name, sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Gets the name of the fragment the given sql was rendered from. Only recently
+     * rendered sql is remembered.
+     * 
+     * @param sql The rendered sql.
+     * @return The name of the fragment, or null if it is not known.
+     */
+    public String fragmentName(String sql) {
+        return fragmentNames.getIfPresent(sql);
+    }
+
+    /**
+     * Reloads the elsql bundle for the given class and clears all the cached
+     * fragments.
+     * 
+     * @param config The elsql config to use.
+     * @param type   The class the elsql file belongs to.
+     */
+    public void reload(ElSqlConfig config, Class<?> type) {
+        this.bundle = ElSqlBundle.of(config, type);
+        this.shapeOnly = isShapeOnly(config, type);
+        invalidate();
+    }
+
+    /**
+     * Clears all of the cached fragments.
+     */
+    public void invalidate() {
+        fragments.invalidateAll();
+        fragmentNames.invalidateAll();
+    }
+
+    /**
+     * Gets the hit, miss and eviction stats of the cache.
+     * 
+     * @return {@link CacheStats} of the fragment cache.
+     */
+    public CacheStats stats() {
+        return fragments.stats();
+    }
+
+    /**
+     * Checks if the given elsql source only uses tags whose output depends on
+     * which params are present and not their values.
+     * 
+     * @param source The elsql source.
+     * @return {@link Boolean} if the fragments can be cached by param shape.
+     */
+    static boolean isShapeOnly(String source) {
+        return !VALUE_DEPENDENT_TAGS.matcher(source).find();
+    }
+
+    /**
+     * Reads the elsql files for the given class and checks if they can be cached
+     * by param shape. If the files can not be read the fragments will not be
+     * cached by shape.
+     * 
+     * @param config The elsql config to use.
+     * @param type   The class the elsql files belong to.
+     * @return {@link Boolean} if the fragments can be cached by param shape.
+     */
+    private static boolean isShapeOnly(ElSqlConfig config, Class<?> type) {
+        URL base = type.getResource(type.getSimpleName() + ".elsql");
+        URL custom = type.getResource(type.getSimpleName() + "-" + config.getName() + ".elsql");
+        try {
+            return (base == null || isShapeOnly(Resources.toString(base, StandardCharsets.UTF_8)))
+                    && (custom == null || isShapeOnly(Resources.toString(custom, StandardCharsets.UTF_8)));
+        }
+        catch(IOException e) {
+            LOGGER.warn("Unable to read elsql for '{}', fragments will not be cached", type.getName());
+            return false;
+        }
+    }
+
+    /**
+     * Trims the rendered sql and remembers which fragment it came from.
+     * 
+     * @param name The name of the sql fragment.
+     * @param sql  The rendered sql.
+     * @return The trimmed sql.
+     */
+    private String render(String name, String sql) {
+        String trimmed = sql.trim();
+        fragmentNames.put(trimmed, name);
+        return trimmed;
+    }
+
+    /**
+     * Builds the cache key for the fragment name and the shape of the params. Each
+     * present param adds its name and whether it is null, a boolean value or any
+     * other value.
+     * 
+     * @param name       The name of the sql fragment.
+     * @param params     The params of the query.
+     * @param paramNames The names of the params.
+     * @return {@link String} key for the fragment and param shape.
+     */
+    private String shapeKey(String name, SqlParameterSource params, String[] paramNames) {
+        String[] sortedNames = paramNames.clone();
+        Arrays.sort(sortedNames);
+
+        StringBuilder key = new StringBuilder(name.length() + sortedNames.length * 16).append(name);
+        for(String paramName : sortedNames) {
+            Object value = params.getValue(paramName);
+            key.append('|').append(paramName).append(':');
+            if(value == null) {
+                key.append('N');
+            }
+            else if(value instanceof Boolean) {
+                key.append((Boolean) value ? 'T' : 'F');
+            }
+            else {
+                key.append('V');
+            }
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,244 @@
+package com.hydro.sql.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+/**
+ * Cache for the results of dao queries. Results are keyed by the sql, the bound
+ * params and the type they were mapped to, and are evicted by size, by age or
+ * by the tags they were cached under. A single cache can be shared between
+ * daos so that a write in one dao can invalidate the reads of another.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class QueryResultCache {
+
+    private final Cache<QueryKey, CachedResult> results;
+
+    private final ConcurrentMap<String, Set<QueryKey>> taggedKeys = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, AtomicLong> tagVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new result cache.
+     * 
+     * @param maximumSize The max number of results to hold. The least recently used
+     *                    results are evicted first.
+     * @param ttl         How long a result is kept after it is cached.
+     */
+    public QueryResultCache(long maximumSize, Duration ttl) {
+        this.results = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats()
+                .removalListener(this::onRemoval).build();
+    }
+
+    /**
+     * Gets the cached result for the query, or runs the loader and caches its
+     * result under the given tags. If any of the tags are invalidated while the
+     * loader is running the result will be returned but not cached. The version
+     * is checked again once the result is stored, so an invalidation that lands
+     * between the first check and the put evicts the result right away instead of
+     * leaving it cached until it expires. A cached result is also checked against
+     * the versions of its tags when it is read, so it is never returned once one
+     * of its tags has been invalidated.
+     * 
+     * @param <T>    The type of the result.
+     * @param key    The key of the query.
+     * @param tags   The tags to cache the result under.
+     * @param loader Runs the query when there is no cached result.
+     * @return The cached or loaded result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(QueryKey key, Collection<String> tags, Supplier<T> loader) {
+        CachedResult cached = results.getIfPresent(key);
+        if(cached != null) {
+            if(cached.version == version(cached.tags)) {
+                return (T) cached.value;
+            }
+            results.asMap().remove(key, cached);
+        }
+
+        long version = version(tags);
+        T value = loader.get();
+        if(value != null && version == version(tags)) {
+            tags.forEach(tag -> taggedKeys.compute(tag, (t, keys) -> {
+                Set<QueryKey> tagKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                tagKeys.add(key);
+                return tagKeys;
+            }));
+            results.put(key, new CachedResult(value, tags, version));
+            if(version != version(tags)) {
+                results.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Evicts all of the results cached under any of the given tags.
+     * 
+     * @param tags The tags to invalidate.
+     */
+    public void invalidateTags(Collection<String> tags) {
+        for(String tag : tags) {
+            tagVersions.computeIfAbsent(tag, t -> new AtomicLong()).incrementAndGet();
+            Set<QueryKey> keys = taggedKeys.remove(tag);
+            if(keys != null) {
+                results.invalidateAll(keys);
+            }
+        }
+    }
+
+    /**
+     * Evicts all of the results cached under any of the given tags.
+     * 
+     * @param tags The tags to invalidate.
+     */
+    public void invalidateTags(String... tags) {
+        invalidateTags(Set.of(tags));
+    }
+
+    /**
+     * Evicts all of the cached results.
+     */
+    public void invalidateAll() {
+        tagVersions.values().forEach(AtomicLong::incrementAndGet);
+        results.invalidateAll();
+        taggedKeys.clear();
+    }
+
+    /**
+     * Gets the hit, miss and eviction stats of the cache.
+     * 
+     * @return {@link CacheStats} of the result cache.
+     */
+    public CacheStats stats() {
+        return results.stats();
+    }
+
+    /**
+     * Gets the number of results currently cached.
+     * 
+     * @return The number of cached results.
+     */
+    public long size() {
+        return results.size();
+    }
+
+    /**
+     * Gets the combined version of the given tags. This changes any time one of
+     * the tags is invalidated.
+     * 
+     * @param tags The tags to get the version of.
+     * @return The combined version of the tags.
+     */
+    private long version(Collection<String> tags) {
+        long version = 0;
+        for(String tag : tags) {
+            AtomicLong tagVersion = tagVersions.get(tag);
+            version += tagVersion == null ? 0 : tagVersion.get();
+        }
+        return version;
+    }
+
+    /**
+     * Removes an evicted result from the tag index. A result replaced by a newer
+     * load of the same query keeps its key in the index, since the newer result
+     * is cached under it.
+     * 
+     * @param removal The removed result.
+     */
+    private void onRemoval(RemovalNotification<QueryKey, CachedResult> removal) {
+        if(removal.getValue() == null || removal.getCause() == RemovalCause.REPLACED) {
+            return;
+        }
+        for(String tag : removal.getValue().tags) {
+            taggedKeys.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(removal.getKey());
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * Key of a cached query made up of the kind of query, the sql, the bound
+     * params and the type the rows are mapped to.
+     */
+    public static class QueryKey {
+        private final String kind;
+
+        private final String sql;
+
+        private final Map<String, Object> params;
+
+        private final Class<?> type;
+
+        private final int hash;
+
+        public QueryKey(String kind, String sql, SqlParameterSource params, Class<?> type) {
+            this.kind = kind;
+            this.sql = sql;
+            this.params = new HashMap<>();
+            String[] names = params.getParameterNames();
+            if(names != null) {
+                for(String name : names) {
+                    this.params.put(name, params.getValue(name));
+                }
+            }
+            this.type = type;
+            this.hash = Objects.hash(kind, sql, this.params, type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) o;
+            return hash == other.hash && kind.equals(other.kind) && type.equals(other.type) && sql.equals(other.sql)
+                    && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached result, the tags it was cached under and the version of the tags
+     * when it was loaded.
+     */
+    private static class CachedResult {
+        private final Object value;
+
+        private final Collection<String> tags;
+
+        private final long version;
+
+        private CachedResult(Object value, Collection<String> tags, long version) {
+            this.value = value;
+            this.tags = tags;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.hydro.sql.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.google.common.cache.CacheBuilder;
+import com.hydro.sql.async.BoundedQueryExecutor;
+import com.hydro.sql.statement.StatementOptionsJdbcTemplate;
+import com.opengamma.elsql.ElSqlConfig;
+
+/**
+ * Registry of the sql resources that are shared between dao instances. Each
+ * elsql bundle is parsed once per dao class and config, and one
+ * {@link NamedParameterJdbcTemplate}, query executor and transaction manager is
+ * shared for each {@link DataSource}, so creating a dao does not re-parse its sql, start a new
+ * parsed sql cache or spin up new threads.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SqlResourceRegistry {
+
+    private static final ClassValue<ConcurrentMap<ElSqlConfig, ElSqlFragmentCache>> FRAGMENTS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<ElSqlConfig, ElSqlFragmentCache> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ConcurrentMap<DataSource, NamedParameterJdbcTemplate> TEMPLATES = CacheBuilder.newBuilder()
+            .weakKeys().weakValues().<DataSource, NamedParameterJdbcTemplate>build().asMap();
+
+    private static final ConcurrentMap<DataSource, BoundedQueryExecutor> QUERY_EXECUTORS = CacheBuilder.newBuilder()
+            .weakKeys().<DataSource, BoundedQueryExecutor>build().asMap();
+
+    private static final ConcurrentMap<DataSource, DataSourceTransactionManager> TRANSACTION_MANAGERS = CacheBuilder
+            .newBuilder().weakKeys().weakValues().<DataSource, DataSourceTransactionManager>build().asMap();
+
+    private SqlResourceRegistry() {}
+
+    /**
+     * Gets the shared fragment cache for the given dao class and config. The elsql
+     * bundle is only parsed the first time it is requested.
+     * 
+     * @param config The elsql config to use.
+     * @param type   The class the elsql file belongs to.
+     * @return The shared {@link ElSqlFragmentCache} for the class.
+     */
+    public static ElSqlFragmentCache fragments(ElSqlConfig config, Class<?> type) {
+        return FRAGMENTS.get(type).computeIfAbsent(config, c -> ElSqlFragmentCache.of(c, type));
+    }
+
+    /**
+     * Gets the shared template for the given datasource. A template is kept as
+     * long as a dao is still using it. The template applies the statement options
+     * of the current {@link com.hydro.sql.statement.StatementScope}.
+     * 
+     * @param source The datasource of the template.
+     * @return The shared {@link NamedParameterJdbcTemplate} for the datasource.
+     */
+    public static NamedParameterJdbcTemplate template(DataSource source) {
+        return TEMPLATES.computeIfAbsent(source,
+                                         s -> new NamedParameterJdbcTemplate(new StatementOptionsJdbcTemplate(s)));
+    }
+
+    /**
+     * Gets the shared query executor for the given datasource. The executor is
+     * bounded by the size of the datasource connection pool.
+     * 
+     * @param source The datasource the queries will run against.
+     * @return The shared {@link BoundedQueryExecutor} for the datasource.
+     */
+    public static BoundedQueryExecutor queryExecutor(DataSource source) {
+        return QUERY_EXECUTORS.computeIfAbsent(source, BoundedQueryExecutor::forDataSource);
+    }
+
+    /**
+     * Gets the shared transaction manager for the given datasource. A transaction
+     * manager is kept as long as a unit of work is still using it.
+     * 
+     * @param source The datasource of the transactions.
+     * @return The shared {@link DataSourceTransactionManager} for the datasource.
+     */
+    public static DataSourceTransactionManager transactionManager(DataSource source) {
+        return TRANSACTION_MANAGERS.computeIfAbsent(source, DataSourceTransactionManager::new);
+    }
+}
@@ -0,0 +1,71 @@
+package com.hydro.sql.columnar;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of a columnar query. Each numeric column is held in its own primitive
+ * column instead of an object per row.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ColumnarResult {
+    private final int size;
+
+    private final Map<String, DoubleColumn> doubleColumns;
+
+    private final Map<String, LongColumn> longColumns;
+
+    ColumnarResult(int size, Map<String, DoubleColumn> doubleColumns, Map<String, LongColumn> longColumns) {
+        this.size = size;
+        this.doubleColumns = Collections.unmodifiableMap(doubleColumns);
+        this.longColumns = Collections.unmodifiableMap(longColumns);
+    }
+
+    /**
+     * Gets the double column with the given name.
+     * 
+     * @param name The name of the column.
+     * @return {@link DoubleColumn} of the values.
+     */
+    public DoubleColumn getDoubles(String name) {
+        DoubleColumn column = doubleColumns.get(name);
+        if(column == null) {
+            throw new IllegalArgumentException("No double column '" + name + "' in the result");
+        }
+        return column;
+    }
+
+    /**
+     * Gets the long column with the given name.
+     * 
+     * @param name The name of the column.
+     * @return {@link LongColumn} of the values.
+     */
+    public LongColumn getLongs(String name) {
+        LongColumn column = longColumns.get(name);
+        if(column == null) {
+            throw new IllegalArgumentException("No long column '" + name + "' in the result");
+        }
+        return column;
+    }
+
+    /**
+     * Gets the number of rows in the result.
+     * 
+     * @return The number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the result has no rows.
+     * 
+     * @return If the result is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.hydro.sql.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+/**
+ * Reads the numeric columns of a query straight into primitive columns.
+ * Columns are resolved by label once for the result set and then read by index
+ * with the primitive getters, so no object is created per row. Timestamp
+ * columns are read as epoch milliseconds.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ColumnarResultSetExtractor implements ResultSetExtractor<ColumnarResult> {
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final Map<String, ColumnType> columns = new LinkedHashMap<>();
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private enum ColumnType {
+        DOUBLE, LONG, TIMESTAMP
+    }
+
+    /**
+     * Private Constructor for the static create method.
+     */
+    private ColumnarResultSetExtractor() {}
+
+    /**
+     * Initialize the {@link ColumnarResultSetExtractor} with no columns.
+     * 
+     * @return {@link ColumnarResultSetExtractor} with no columns.
+     */
+    public static ColumnarResultSetExtractor create() {
+        return new ColumnarResultSetExtractor();
+    }
+
+    /**
+     * Reads the given columns as doubles.
+     * 
+     * @param names The labels of the columns.
+     * @return this extractor {@link ColumnarResultSetExtractor}
+     */
+    public ColumnarResultSetExtractor doubleColumns(String... names) {
+        return addColumns(ColumnType.DOUBLE, names);
+    }
+
+    /**
+     * Reads the given columns as longs.
+     * 
+     * @param names The labels of the columns.
+     * @return this extractor {@link ColumnarResultSetExtractor}
+     */
+    public ColumnarResultSetExtractor longColumns(String... names) {
+        return addColumns(ColumnType.LONG, names);
+    }
+
+    /**
+     * Reads the given timestamp columns as epoch milliseconds into long columns.
+     * 
+     * @param names The labels of the columns.
+     * @return this extractor {@link ColumnarResultSetExtractor}
+     */
+    public ColumnarResultSetExtractor timestampColumns(String... names) {
+        return addColumns(ColumnType.TIMESTAMP, names);
+    }
+
+    /**
+     * Sets how many values each column chunk holds. The columns grow by one chunk
+     * at a time. Defaults to {@value #DEFAULT_CHUNK_SIZE}.
+     * 
+     * @param chunkSize The number of values in a chunk.
+     * @return this extractor {@link ColumnarResultSetExtractor}
+     */
+    public ColumnarResultSetExtractor chunkSize(int chunkSize) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @Override
+    public ColumnarResult extractData(ResultSet rs) throws SQLException {
+        int count = columns.size();
+        int[] indexes = new int[count];
+        ColumnType[] types = new ColumnType[count];
+        DoubleColumn[] doubles = new DoubleColumn[count];
+        LongColumn[] longs = new LongColumn[count];
+        Map<String, DoubleColumn> doubleColumns = new LinkedHashMap<>();
+        Map<String, LongColumn> longColumns = new LinkedHashMap<>();
+
+        int i = 0;
+        for(Map.Entry<String, ColumnType> column : columns.entrySet()) {
+            indexes[i] = rs.findColumn(column.getKey());
+            types[i] = column.getValue();
+            if(types[i] == ColumnType.DOUBLE) {
+                doubles[i] = new DoubleColumn(column.getKey(), chunkSize);
+                doubleColumns.put(column.getKey(), doubles[i]);
+            }
+            else {
+                longs[i] = new LongColumn(column.getKey(), chunkSize);
+                longColumns.put(column.getKey(), longs[i]);
+            }
+            i++;
+        }
+
+        int rows = 0;
+        while(rs.next()) {
+            for(int c = 0; c < count; c++) {
+                switch(types[c]) {
+                    case DOUBLE:
+                        double doubleValue = rs.getDouble(indexes[c]);
+                        doubles[c].add(doubleValue, rs.wasNull());
+                        break;
+                    case LONG:
+                        long longValue = rs.getLong(indexes[c]);
+                        longs[c].add(longValue, rs.wasNull());
+                        break;
+                    default:
+                        Timestamp timestamp = rs.getTimestamp(indexes[c]);
+                        longs[c].add(timestamp == null ? 0 : timestamp.getTime(), timestamp == null);
+                }
+            }
+            rows++;
+        }
+        return new ColumnarResult(rows, doubleColumns, longColumns);
+    }
+
+    /**
+     * Adds the columns with the given type.
+     * 
+     * @param type  The type to read the columns as.
+     * @param names The labels of the columns.
+     * @return this extractor {@link ColumnarResultSetExtractor}
+     */
+    private ColumnarResultSetExtractor addColumns(ColumnType type, String... names) {
+        for(String name : names) {
+            columns.put(name, type);
+        }
+        return this;
+    }
+}
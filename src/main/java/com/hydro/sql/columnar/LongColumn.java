@@ -0,0 +1,117 @@
+package com.hydro.sql.columnar;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column of primitive longs read from a query. Values are stored in fixed
+ * size chunks, so the column grows without copying the rows already read.
+ * Null values are read as 0 and tracked separately.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class LongColumn {
+    private final String name;
+
+    private final int chunkSize;
+
+    private long[][] chunks = new long[4][];
+
+    private final BitSet nulls = new BitSet();
+
+    private int size;
+
+    /**
+     * Creates an empty column.
+     * 
+     * @param name      The name of the column.
+     * @param chunkSize The number of values in each chunk.
+     */
+    LongColumn(String name, int chunkSize) {
+        this.name = name;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Adds the value to the end of the column.
+     * 
+     * @param value  The value to add.
+     * @param isNull If the column value was null.
+     */
+    void add(long value, boolean isNull) {
+        int chunk = size / chunkSize;
+        if(chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if(chunks[chunk] == null) {
+            chunks[chunk] = new long[chunkSize];
+        }
+
+        if(isNull) {
+            nulls.set(size);
+            value = 0;
+        }
+        chunks[chunk][size % chunkSize] = value;
+        size++;
+    }
+
+    /**
+     * Gets the value of the given row.
+     * 
+     * @param row The index of the row.
+     * @return The value, or 0 if it was null.
+     */
+    public long get(int row) {
+        checkRow(row);
+        return chunks[row / chunkSize][row % chunkSize];
+    }
+
+    /**
+     * Checks if the value of the given row was null.
+     * 
+     * @param row The index of the row.
+     * @return If the value was null.
+     */
+    public boolean isNull(int row) {
+        checkRow(row);
+        return nulls.get(row);
+    }
+
+    /**
+     * Copies the column into a single array.
+     * 
+     * @return Array of all the values in the column.
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+        for(int start = 0, chunk = 0; start < size; start += chunkSize, chunk++) {
+            System.arraycopy(chunks[chunk], 0, values, start, Math.min(chunkSize, size - start));
+        }
+        return values;
+    }
+
+    /**
+     * Gets the name of the column.
+     * 
+     * @return The column name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of rows in the column.
+     * 
+     * @return The number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void checkRow(int row) {
+        if(row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for column of size " + size);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hydro.sql.ingest;
+
+import java.util.List;
+
+/**
+ * Writes a batch of rows taken from a {@link WriteBehindQueue}, such as a dao
+ * method that bulk inserts the rows.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@FunctionalInterface
+public interface BatchWriter<T> {
+
+    /**
+     * Writes the rows to the database.
+     * 
+     * @param rows The rows to write.
+     */
+    void write(List<T> rows);
+}
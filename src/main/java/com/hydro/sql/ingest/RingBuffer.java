@@ -0,0 +1,142 @@
+package com.hydro.sql.ingest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock free queue that any number of threads can add to and take from.
+ * Each slot has a sequence number that says if it is free to write or ready to
+ * read, so producers and consumers only contend on their own end of the buffer.
+ * The capacity is rounded up to a power of two, with a minimum of two.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class RingBuffer<T> {
+    private final Object[] items;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates an empty buffer.
+     * 
+     * @param capacity The least number of items the buffer can hold.
+     */
+    public RingBuffer(int capacity) {
+        if(capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 30));
+        }
+
+        int size = Math.max(2, Integer.highestOneBit(capacity));
+        size = size < capacity ? size << 1 : size;
+        this.items = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for(int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the item to the buffer if there is room.
+     * 
+     * @param item The item to add.
+     * @return {@link Boolean} saying if the item was added, false if the buffer is
+     *         full.
+     */
+    public boolean offer(T item) {
+        if(item == null) {
+            throw new NullPointerException("Item can not be null");
+        }
+
+        long position = tail.get();
+        int index;
+        while(true) {
+            index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if(available == 0) {
+                if(tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            }
+            else if(available < 0) {
+                return false;
+            }
+            else {
+                position = tail.get();
+            }
+        }
+
+        items[index] = item;
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Takes the oldest item from the buffer.
+     * 
+     * @return The oldest item, or null if the buffer is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = head.get();
+        int index;
+        while(true) {
+            index = (int) (position & mask);
+            long ready = sequences.get(index) - (position + 1);
+            if(ready == 0) {
+                if(head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            }
+            else if(ready < 0) {
+                return null;
+            }
+            else {
+                position = head.get();
+            }
+        }
+
+        T item = (T) items[index];
+        items[index] = null;
+        sequences.set(index, position + items.length);
+        return item;
+    }
+
+    /**
+     * Gets the number of items in the buffer. This is an estimate while other
+     * threads are adding or taking items.
+     * 
+     * @return The number of items in the buffer.
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, items.length));
+    }
+
+    /**
+     * Checks to see if the buffer is empty.
+     * 
+     * @return {@link Boolean} saying if the buffer is empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the number of items the buffer can hold.
+     * 
+     * @return The capacity of the buffer.
+     */
+    public int capacity() {
+        return items.length;
+    }
+}
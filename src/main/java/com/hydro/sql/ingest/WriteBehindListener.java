@@ -0,0 +1,30 @@
+package com.hydro.sql.ingest;
+
+import java.util.List;
+
+/**
+ * Notified of the outcome of each batch written by a {@link WriteBehindQueue}.
+ * This is where a service adds its durability, such as writing failed batches
+ * to a dead letter table or file so they can be replayed.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public interface WriteBehindListener<T> {
+
+    /**
+     * Called after a batch was written.
+     * 
+     * @param rows The rows that were written.
+     */
+    default void onFlushed(List<T> rows) {}
+
+    /**
+     * Called when a batch could not be written. The rows are dropped by the queue
+     * once this returns.
+     * 
+     * @param rows  The rows that were not written.
+     * @param error The error the write failed with.
+     */
+    default void onFailed(List<T> rows, RuntimeException error) {}
+}
@@ -0,0 +1,551 @@
+package com.hydro.sql.ingest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write behind queue for high rate inserts, such as the sensor readings posted
+ * by the controllers. Callers add rows to a bounded {@link RingBuffer} and return
+ * right away, background flushers take the rows off the buffer and write them in
+ * batches through a {@link BatchWriter}, normally a dao bulk insert. A batch is
+ * written once it is full or once its oldest row has waited the max delay.
+ * 
+ * <p>
+ * When the buffer is full {@link #offer(Object)} fails and {@link #put(Object)}
+ * waits for room, so callers are slowed down instead of the queue growing
+ * without bound. Rows in the buffer are lost if the jvm stops without
+ * {@link #close()} being called, and failed batches are dropped once the
+ * {@link WriteBehindListener} has been told about them. Rows that can not be
+ * lost should be written directly with the dao.
+ * 
+ * <p>
+ * Idle flushers and blocked callers park instead of spinning. A flusher waiting
+ * on an empty buffer is woken by the next row added, and callers waiting for
+ * room are woken once a flusher takes a batch off the buffer. Both also wake on
+ * their own, backing off up to the max delay, so a missed wake up only costs
+ * latency.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class WriteBehindQueue<T> implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindQueue.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private static final AtomicInteger QUEUE_COUNT = new AtomicInteger();
+
+    private final BatchWriter<T> writer;
+
+    private int capacity = 65536;
+
+    private int batchSize = 500;
+
+    private long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private int flushers = 1;
+
+    private String name = "write-behind-" + QUEUE_COUNT.incrementAndGet();
+
+    private WriteBehindListener<T> listener = new WriteBehindListener<T>() {};
+
+    private volatile RingBuffer<Pending<T>> buffer;
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    private volatile boolean closed;
+
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private final AtomicInteger idleFlushers = new AtomicInteger();
+
+    private final ConcurrentLinkedQueue<Thread> blockedProducers = new ConcurrentLinkedQueue<>();
+
+    private long maxParkNanos;
+
+    private final AtomicLong accepted = new AtomicLong();
+
+    private final AtomicLong processed = new AtomicLong();
+
+    private final LongAdder flushed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private volatile long lagNanos;
+
+    /**
+     * Private Constructor for the static create method.
+     * 
+     * @param writer The writer of the batches.
+     */
+    private WriteBehindQueue(BatchWriter<T> writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Initialize a {@link WriteBehindQueue} that writes its batches with the given
+     * writer. The queue has to be started with {@link #start()} once it is set
+     * up.
+     * 
+     * @param <T>    The type of the rows.
+     * @param writer The writer of the batches.
+     * @return {@link WriteBehindQueue} for the writer.
+     */
+    public static <T> WriteBehindQueue<T> create(BatchWriter<T> writer) {
+        return new WriteBehindQueue<>(writer);
+    }
+
+    /**
+     * Sets the max number of rows the queue holds before callers are pushed back
+     * on. Defaults to 65536.
+     * 
+     * @param capacity The capacity of the buffer.
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public WriteBehindQueue<T> capacity(int capacity) {
+        checkNotStarted();
+        this.capacity = capacity;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows written in a single batch. Defaults to 500.
+     * 
+     * @param batchSize The max rows per batch.
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public WriteBehindQueue<T> batchSize(int batchSize) {
+        checkNotStarted();
+        if(batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets how long a row can wait for its batch to fill before the batch is
+     * written anyway. Defaults to 50ms.
+     * 
+     * @param maxDelay The max delay of a row.
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public WriteBehindQueue<T> maxDelay(Duration maxDelay) {
+        checkNotStarted();
+        this.maxDelayNanos = maxDelay.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the number of threads writing batches at the same time. Each flusher
+     * holds a connection while it writes. Defaults to 1.
+     * 
+     * @param flushers The number of flusher threads.
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public WriteBehindQueue<T> flushers(int flushers) {
+        checkNotStarted();
+        if(flushers <= 0) {
+            throw new IllegalArgumentException("Flushers must be greater than 0");
+        }
+        this.flushers = flushers;
+        return this;
+    }
+
+    /**
+     * Sets the name of the queue, used for the flusher threads and the logs.
+     * 
+     * @param name The name of the queue.
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public WriteBehindQueue<T> name(String name) {
+        checkNotStarted();
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Sets the listener told about each written and failed batch.
+     * 
+     * @param listener The listener of the batches.
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public WriteBehindQueue<T> listener(WriteBehindListener<T> listener) {
+        checkNotStarted();
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Starts the flusher threads.
+     * 
+     * @return this queue {@link WriteBehindQueue}
+     */
+    public synchronized WriteBehindQueue<T> start() {
+        checkNotStarted();
+        maxParkNanos = Math.max(IDLE_PARK_NANOS, maxDelayNanos);
+        running = true;
+        for(int i = 0; i < flushers; i++) {
+            Thread thread = new Thread(this::runFlusher, String.format("%s-%d", name, i + 1));
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        buffer = new RingBuffer<>(capacity);
+        threads.forEach(Thread::start);
+        return this;
+    }
+
+    /**
+     * Adds the row to the queue if there is room.
+     * 
+     * @param row The row to write.
+     * @return {@link Boolean} saying if the row was added, false if the queue is
+     *         full or closed.
+     */
+    public boolean offer(T row) {
+        checkStarted();
+        producers.incrementAndGet();
+        try {
+            if(closed || !buffer.offer(new Pending<>(row, System.nanoTime()))) {
+                rejected.increment();
+                return false;
+            }
+            accepted.incrementAndGet();
+            signalFlushers();
+            return true;
+        }
+        finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Adds the row to the queue, waiting for room if it is full.
+     * 
+     * @param row The row to write.
+     * @throws IllegalStateException If the queue is closed.
+     */
+    public void put(T row) {
+        if(!put(row, null)) {
+            throw new IllegalStateException("Write behind queue '" + name + "' is closed");
+        }
+    }
+
+    /**
+     * Adds the row to the queue, waiting up to the timeout for room if it is full.
+     * 
+     * @param row     The row to write.
+     * @param timeout How long to wait for room, or null to wait until there is
+     *                room.
+     * @return {@link Boolean} saying if the row was added, false if the timeout
+     *         passed or the queue is closed.
+     */
+    public boolean put(T row, Duration timeout) {
+        checkStarted();
+        producers.incrementAndGet();
+        Thread current = Thread.currentThread();
+        boolean blocked = false;
+        try {
+            Pending<T> pending = new Pending<>(row, System.nanoTime());
+            long park = IDLE_PARK_NANOS;
+            while(!closed) {
+                if(buffer.offer(pending)) {
+                    accepted.incrementAndGet();
+                    signalFlushers();
+                    return true;
+                }
+                else if(!blocked) {
+                    blockedProducers.add(current);
+                    blocked = true;
+                    continue;
+                }
+
+                long remaining = timeout == null ? park
+                        : pending.enqueuedNanos + timeout.toNanos() - System.nanoTime();
+                if(remaining <= 0 || current.isInterrupted()) {
+                    break;
+                }
+                LockSupport.parkNanos(this, Math.min(park, remaining));
+                park = Math.min(park * 2, maxParkNanos);
+            }
+
+            rejected.increment();
+            return false;
+        }
+        finally {
+            if(blocked) {
+                blockedProducers.remove(current);
+            }
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every row added before this call has been written or failed.
+     * 
+     * @param timeout How long to wait.
+     * @return {@link Boolean} saying if the rows were flushed before the timeout.
+     */
+    public boolean flush(Duration timeout) {
+        checkStarted();
+        long target = accepted.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while(processed.get() < target) {
+            if(System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Stops taking new rows, writes the rows left in the queue and stops the
+     * flusher threads. Callers that are in the middle of adding a row are waited
+     * on, so every row that was accepted is written. Any row added while the
+     * queue was closing is written on the calling thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if(buffer == null) {
+            running = false;
+            return;
+        }
+
+        while(producers.get() > 0) {
+            blockedProducers.forEach(LockSupport::unpark);
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        running = false;
+        threads.forEach(LockSupport::unpark);
+
+        for(Thread thread : threads) {
+            try {
+                thread.join();
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted while closing write behind queue '{}' with {} rows left", name,
+                            getQueueDepth());
+                return;
+            }
+        }
+        runFlusher();
+    }
+
+    /**
+     * Gets the number of rows waiting to be written.
+     * 
+     * @return The queue depth.
+     */
+    public int getQueueDepth() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    /**
+     * Gets how long the oldest row of the last batch waited before it was
+     * written.
+     * 
+     * @return The lag of the last batch.
+     */
+    public Duration getLag() {
+        return Duration.ofNanos(lagNanos);
+    }
+
+    /**
+     * Gets the number of rows that have been written.
+     * 
+     * @return The flushed row count.
+     */
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    /**
+     * Gets the number of rows in batches that failed to write.
+     * 
+     * @return The failed row count.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Gets the number of rows that were not added because the queue was full or
+     * closed.
+     * 
+     * @return The rejected row count.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets the number of batches that have been written or failed.
+     * 
+     * @return The batch count.
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Gets the name of the queue.
+     * 
+     * @return The queue name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Takes batches off the buffer and writes them until the queue is closed and
+     * the buffer is empty.
+     */
+    private void runFlusher() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while(true) {
+            Pending<T> first = buffer.poll();
+            if(first == null) {
+                if(!running) {
+                    return;
+                }
+                awaitRows();
+                continue;
+            }
+
+            batch.add(first.row);
+            long deadline = first.enqueuedNanos + maxDelayNanos;
+            while(batch.size() < batchSize) {
+                Pending<T> next = buffer.poll();
+                if(next != null) {
+                    batch.add(next.row);
+                }
+                else if(!running || System.nanoTime() >= deadline) {
+                    break;
+                }
+                else {
+                    LockSupport.parkNanos(this, Math.min(IDLE_PARK_NANOS, deadline - System.nanoTime()));
+                }
+            }
+
+            signalProducers();
+            writeBatch(batch, first.enqueuedNanos);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * Parks the flusher until a row is added or the max delay has passed. The
+     * flusher is counted as idle before the buffer is checked again, so a row
+     * added in between either is seen here or wakes the flusher.
+     */
+    private void awaitRows() {
+        idleFlushers.incrementAndGet();
+        try {
+            if(running && buffer.isEmpty()) {
+                LockSupport.parkNanos(this, maxParkNanos);
+            }
+        }
+        finally {
+            idleFlushers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Wakes the flushers if any of them are waiting on an empty buffer.
+     */
+    private void signalFlushers() {
+        if(idleFlushers.get() > 0) {
+            threads.forEach(LockSupport::unpark);
+        }
+    }
+
+    /**
+     * Wakes the callers waiting for room in the buffer.
+     */
+    private void signalProducers() {
+        if(!blockedProducers.isEmpty()) {
+            blockedProducers.forEach(LockSupport::unpark);
+        }
+    }
+
+    /**
+     * Writes the batch and tells the listener how it went.
+     * 
+     * @param batch         The rows to write.
+     * @param oldestEnqueue When the oldest row of the batch was added.
+     */
+    private void writeBatch(List<T> batch, long oldestEnqueue) {
+        RuntimeException error = null;
+        try {
+            writer.write(batch);
+            lagNanos = System.nanoTime() - oldestEnqueue;
+            flushed.add(batch.size());
+        }
+        catch(RuntimeException e) {
+            error = e;
+            failed.add(batch.size());
+            LOGGER.error("Write behind queue '{}' failed to write {} rows", name, batch.size(), e);
+        }
+
+        try {
+            if(error == null) {
+                listener.onFlushed(batch);
+            }
+            else {
+                listener.onFailed(batch, error);
+            }
+        }
+        catch(RuntimeException e) {
+            LOGGER.error("Write behind listener of '{}' failed", name, e);
+        }
+        finally {
+            batches.increment();
+            processed.addAndGet(batch.size());
+        }
+    }
+
+    private void checkNotStarted() {
+        if(buffer != null) {
+            throw new IllegalStateException("Write behind queue '" + name + "' has already been started");
+        }
+    }
+
+    private void checkStarted() {
+        if(buffer == null) {
+            throw new IllegalStateException("Write behind queue '" + name + "' has not been started");
+        }
+    }
+
+    /**
+     * A row waiting in the buffer with the time it was added.
+     */
+    private static class Pending<T> {
+        private final T row;
+
+        private final long enqueuedNanos;
+
+        private Pending(T row, long enqueuedNanos) {
+            this.row = row;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
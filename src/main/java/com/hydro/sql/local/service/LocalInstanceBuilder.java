@@ -1,24 +1,21 @@
 package com.hydro.sql.local.service;
 
-import java.io.File;
-import java.nio.file.Files;
-
 import javax.sql.DataSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.jdbc.DataSourceBuilder;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import com.hydro.sql.builder.DatabaseConnectionBuilder;
 import com.hydro.sql.local.dao.LocalInstanceBuilderDAO;
+import com.hydro.sql.migration.MigrationRunner;
+import com.hydro.sql.snapshot.SchemaSnapshot;
 
 /**
  * Local instance builder if the application-local.properties is running on a
  * local environment. It will create the appropriate schema if it doesn't
- * already exist.
+ * already exist. An embedded in memory url can also be used, which runs the
+ * migrations against an H2 database in MySQL mode without a MySQL server.
  * 
  * @author Sam Butler
  * @since May 29, 2022
@@ -29,7 +26,7 @@ public class LocalInstanceBuilder {
 
     private static final String LOCAL_HOST = "localhost";
 
-    private static final String DRIVER_CLASSNAME = "com.mysql.cj.jdbc.Driver";
+    private static final String LOCAL_SCHEMA = "hydro_db_dev__local";
 
     /**
      * Checks to see if the application from the application-local.properties is a
@@ -38,7 +35,18 @@ public class LocalInstanceBuilder {
      * @return {@link Boolean} saying if it is a local serve or not.
      */
     public static boolean isLocalServe(String dbUrl) {
-        return dbUrl.toLowerCase().contains(LOCAL_HOST);
+        return dbUrl.toLowerCase().contains(LOCAL_HOST) || isEmbeddedServe(dbUrl);
+    }
+
+    /**
+     * Checks to see if the application is using an embedded in memory database,
+     * such as {@code jdbc:h2:mem:hydro_db}.
+     * 
+     * @param dbUrl The url of the database.
+     * @return {@link Boolean} saying if it is an embedded serve or not.
+     */
+    public static boolean isEmbeddedServe(String dbUrl) {
+        return DatabaseConnectionBuilder.isEmbeddedUrl(dbUrl);
     }
 
     /**
@@ -48,66 +56,97 @@ public class LocalInstanceBuilder {
      * @return {@link DataSource} object with the updated url.
      */
     public static DataSource create(DatabaseConnectionBuilder builder) {
+        if(builder.isEmbedded()) {
+            return createEmbedded(builder);
+        }
+
         LOGGER.info("Local Database Application Initializing...");
         DriverManagerDataSource source = builder.allowPublicKeyRetrieval(true).allowMultiQueries(true)
                 .buildManagerSource();
-        return initLocalDatabase(source);
+        return initLocalDatabase(builder, source);
     }
 
     /**
-     * Initialize the local database if needed. If the database already exists then
-     * it will just create the new {@link Datasource} with the updated schema name.
-     * Otherwise it will create the schema and run the migration scripts against the
-     * local database.
+     * Creates an embedded in memory database with the given name and applies the
+     * migration scripts to it. This is used by dao tests and benchmarks so they
+     * can run in process without a MySQL server.
      * 
-     * @param src The source of the local database.
+     * @param name The name of the in memory database.
+     * @return {@link DataSource} of the migrated database.
+     */
+    public static DataSource createEmbedded(String name) {
+        return createEmbedded(DatabaseConnectionBuilder.create().embedded(name));
+    }
+
+    /**
+     * Creates the embedded in memory database for the builder and applies the
+     * migration scripts to it. The daos use the MySQL ElSql config, which the
+     * MySQL mode of H2 understands, so no dialect changes are needed.
+     * 
+     * @param builder The embedded builder.
+     * @return {@link DataSource} of the migrated database.
+     */
+    private static DataSource createEmbedded(DatabaseConnectionBuilder builder) {
+        LOGGER.info("Embedded Database Application Initializing...");
+        DataSource source = builder.build();
+        runMigrations(source, false);
+        LOGGER.info("Embedded Database Initialized!");
+        return source;
+    }
+
+    /**
+     * Initialize the local database if needed. If the schema does not exist it
+     * will be restored from the local snapshot, or created empty when there is
+     * no snapshot yet. The migration scripts are then applied to the local
+     * schema, only the scripts that are new since the last run are applied. A
+     * script that has changed since it was applied fails the migration. A
+     * schema created before the migration history was tracked is baselined
+     * instead of running every script again.
+     * 
+     * A new schema is captured into the snapshot once it has been migrated, so
+     * the next new schema only has to apply the scripts added since then. A schema
+     * that already existed is never captured, since it may hold local changes.
+     * 
+     * @param builder The builder used to create the local datasource.
+     * @param src     The source of the local database.
      * @return {@link Datasource} with the updated local instance.
      */
-    private static DataSource initLocalDatabase(DriverManagerDataSource src) {
+    private static DataSource initLocalDatabase(DatabaseConnectionBuilder builder, DriverManagerDataSource src) {
         LocalInstanceBuilderDAO dao = new LocalInstanceBuilderDAO(src);
+        SchemaSnapshot snapshot = SchemaSnapshot.forSchema(src, LOCAL_SCHEMA);
 
-        if(dao.doesSchemaExist("hydro_db_dev__local")) {
-            src.setUrl(src.getUrl().replace("?", "/hydro_db_dev__local?"));
+        boolean schemaExists = dao.doesSchemaExist(LOCAL_SCHEMA);
+        boolean snapshotExists = !schemaExists && snapshot.exists();
+        if(snapshotExists) {
+            snapshot.restore(LOCAL_SCHEMA);
         }
-        else {
+        else if(!schemaExists) {
             dao.createLocalSchema();
-            src.setUrl(src.getUrl().replace("?", "/hydro_db_dev__local?"));
-            createTables(src);
         }
 
-        LOGGER.info("Local Database Initialized!");
-        return buildLocalDataSource(src);
-    }
+        DataSource source = builder.database(LOCAL_SCHEMA).build();
+        int applied = runMigrations(source, schemaExists);
+        if(!schemaExists && (!snapshotExists || applied > 0)) {
+            snapshot.capture(LOCAL_SCHEMA);
+        }
 
-    /**
-     * Creates a new datasource for the local user instance.
-     * 
-     * @param source The original source.
-     * @return {@link DataSource} with the updated instance.
-     */
-    private static DataSource buildLocalDataSource(DriverManagerDataSource source) {
-        return DataSourceBuilder.create().driverClassName(DRIVER_CLASSNAME).username(source.getUsername())
-                .password(source.getPassword()).url(source.getUrl()).build();
+        LOGGER.info("Local Database Initialized!");
+        return source;
     }
 
     /**
-     * Method that will take all the db scripts in the db/migration folder and apply
-     * them to the local schema. If the script can not be run it will move onto the
-     * next one without haulting the rest.
+     * Applies the db/migration scripts on the classpath to the local schema.
+     * Scripts are run in version order, with scripts that do not share tables
+     * run in parallel over the pooled connections.
      * 
-     * @param source The local {@link DriverManagerDataSource}.
+     * @param source       The pooled source of the local schema.
+     * @param schemaExists If the schema existed before this run.
+     * @return The number of scripts that were applied.
      */
-    private static void createTables(DriverManagerDataSource source) {
+    private static int runMigrations(DataSource source, boolean schemaExists) {
         LOGGER.info("Running scripts against local database...");
-        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(source);
-        for(File file : new File("./src/main/resources/db/migration").listFiles()) {
-            try {
-                template.update(Files.readString(file.toPath()), new MapSqlParameterSource());
-            }
-            catch(Exception e) {
-                LOGGER.warn("Error running SQL script '{}'", file.getName());
-            }
-        }
-        LOGGER.info("Scripts complete!");
+        int applied = MigrationRunner.create(source).baselineOnMigrate(schemaExists).run();
+        LOGGER.info("Scripts complete! {} scripts applied.", applied);
+        return applied;
     }
 }
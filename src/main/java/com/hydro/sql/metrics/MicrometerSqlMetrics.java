@@ -0,0 +1,98 @@
+package com.hydro.sql.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.hydro.sql.ingest.WriteBehindQueue;
+import com.hydro.sql.retry.CircuitBreaker;
+import com.hydro.sql.retry.RetryPolicy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link SqlMetrics} that records the queries to a Micrometer
+ * {@link MeterRegistry}. Each query is recorded to the {@code hydro.sql.query}
+ * timer and the {@code hydro.sql.rows} summary, tagged by the dao, fragment,
+ * operation and outcome. Retries are counted by the {@code hydro.sql.retries}
+ * counter. Micrometer is not a dependency of this library, the
+ * service using this class needs it on the classpath.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MicrometerSqlMetrics implements SqlMetrics {
+    private static final String QUERY_TIMER = "hydro.sql.query";
+
+    private static final String ROWS_SUMMARY = "hydro.sql.rows";
+
+    private static final String RETRY_COUNTER = "hydro.sql.retries";
+
+    private final MeterRegistry registry;
+
+    public MicrometerSqlMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void record(String dao, String fragment, String operation, long durationNanos, int rows,
+            boolean success) {
+        String outcome = success ? "success" : "error";
+        Timer.builder(QUERY_TIMER).tag("dao", dao).tag("fragment", fragment).tag("operation", operation)
+                .tag("outcome", outcome).register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+        if(success) {
+            DistributionSummary.builder(ROWS_SUMMARY).tag("dao", dao).tag("fragment", fragment)
+                    .tag("operation", operation).register(registry).record(rows);
+        }
+    }
+
+    @Override
+    public void recordRetry(String dao, String fragment, String operation, String error) {
+        Counter.builder(RETRY_COUNTER).tag("dao", dao).tag("fragment", fragment).tag("operation", operation)
+                .tag("error", error).register(registry).increment();
+    }
+
+    /**
+     * Registers the exhausted retry count of the policy and the trip and rejected
+     * counts of its circuit breaker with the registry.
+     * 
+     * @param name   The name to tag the meters with, such as the pool name.
+     * @param policy The policy to register.
+     */
+    public void bindRetryPolicy(String name, RetryPolicy policy) {
+        FunctionCounter.builder("hydro.sql.retries.exhausted", policy, RetryPolicy::getExhaustedCount)
+                .tag("policy", name).register(registry);
+
+        CircuitBreaker breaker = policy.getCircuitBreaker();
+        if(breaker != null) {
+            FunctionCounter.builder("hydro.sql.circuit.trips", breaker, CircuitBreaker::getTripCount)
+                    .tag("policy", name).register(registry);
+            FunctionCounter.builder("hydro.sql.circuit.rejected", breaker, CircuitBreaker::getRejectedCount)
+                    .tag("policy", name).register(registry);
+        }
+    }
+
+    /**
+     * Registers the depth, lag and row counts of the write behind queue with the
+     * registry, tagged with the name of the queue.
+     * 
+     * @param queue The queue to register.
+     */
+    public void bindWriteBehindQueue(WriteBehindQueue<?> queue) {
+        String name = queue.getName();
+        Gauge.builder("hydro.sql.writebehind.depth", queue, WriteBehindQueue::getQueueDepth).tag("queue", name)
+                .register(registry);
+        TimeGauge.builder("hydro.sql.writebehind.lag", queue, TimeUnit.NANOSECONDS, q -> q.getLag().toNanos())
+                .tag("queue", name).register(registry);
+        FunctionCounter.builder("hydro.sql.writebehind.flushed", queue, WriteBehindQueue::getFlushedCount)
+                .tag("queue", name).register(registry);
+        FunctionCounter.builder("hydro.sql.writebehind.failed", queue, WriteBehindQueue::getFailedCount)
+                .tag("queue", name).register(registry);
+        FunctionCounter.builder("hydro.sql.writebehind.rejected", queue, WriteBehindQueue::getRejectedCount)
+                .tag("queue", name).register(registry);
+    }
+}
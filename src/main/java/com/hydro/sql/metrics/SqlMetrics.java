@@ -0,0 +1,43 @@
+package com.hydro.sql.metrics;
+
+/**
+ * Receives the timing and row counts of the queries run by the daos. This can
+ * be backed by any metrics library, see {@link MicrometerSqlMetrics} for
+ * Micrometer.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public interface SqlMetrics {
+
+    /**
+     * Metrics that drop every query. Daos skip all timing when this is set and no
+     * slow query threshold is configured.
+     */
+    SqlMetrics NOOP = (dao, fragment, operation, durationNanos, rows, success) -> {};
+
+    /**
+     * Records a query that was run against the database.
+     * 
+     * @param dao           The simple name of the dao class that ran the query.
+     * @param fragment      The name of the elsql fragment, or {@code unknown} if
+     *                      the sql did not come from a fragment.
+     * @param operation     The dao operation, such as {@code get} or
+     *                      {@code update}.
+     * @param durationNanos How long the query took in nanoseconds.
+     * @param rows          The rows returned or affected by the query.
+     * @param success       If the query completed without an error.
+     */
+    void record(String dao, String fragment, String operation, long durationNanos, int rows, boolean success);
+
+    /**
+     * Records a query that failed with a transient error and is being retried.
+     * 
+     * @param dao       The simple name of the dao class that ran the query.
+     * @param fragment  The name of the elsql fragment, or {@code unknown} if the
+     *                  sql did not come from a fragment.
+     * @param operation The dao operation, such as {@code get} or {@code update}.
+     * @param error     The type of the error the query failed with.
+     */
+    default void recordRetry(String dao, String fragment, String operation, String error) {}
+}
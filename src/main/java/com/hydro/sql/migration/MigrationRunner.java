@@ -0,0 +1,296 @@
+package com.hydro.sql.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import com.hydro.sql.migration.dao.MigrationHistoryDAO;
+
+/**
+ * Runs the migration scripts against a schema in version order. The checksum of
+ * each applied script is recorded in the {@code schema_migration_history}
+ * table, so applied scripts are skipped on the next run. An applied script that
+ * has changed fails the migration before any script is run, the change should
+ * go in a new script instead. Scripts that do not touch the same tables are run
+ * at the same time, each on its own connection from the datasource.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MigrationRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MigrationRunner.class);
+
+    public static final String DEFAULT_LOCATION = "classpath*:db/migration/*.sql";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final DataSource source;
+
+    private final MigrationHistoryDAO historyDao;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    private boolean baselineOnMigrate = false;
+
+    /**
+     * Private Constructor for the static create method.
+     *
+     * @param source The datasource of the schema to migrate.
+     */
+    private MigrationRunner(DataSource source) {
+        this.source = source;
+        this.historyDao = new MigrationHistoryDAO(source);
+    }
+
+    /**
+     * Initialize the {@link MigrationRunner} for the given datasource. A pooled
+     * datasource should be used so the scripts can run in parallel.
+     *
+     * @param source The datasource of the schema to migrate.
+     * @return {@link MigrationRunner} for the datasource.
+     */
+    public static MigrationRunner create(DataSource source) {
+        return new MigrationRunner(source);
+    }
+
+    /**
+     * Sets the max number of scripts to run at the same time. Defaults to
+     * {@value #DEFAULT_PARALLELISM}.
+     *
+     * @param parallelism The max scripts to run at once.
+     * @return this runner {@link MigrationRunner}
+     */
+    public MigrationRunner parallelism(int parallelism) {
+        if(parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Records all the scripts as applied without running them when the schema does
+     * not have a history table yet. This is used for schemas that were created
+     * before the history was tracked.
+     *
+     * @param baselineOnMigrate If a schema without history should be baselined.
+     * @return this runner {@link MigrationRunner}
+     */
+    public MigrationRunner baselineOnMigrate(boolean baselineOnMigrate) {
+        this.baselineOnMigrate = baselineOnMigrate;
+        return this;
+    }
+
+    /**
+     * Loads the scripts from the given location and applies the ones that are
+     * new.
+     *
+     * @param location The resource pattern of the scripts, such as
+     *                 {@value #DEFAULT_LOCATION}.
+     * @return The number of scripts that were applied.
+     */
+    public int run(String location) {
+        return migrate(load(location));
+    }
+
+    /**
+     * Loads the scripts from the default {@value #DEFAULT_LOCATION} location and
+     * applies the ones that are new.
+     *
+     * @return The number of scripts that were applied.
+     */
+    public int run() {
+        return run(DEFAULT_LOCATION);
+    }
+
+    /**
+     * Loads all the scripts that match the given resource pattern. The pattern can
+     * point to the classpath, including jars, or to the file system.
+     *
+     * @param location The resource pattern of the scripts.
+     * @return List of the scripts in version order.
+     */
+    public static List<MigrationScript> load(String location) {
+        try {
+            List<MigrationScript> scripts = new ArrayList<>();
+            for(Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+                try(InputStream in = resource.getInputStream()) {
+                    scripts.add(MigrationScript.of(resource.getFilename(),
+                                                   new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+                }
+            }
+            Collections.sort(scripts);
+            return scripts;
+        }
+        catch(IOException e) {
+            throw new IllegalStateException("Unable to load migration scripts from '" + location + "'", e);
+        }
+    }
+
+    /**
+     * Applies the given scripts that have not been applied yet. The scripts are
+     * run in waves, every script in a wave only depends on scripts in earlier
+     * waves. If a script fails the rest of its wave is finished and no further
+     * waves are run.
+     *
+     * @param scripts The scripts to apply.
+     * @return The number of scripts that were applied.
+     * @throws IllegalStateException If an applied script has changed since it was
+     *                               applied.
+     */
+    public int migrate(List<MigrationScript> scripts) {
+        boolean baseline = baselineOnMigrate && !historyDao.doesHistoryTableExist();
+        historyDao.createHistoryTable();
+        if(baseline) {
+            scripts.forEach(script -> historyDao.saveMigration(script, 0));
+            LOGGER.info("Baselined {} migration scripts", scripts.size());
+            return 0;
+        }
+
+        Map<String, Integer> applied = historyDao.getAppliedChecksums();
+        List<MigrationScript> pending = new ArrayList<>();
+        for(MigrationScript script : scripts) {
+            Integer checksum = applied.get(script.getName());
+            if(checksum == null) {
+                pending.add(script);
+            }
+            else if(checksum != script.getChecksum()) {
+                throw new IllegalStateException("Migration script '" + script.getName()
+                        + "' has changed since it was applied, checksum mismatch (applied " + checksum + ", resolved "
+                        + script.getChecksum() + ")");
+            }
+        }
+
+        if(pending.isEmpty()) {
+            LOGGER.info("Schema is up to date, no migration scripts to run");
+            return 0;
+        }
+
+        Collections.sort(pending);
+        List<List<MigrationScript>> waves = plan(pending);
+        int threads = Math.min(parallelism, waves.stream().mapToInt(List::size).max().orElse(1));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, migrationThreadFactory());
+        try {
+            for(List<MigrationScript> wave : waves) {
+                runWave(wave, executor);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        LOGGER.info("Applied {} migration scripts in {} waves", pending.size(), waves.size());
+        return pending.size();
+    }
+
+    /**
+     * Splits the scripts into waves that can run in parallel. Each script is put
+     * in the wave after the last script it depends on.
+     *
+     * @param scripts The scripts in version order.
+     * @return List of the waves in the order they have to run.
+     */
+    static List<List<MigrationScript>> plan(List<MigrationScript> scripts) {
+        int[] waveOf = new int[scripts.size()];
+        List<List<MigrationScript>> waves = new ArrayList<>();
+        for(int i = 0; i < scripts.size(); i++) {
+            int wave = 0;
+            for(int j = 0; j < i; j++) {
+                if(waveOf[j] >= wave && scripts.get(i).dependsOn(scripts.get(j))) {
+                    wave = waveOf[j] + 1;
+                }
+            }
+
+            waveOf[i] = wave;
+            if(wave == waves.size()) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(wave).add(scripts.get(i));
+        }
+        return waves;
+    }
+
+    /**
+     * Runs all the scripts of a wave on the executor and waits for them to finish.
+     *
+     * @param wave     The scripts to run.
+     * @param executor The executor to run them on.
+     */
+    private void runWave(List<MigrationScript> wave, ExecutorService executor) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(wave.size());
+        for(MigrationScript script : wave) {
+            futures.add(CompletableFuture.runAsync(() -> runScript(script), executor));
+        }
+
+        IllegalStateException failure = null;
+        for(int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).join();
+            }
+            catch(CompletionException e) {
+                IllegalStateException scriptFailure = new IllegalStateException("Migration script '"
+                        + wave.get(i).getName() + "' failed", e.getCause());
+                if(failure == null) {
+                    failure = scriptFailure;
+                }
+                else {
+                    failure.addSuppressed(scriptFailure);
+                }
+            }
+        }
+
+        if(failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Runs a single script on its own connection and records it in the history.
+     *
+     * @param script The script to run.
+     */
+    private void runScript(MigrationScript script) {
+        long start = System.currentTimeMillis();
+        EncodedResource resource = new EncodedResource(new ByteArrayResource(script.getSql()
+                .getBytes(StandardCharsets.UTF_8), script.getName()), StandardCharsets.UTF_8);
+        new JdbcTemplate(source).execute((ConnectionCallback<Void>) con -> {
+            ScriptUtils.executeSqlScript(con, resource);
+            return null;
+        });
+
+        long executionTime = System.currentTimeMillis() - start;
+        historyDao.saveMigration(script, executionTime);
+        LOGGER.info("Ran migration script '{}' in {}ms", script.getName(), executionTime);
+    }
+
+    private static ThreadFactory migrationThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sql-migration-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,260 @@
+package com.hydro.sql.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * Migration script with the version parsed from its file name. Scripts are
+ * named like {@code V1_2__create_users.sql}, the version is the part before the
+ * double underscore. Scripts without a version run after the versioned ones in
+ * name order.
+ * 
+ * <p>
+ * The tables a script touches are read from its sql so scripts that do not
+ * share a table can run at the same time. Each statement has to start with a
+ * known table statement, such as {@code CREATE TABLE}, {@code INSERT INTO} or
+ * {@code RENAME TABLE}. A script with a statement that can not be read this
+ * way, or that does not touch any known table, runs on its own after every
+ * script before it.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MigrationScript implements Comparable<MigrationScript> {
+    private static final Pattern VERSION = Pattern.compile("^[Vv]?(\\d+(?:[._]\\d+)*)(?:__|_|-|\\.sql$|$)");
+
+    private static final String NAME = "[`\"]?([\\w$]+(?:[`\"]?\\.[`\"]?[\\w$]+)?)[`\"]?";
+
+    private static final String INDEX_NAME = "(?:IF\\s+(?:NOT\\s+)?EXISTS\\s+)?[`\"]?[\\w$]+[`\"]?\\s+ON";
+
+    private static final Pattern STATEMENT = Pattern
+            .compile("\\s*(?:CREATE\\s+(?:TEMPORARY\\s+)?TABLE(?:\\s+IF\\s+NOT\\s+EXISTS)?|ALTER\\s+TABLE"
+                    + "|DROP\\s+(?:TABLE|VIEW)(?:\\s+IF\\s+EXISTS)?|TRUNCATE(?:\\s+TABLE)?|RENAME\\s+TABLE"
+                    + "|CREATE\\s+(?:OR\\s+REPLACE\\s+)?VIEW"
+                    + "|CREATE\\s+(?:UNIQUE\\s+|FULLTEXT\\s+|SPATIAL\\s+)?INDEX\\s+" + INDEX_NAME
+                    + "|DROP\\s+INDEX\\s+" + INDEX_NAME + "|INSERT\\s+(?:IGNORE\\s+)?INTO|REPLACE\\s+INTO"
+                    + "|UPDATE(?:\\s+IGNORE)?|DELETE\\s+FROM)\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern TABLE = Pattern
+            .compile("\\b(?:REFERENCES|FROM|JOIN|RENAME\\s+(?:TO|AS))\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern RENAME_TABLE = Pattern.compile("\\s*RENAME\\s+TABLE\\s", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern RENAME_PAIR = Pattern.compile(NAME + "\\s+TO\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+
+    private final String name;
+
+    private final String sql;
+
+    private final List<Long> version;
+
+    private final int checksum;
+
+    private final Set<String> tables;
+
+    private final boolean isolated;
+
+    /**
+     * Private Constructor for the static of method.
+     * 
+     * @param name The file name of the script.
+     * @param sql  The sql of the script.
+     */
+    private MigrationScript(String name, String sql) {
+        this.name = name;
+        this.sql = sql;
+        this.version = parseVersion(name);
+        this.checksum = checksum(sql);
+        Set<String> names = new HashSet<>();
+        this.isolated = !parseTables(sql, names) || names.isEmpty();
+        this.tables = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Creates a migration script.
+     * 
+     * @param name The file name of the script.
+     * @param sql  The sql of the script.
+     * @return {@link MigrationScript} for the sql.
+     */
+    public static MigrationScript of(String name, String sql) {
+        return new MigrationScript(name, sql);
+    }
+
+    /**
+     * Gets the file name of the script.
+     * 
+     * @return The script name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the sql of the script.
+     * 
+     * @return The script sql.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Gets the version of the script, such as {@code 1.2}.
+     * 
+     * @return The version, or null if the script is not versioned.
+     */
+    public String getVersion() {
+        if(version.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder value = new StringBuilder();
+        for(Long part : version) {
+            value.append(value.length() == 0 ? "" : ".").append(part);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Gets the CRC32 checksum of the script. Line endings are ignored so the same
+     * script checked out on a different os has the same checksum.
+     * 
+     * @return The script checksum.
+     */
+    public int getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Gets the lower case names of the tables the script touches.
+     * 
+     * @return Set of the table names.
+     */
+    public Set<String> getTables() {
+        return tables;
+    }
+
+    /**
+     * Checks if the script has to run on its own, because it has a statement that
+     * can not be read or it does not touch any known table.
+     * 
+     * @return If the script runs on its own.
+     */
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    /**
+     * Checks if this script has to run after the given earlier script. That is
+     * the case when they touch the same table or when either of them is
+     * {@link #isIsolated() isolated}.
+     * 
+     * @param earlier The script that comes before this one.
+     * @return If this script depends on the earlier script.
+     */
+    public boolean dependsOn(MigrationScript earlier) {
+        if(isolated || earlier.isolated) {
+            return true;
+        }
+        return !Collections.disjoint(tables, earlier.tables);
+    }
+
+    @Override
+    public int compareTo(MigrationScript other) {
+        if(version.isEmpty() != other.version.isEmpty()) {
+            return version.isEmpty() ? 1 : -1;
+        }
+
+        for(int i = 0; i < Math.min(version.size(), other.version.size()); i++) {
+            int compare = Long.compare(version.get(i), other.version.get(i));
+            if(compare != 0) {
+                return compare;
+            }
+        }
+
+        int compare = Integer.compare(version.size(), other.version.size());
+        return compare != 0 ? compare : name.compareTo(other.name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static List<Long> parseVersion(String name) {
+        Matcher matcher = VERSION.matcher(name);
+        if(!matcher.find()) {
+            return List.of();
+        }
+
+        List<Long> parts = new ArrayList<>();
+        for(String part : matcher.group(1).split("[._]")) {
+            parts.add(Long.valueOf(part));
+        }
+        return Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * Adds the tables touched by each statement of the sql to the given set.
+     * 
+     * @param sql   The sql of the script.
+     * @param names The set to add the table names to.
+     * @return If every statement could be read.
+     */
+    private static boolean parseTables(String sql, Set<String> names) {
+        List<String> statements = new ArrayList<>();
+        try {
+            ScriptUtils.splitSqlScript(sql, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR, statements);
+        }
+        catch(ScriptException e) {
+            return false;
+        }
+
+        boolean readable = true;
+        for(String statement : statements) {
+            Matcher matcher = STATEMENT.matcher(statement);
+            if(!matcher.lookingAt()) {
+                readable = false;
+                continue;
+            }
+            addTable(names, matcher.group(1));
+
+            Matcher tables = TABLE.matcher(statement).region(matcher.end(), statement.length());
+            while(tables.find()) {
+                addTable(names, tables.group(1));
+            }
+
+            if(RENAME_TABLE.matcher(statement).lookingAt()) {
+                Matcher pairs = RENAME_PAIR.matcher(statement);
+                while(pairs.find()) {
+                    addTable(names, pairs.group(1));
+                    addTable(names, pairs.group(2));
+                }
+            }
+        }
+        return readable;
+    }
+
+    private static void addTable(Set<String> names, String name) {
+        String table = name.replace("`", "").replace("\"", "").toLowerCase(Locale.ROOT);
+        names.add(table.substring(table.lastIndexOf('.') + 1));
+    }
+
+    private static int checksum(String sql) {
+        CRC32 crc = new CRC32();
+        crc.update(sql.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+}
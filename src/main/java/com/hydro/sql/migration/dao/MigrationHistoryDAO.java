@@ -0,0 +1,73 @@
+package com.hydro.sql.migration.dao;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.hydro.sql.abstracts.BaseDao;
+import com.hydro.sql.builder.SqlParamBuilder;
+import com.hydro.sql.migration.MigrationScript;
+
+/**
+ * Migration history dao for tracking the scripts applied to a schema.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MigrationHistoryDAO extends BaseDao {
+
+    public MigrationHistoryDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Checks to see if the history table has been created on the schema.
+     * 
+     * @return {@link Boolean} determining if the history table exists.
+     */
+    public boolean doesHistoryTableExist() {
+        try {
+            get(getSql("countHistory"), Integer.class);
+            return true;
+        }
+        catch(Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates the history table if it does not exist yet.
+     */
+    public void createHistoryTable() {
+        execute(getSql("createHistoryTable"));
+    }
+
+    /**
+     * Gets the checksum of every script that has been applied.
+     * 
+     * @return {@link Map} of the script names to their checksums.
+     */
+    public Map<String, Integer> getAppliedChecksums() {
+        return getPage(getSql("getAppliedMigrations"),
+                       (rs, rowNum) -> Map.entry(rs.getString("script"), rs.getInt("checksum"))).stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Records the script as applied with its current checksum.
+     * 
+     * @param script          The script that was applied.
+     * @param executionTimeMs How long the script took to run.
+     */
+    public void saveMigration(MigrationScript script, long executionTimeMs) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("script", script.getName())
+                .withParam("version", script.getVersion()).withParam("checksum", script.getChecksum())
+                .withParam("execution_time_ms", executionTimeMs).build();
+        if(update(getSql("updateMigration", params), params) == 0) {
+            post(getSql("insertMigration", params), params);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.hydro.sql.paging;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Ordered key columns used to seek to the next page of a query instead of
+ * skipping rows with an offset. The elsql fragment is given the key values of
+ * the last row of the previous page and the page fetch size as params.
+ * 
+ * <pre>
+ * &#64;NAME(getReadingsPage)
+ *     SELECT * FROM sensor_readings
+ *     &#64;WHERE
+ *         &#64;AND(:system_id)
+ *             system_id = :system_id
+ *         &#64;AND(:after_id)
+ *             id > :after_id
+ *     ORDER BY id
+ *     LIMIT :page_fetch
+ * </pre>
+ * 
+ * The elsql {@code @FETCH(:page_fetch)} tag works as well, but it writes the
+ * value into the sql so the fragments of the bundle can no longer be cached by
+ * param shape. For a key of more than one column, compare all of them at once, such as
+ * {@code (insert_date_utc, id) > (:after_insert_date_utc, :after_id)}. The key
+ * columns need to be unique together, not null and match the order by of the
+ * query.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class Keyset {
+    public static final String AFTER_PREFIX = "after_";
+
+    public static final String PAGE_FETCH = "page_fetch";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final char SEPARATOR = '\u001f';
+
+    private final List<String> columns;
+
+    /**
+     * Private Constructor for the static on method.
+     * 
+     * @param columns The key columns.
+     */
+    private Keyset(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a keyset on the given columns, in the order of the query.
+     * 
+     * @param columns The key columns.
+     * @return {@link Keyset} for the columns.
+     */
+    public static Keyset on(String... columns) {
+        if(columns.length == 0) {
+            throw new IllegalArgumentException("Keyset needs at least one column");
+        }
+        return new Keyset(List.of(columns));
+    }
+
+    /**
+     * Gets the key columns.
+     * 
+     * @return List of the columns.
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Adds the keyset params to the query params. The key values of the page token
+     * are added as {@code after_<column>} and the number of rows to fetch as
+     * {@value #PAGE_FETCH}. One more row than the page size is fetched to know if
+     * there is a next page.
+     * 
+     * @param params    The params of the query.
+     * @param pageToken The token of the page to get, or null for the first page.
+     * @param pageSize  The number of rows in a page.
+     * @return The given params.
+     */
+    public MapSqlParameterSource bind(MapSqlParameterSource params, String pageToken, int pageSize) {
+        if(pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+
+        if(pageToken != null) {
+            Object[] values = decode(pageToken);
+            for(int i = 0; i < columns.size(); i++) {
+                params.addValue(AFTER_PREFIX + columns.get(i), values[i]);
+            }
+        }
+        params.addValue(PAGE_FETCH, pageSize + 1);
+        return params;
+    }
+
+    /**
+     * Encodes the key values of a row into an opaque page token. A null key can
+     * not be compared against, so the next page would start over from the first
+     * page and is rejected instead.
+     * 
+     * @param values The key values in column order.
+     * @return The page token.
+     * @throws IllegalArgumentException If one of the key values is null.
+     */
+    public String encode(Object[] values) {
+        StringBuilder token = new StringBuilder();
+        for(int i = 0; i < columns.size(); i++) {
+            if(i > 0) {
+                token.append(SEPARATOR);
+            }
+            if(values[i] == null) {
+                throw new IllegalArgumentException(String.format("Keyset column '%s' can not be null", columns.get(i)));
+            }
+            token.append(columns.get(i)).append('=');
+            encodeValue(token, values[i]);
+        }
+        return ENCODER.encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the key values of the given page token.
+     * 
+     * @param pageToken The page token.
+     * @return The key values in column order.
+     */
+    public Object[] decode(String pageToken) {
+        String token;
+        try {
+            token = new String(DECODER.decode(pageToken), StandardCharsets.UTF_8);
+        }
+        catch(IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token '" + pageToken + "'", e);
+        }
+
+        String[] parts = token.split(String.valueOf(SEPARATOR), -1);
+        if(parts.length != columns.size()) {
+            throw new IllegalArgumentException("Invalid page token '" + pageToken + "'");
+        }
+
+        Object[] values = new Object[parts.length];
+        for(int i = 0; i < parts.length; i++) {
+            String prefix = columns.get(i) + "=";
+            if(!parts[i].startsWith(prefix) || parts[i].length() < prefix.length() + 1) {
+                throw new IllegalArgumentException("Invalid page token '" + pageToken + "'");
+            }
+            values[i] = decodeValue(parts[i].charAt(prefix.length()), parts[i].substring(prefix.length() + 1),
+                                    pageToken);
+        }
+        return values;
+    }
+
+    /**
+     * Writes the value with a type code so it is bound with the same type when
+     * the token is decoded.
+     * 
+     * @param token The token being built.
+     * @param value The key value.
+     */
+    private static void encodeValue(StringBuilder token, Object value) {
+        if(value instanceof Long || value instanceof Integer || value instanceof Short) {
+            token.append('L').append(value);
+        }
+        else if(value instanceof BigDecimal) {
+            token.append('N').append(((BigDecimal) value).toPlainString());
+        }
+        else if(value instanceof Timestamp) {
+            token.append('T').append(((Timestamp) value).toLocalDateTime());
+        }
+        else if(value instanceof LocalDateTime) {
+            token.append('T').append(value);
+        }
+        else if(value instanceof java.sql.Date) {
+            token.append('D').append(((java.sql.Date) value).toLocalDate());
+        }
+        else if(value instanceof LocalDate) {
+            token.append('D').append(value);
+        }
+        else {
+            token.append('S').append(value);
+        }
+    }
+
+    private static Object decodeValue(char type, String value, String pageToken) {
+        try {
+            switch(type) {
+                case 'L':
+                    return Long.valueOf(value);
+                case 'N':
+                    return new BigDecimal(value);
+                case 'T':
+                    return Timestamp.valueOf(LocalDateTime.parse(value));
+                case 'D':
+                    return java.sql.Date.valueOf(LocalDate.parse(value));
+                case 'S':
+                    return value;
+                default:
+                    throw new IllegalArgumentException("Invalid page token '" + pageToken + "'");
+            }
+        }
+        catch(RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page token '" + pageToken + "'", e);
+        }
+    }
+}
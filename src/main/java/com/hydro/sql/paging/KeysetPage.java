@@ -0,0 +1,48 @@
+package com.hydro.sql.paging;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Page of rows from a keyset query with the token to get the next page.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class KeysetPage<T> {
+    private final List<T> items;
+
+    private final String nextPageToken;
+
+    public KeysetPage(List<T> items, String nextPageToken) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Gets the rows of the page.
+     * 
+     * @return List of the rows.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the token to pass back for the next page.
+     * 
+     * @return The next page token, or null if this is the last page.
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * Checks if there is a page after this one.
+     * 
+     * @return If there is a next page.
+     */
+    public boolean hasNextPage() {
+        return nextPageToken != null;
+    }
+}
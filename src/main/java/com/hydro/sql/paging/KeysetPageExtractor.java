@@ -0,0 +1,66 @@
+package com.hydro.sql.paging;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Maps the rows of a keyset query into a {@link KeysetPage}. The query fetches
+ * one row past the page size, if that row is there the key values of the last
+ * row of the page become the next page token.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class KeysetPageExtractor<T> implements ResultSetExtractor<KeysetPage<T>> {
+    private final Keyset keyset;
+
+    private final int pageSize;
+
+    private final RowMapper<T> mapper;
+
+    public KeysetPageExtractor(Keyset keyset, int pageSize, RowMapper<T> mapper) {
+        this.keyset = keyset;
+        this.pageSize = pageSize;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public KeysetPage<T> extractData(ResultSet rs) throws SQLException {
+        List<T> items = new ArrayList<>(Math.min(pageSize, 1024));
+        Object[] lastKey = null;
+        boolean hasNextPage = false;
+        while(rs.next()) {
+            if(items.size() == pageSize) {
+                hasNextPage = true;
+                break;
+            }
+
+            items.add(mapper.mapRow(rs, items.size()));
+            if(items.size() == pageSize) {
+                lastKey = readKey(rs);
+            }
+        }
+        return new KeysetPage<>(items, hasNextPage ? keyset.encode(lastKey) : null);
+    }
+
+    /**
+     * Reads the key values of the current row.
+     * 
+     * @param rs The result set on the row.
+     * @return The key values in column order.
+     * @throws SQLException If a key column can not be read.
+     */
+    private Object[] readKey(ResultSet rs) throws SQLException {
+        List<String> columns = keyset.getColumns();
+        Object[] key = new Object[columns.size()];
+        for(int i = 0; i < key.length; i++) {
+            key[i] = rs.getObject(columns.get(i));
+        }
+        return key;
+    }
+}
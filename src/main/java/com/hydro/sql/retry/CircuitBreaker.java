@@ -0,0 +1,144 @@
+package com.hydro.sql.retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fails queries fast while the database is down. The breaker opens once the
+ * given number of queries in a row fail because the database could not be
+ * reached. While open every query is failed with a
+ * {@link CircuitBreakerOpenException} without taking a connection. Once the open
+ * duration has passed a single trial query is let through, which closes the
+ * breaker if it succeeds and opens it again if it fails. A breaker is normally
+ * shared by all the daos of a datasource.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class CircuitBreaker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final LongSupplier clock;
+
+    private final LongAdder trips = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private State state = State.CLOSED;
+
+    private int failures;
+
+    private long openedAt;
+
+    /**
+     * Creates a closed breaker.
+     * 
+     * @param failureThreshold The failures in a row that open the breaker.
+     * @param openDuration     How long the breaker stays open before a trial query
+     *                         is let through.
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        if(failureThreshold <= 0) {
+            throw new IllegalArgumentException("Failure threshold must be greater than 0");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Checks that a query can be run. When the breaker is open past its open
+     * duration the caller becomes the trial query.
+     * 
+     * @throws CircuitBreakerOpenException If the breaker is open.
+     */
+    public synchronized void acquire() {
+        if(state == State.CLOSED) {
+            return;
+        }
+        else if(state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            return;
+        }
+
+        rejected.increment();
+        throw new CircuitBreakerOpenException("Circuit breaker is open, the database is unavailable");
+    }
+
+    /**
+     * Records a query that reached the database. This closes the breaker.
+     */
+    public synchronized void onSuccess() {
+        if(state != State.CLOSED) {
+            LOGGER.info("Circuit breaker closed, the database is available again");
+        }
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    /**
+     * Records a failed query. Only errors where the database is unavailable count
+     * towards opening the breaker, any other error means the database was reached.
+     * 
+     * @param type The type of the error the query failed with.
+     */
+    public synchronized void onFailure(SqlErrorType type) {
+        if(!type.isUnavailable()) {
+            onSuccess();
+        }
+        else if(state == State.HALF_OPEN || ++failures >= failureThreshold) {
+            trip();
+        }
+    }
+
+    /**
+     * Checks to see if queries are currently being failed fast.
+     * 
+     * @return {@link Boolean} saying if the breaker is open.
+     */
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    /**
+     * Gets the number of times the breaker has opened.
+     * 
+     * @return The trip count.
+     */
+    public long getTripCount() {
+        return trips.sum();
+    }
+
+    /**
+     * Gets the number of queries that were failed fast while the breaker was open.
+     * 
+     * @return The rejected count.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void trip() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        failures = 0;
+        trips.increment();
+        LOGGER.warn("Circuit breaker opened, failing queries fast for {}ms", Duration.ofNanos(openNanos).toMillis());
+    }
+}
@@ -0,0 +1,17 @@
+package com.hydro.sql.retry;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Thrown when a query is not run because the {@link CircuitBreaker} is open.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class CircuitBreakerOpenException extends TransientDataAccessResourceException {
+    private static final long serialVersionUID = 1L;
+
+    public CircuitBreakerOpenException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hydro.sql.retry;
+
+/**
+ * Notified each time a {@link RetryPolicy} is about to retry a call.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@FunctionalInterface
+public interface RetryListener {
+
+    /**
+     * Listener that ignores every retry.
+     */
+    RetryListener NONE = (type, attempt, error) -> {};
+
+    /**
+     * Called before the call is run again.
+     * 
+     * @param type    The type of the error the call failed with.
+     * @param attempt The attempt that failed, starting at 1.
+     * @param error   The error the call failed with.
+     */
+    void onRetry(SqlErrorType type, int attempt, RuntimeException error);
+}
@@ -0,0 +1,254 @@
+package com.hydro.sql.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Retries calls that fail with a transient error, such as a deadlock or a
+ * connection dropped during a failover. Each retry waits an exponential backoff
+ * with jitter, so callers that failed together do not retry together. What a
+ * call can be retried on is decided by its {@link RetryScope}. Calls inside of a
+ * transaction are never retried, since the whole transaction has to be run
+ * again. A {@link CircuitBreaker} can be added to fail fast while the database is
+ * down.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class RetryPolicy {
+    private static final ThreadLocal<Boolean> IDEMPOTENT = new ThreadLocal<>();
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 4;
+
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(50);
+
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(2);
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    private long initialBackoffNanos = DEFAULT_INITIAL_BACKOFF.toNanos();
+
+    private long maxBackoffNanos = DEFAULT_MAX_BACKOFF.toNanos();
+
+    private CircuitBreaker circuitBreaker;
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Private Constructor for the static create method.
+     */
+    private RetryPolicy() {}
+
+    /**
+     * Initialize a {@link RetryPolicy} with the default settings of
+     * {@value #DEFAULT_MAX_ATTEMPTS} attempts and a backoff from 50ms up to 2s.
+     * 
+     * @return {@link RetryPolicy} with the default settings.
+     */
+    public static RetryPolicy create() {
+        return new RetryPolicy();
+    }
+
+    /**
+     * Sets the max number of times a call is run, including the first attempt.
+     * 
+     * @param maxAttempts The max attempts.
+     * @return this policy {@link RetryPolicy}
+     */
+    public RetryPolicy maxAttempts(int maxAttempts) {
+        if(maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be greater than 0");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Sets the backoff between attempts. The backoff doubles after each attempt
+     * from the initial value up to the max value, and a random half of it is
+     * taken off as jitter.
+     * 
+     * @param initial The backoff before the first retry.
+     * @param max     The largest backoff between two attempts.
+     * @return this policy {@link RetryPolicy}
+     */
+    public RetryPolicy backoff(Duration initial, Duration max) {
+        if(initial.isNegative() || max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("Backoff must be positive and max must not be less than initial");
+        }
+        this.initialBackoffNanos = initial.toNanos();
+        this.maxBackoffNanos = max.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the circuit breaker every attempt has to go through.
+     * 
+     * @param circuitBreaker The circuit breaker to use, or null for none.
+     * @return this policy {@link RetryPolicy}
+     */
+    public RetryPolicy circuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Gets the circuit breaker of the policy.
+     * 
+     * @return The {@link CircuitBreaker}, or null if there is none.
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Gets the number of retries that have been made.
+     * 
+     * @return The retry count.
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Gets the number of calls that still failed with a transient error after all
+     * of their attempts were used.
+     * 
+     * @return The exhausted count.
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    /**
+     * Runs the given call with the writes inside of it marked as idempotent, so
+     * they can be retried even when the connection was lost while they ran.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to run.
+     * @return The result of the call.
+     */
+    public static <T> T idempotent(Supplier<T> call) {
+        Boolean previous = IDEMPOTENT.get();
+        IDEMPOTENT.set(Boolean.TRUE);
+        try {
+            return call.get();
+        }
+        finally {
+            if(previous == null) {
+                IDEMPOTENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Wraps the given call so that it runs idempotent when the current thread is
+     * inside of an {@link #idempotent(Supplier)} call. This is used to carry the
+     * flag over to calls that run on another thread.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to wrap.
+     * @return {@link Supplier} that runs the call with the current flag.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        if(!isIdempotent()) {
+            return call;
+        }
+        return () -> idempotent(call);
+    }
+
+    /**
+     * Checks to see if the current thread is inside of an
+     * {@link #idempotent(Supplier)} call.
+     * 
+     * @return {@link Boolean} saying if the writes are idempotent.
+     */
+    public static boolean isIdempotent() {
+        return IDEMPOTENT.get() != null;
+    }
+
+    /**
+     * Runs the call, retrying it while it fails with an error that its scope
+     * allows.
+     * 
+     * @param <T>      The return type of the call.
+     * @param scope    What the call can be retried on.
+     * @param call     The call to run.
+     * @param listener Notified before each retry.
+     * @return The result of the call.
+     */
+    public <T> T execute(RetryScope scope, Supplier<T> call, RetryListener listener) {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        for(int attempt = 1;; attempt++) {
+            if(circuitBreaker != null) {
+                circuitBreaker.acquire();
+            }
+
+            try {
+                T result = call.get();
+                if(circuitBreaker != null) {
+                    circuitBreaker.onSuccess();
+                }
+                return result;
+            }
+            catch(RuntimeException e) {
+                SqlErrorType type = SqlErrorType.of(e);
+                if(circuitBreaker != null) {
+                    circuitBreaker.onFailure(type);
+                }
+
+                if(inTransaction || !scope.allows(type)) {
+                    throw e;
+                }
+                else if(attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+
+                retries.increment();
+                listener.onRetry(type, attempt, e);
+                sleep(backoffNanos(attempt), e);
+            }
+        }
+    }
+
+    /**
+     * Gets how long to wait after the given attempt. This is the doubled backoff
+     * capped at the max, with a random amount of up to half of it taken off.
+     * 
+     * @param attempt The attempt that failed, starting at 1.
+     * @return The backoff in nanoseconds.
+     */
+    long backoffNanos(int attempt) {
+        long backoff = initialBackoffNanos;
+        for(int i = 1; i < attempt && backoff < maxBackoffNanos; i++) {
+            backoff *= 2;
+        }
+        backoff = Math.min(backoff, maxBackoffNanos);
+        return backoff - ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * Waits for the backoff. If the thread is interrupted the error of the call is
+     * thrown instead of retrying.
+     * 
+     * @param nanos The time to wait.
+     * @param error The error of the failed attempt.
+     */
+    private static void sleep(long nanos, RuntimeException error) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hydro.sql.retry;
+
+/**
+ * Says which errors a call can be retried on, based on what running it again
+ * could do to the database.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public enum RetryScope {
+
+    /**
+     * A read, which can be retried on any transient error.
+     */
+    READ,
+
+    /**
+     * A single statement write. It is only retried when the statement is known to
+     * not have been applied, since a write lost with its connection may have
+     * already been committed.
+     */
+    WRITE,
+
+    /**
+     * A single statement write that has the same result when run twice, such as
+     * an upsert or a delete by key. It can be retried on any transient error.
+     */
+    IDEMPOTENT_WRITE,
+
+    /**
+     * A call that runs more than one statement or consumes its input, such as a
+     * batch or a bulk insert. Earlier statements may have been committed before
+     * the error, so it is only retried when no connection could be made.
+     */
+    CONNECT_ONLY;
+
+    /**
+     * Checks to see if a call in this scope can be retried on the given error.
+     * 
+     * @param type The type of the error.
+     * @return {@link Boolean} saying if the call can be retried.
+     */
+    public boolean allows(SqlErrorType type) {
+        switch(this) {
+            case READ:
+            case IDEMPOTENT_WRITE:
+                return type.isTransient();
+            case WRITE:
+                return type == SqlErrorType.ROLLED_BACK || type == SqlErrorType.REJECTED
+                        || type == SqlErrorType.NOT_SENT;
+            default:
+                return type == SqlErrorType.NOT_SENT;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.hydro.sql.retry;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+/**
+ * The kinds of errors a query can fail with, based on the SQLState and MySQL
+ * error code of the {@link SQLException} behind the error. The type says if the
+ * query could have changed anything on the database, which decides if it is
+ * safe to run again.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public enum SqlErrorType {
+
+    /**
+     * The statement was rolled back by the server, such as a deadlock or a lock
+     * wait timeout. Nothing was changed by the statement.
+     */
+    ROLLED_BACK(false),
+
+    /**
+     * The statement was rejected without being run, such as a write sent to a
+     * read only server after a failover. Nothing was changed by the statement.
+     */
+    REJECTED(true),
+
+    /**
+     * No connection could be made, so the statement was never sent.
+     */
+    NOT_SENT(true),
+
+    /**
+     * The connection was lost while the statement was running. The statement may
+     * or may not have been applied.
+     */
+    CONNECTION_LOST(true),
+
+    /**
+     * Any other error, which will fail again if the query is run again.
+     */
+    NOT_TRANSIENT(false);
+
+    private static final Set<Integer> ROLLED_BACK_CODES = Set.of(1205, 1213);
+
+    private static final Set<Integer> REJECTED_CODES = Set.of(1290, 1792, 1836);
+
+    private static final Set<Integer> CONNECTION_LOST_CODES = Set.of(1053, 1927, 2006, 2013);
+
+    private static final Set<String> NOT_SENT_STATES = Set.of("08001", "08004");
+
+    private final boolean unavailable;
+
+    SqlErrorType(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Checks to see if the error means the database can not be reached or is not
+     * taking writes. These are the errors counted by the {@link CircuitBreaker}.
+     * 
+     * @return {@link Boolean} saying if the database is unavailable.
+     */
+    public boolean isUnavailable() {
+        return unavailable;
+    }
+
+    /**
+     * Checks to see if running the query again could succeed.
+     * 
+     * @return {@link Boolean} saying if the error is transient.
+     */
+    public boolean isTransient() {
+        return this != NOT_TRANSIENT;
+    }
+
+    /**
+     * Classifies the given error. The first {@link SQLException} in the causes of
+     * the error is used, or {@link #NOT_SENT} if no connection could be taken from
+     * the datasource.
+     * 
+     * @param error The error to classify.
+     * @return The {@link SqlErrorType} of the error.
+     */
+    public static SqlErrorType of(Throwable error) {
+        for(Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if(cause instanceof CannotGetJdbcConnectionException) {
+                return NOT_SENT;
+            }
+            else if(cause instanceof SQLException) {
+                return of((SQLException) cause);
+            }
+
+            if(cause.getCause() == cause) {
+                break;
+            }
+        }
+        return NOT_TRANSIENT;
+    }
+
+    /**
+     * Classifies the given sql exception by its MySQL error code and SQLState.
+     * 
+     * @param e The exception to classify.
+     * @return The {@link SqlErrorType} of the exception.
+     */
+    private static SqlErrorType of(SQLException e) {
+        String state = e.getSQLState() == null ? "" : e.getSQLState();
+        if(ROLLED_BACK_CODES.contains(e.getErrorCode()) || "40001".equals(state)) {
+            return ROLLED_BACK;
+        }
+        else if(REJECTED_CODES.contains(e.getErrorCode())) {
+            return REJECTED;
+        }
+        else if(NOT_SENT_STATES.contains(state)) {
+            return NOT_SENT;
+        }
+        else if(CONNECTION_LOST_CODES.contains(e.getErrorCode()) || state.startsWith("08")) {
+            return CONNECTION_LOST;
+        }
+        return NOT_TRANSIENT;
+    }
+}
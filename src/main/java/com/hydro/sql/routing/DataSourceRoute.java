@@ -0,0 +1,12 @@
+package com.hydro.sql.routing;
+
+/**
+ * The routes a query can take through a {@link ReadWriteRoutingDataSource}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA;
+}
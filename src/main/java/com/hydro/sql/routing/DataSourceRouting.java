@@ -0,0 +1,98 @@
+package com.hydro.sql.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the route for the queries run on the current thread. Connections taken
+ * from a {@link ReadWriteRoutingDataSource} inside of a replica scope will go to
+ * one of the replicas, everything else goes to the primary. A primary scope
+ * always wins over a nested replica scope, which is how callers can read their
+ * own writes.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class DataSourceRouting {
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT_ROUTE = new ThreadLocal<>();
+
+    private DataSourceRouting() {}
+
+    /**
+     * Gets the route for the current thread.
+     * 
+     * @return {@link DataSourceRoute} of the current thread.
+     */
+    public static DataSourceRoute current() {
+        DataSourceRoute route = CURRENT_ROUTE.get();
+        return route == null ? DataSourceRoute.PRIMARY : route;
+    }
+
+    /**
+     * Runs the given call on a replica, unless the thread has already been pinned
+     * to the primary.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to run.
+     * @return The result of the call.
+     */
+    public static <T> T onReplica(Supplier<T> call) {
+        if(CURRENT_ROUTE.get() == DataSourceRoute.PRIMARY) {
+            return call.get();
+        }
+        return runOn(DataSourceRoute.REPLICA, call);
+    }
+
+    /**
+     * Runs the given call on the primary. Any reads inside of the call will also
+     * go to the primary, so they will see the writes that were just made.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to run.
+     * @return The result of the call.
+     */
+    public static <T> T onPrimary(Supplier<T> call) {
+        return runOn(DataSourceRoute.PRIMARY, call);
+    }
+
+    /**
+     * Wraps the given call so that it runs with the route of the current thread.
+     * This is used to carry the route over to calls that run on another thread.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to wrap.
+     * @return {@link Supplier} that runs the call with the current route.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        DataSourceRoute route = CURRENT_ROUTE.get();
+        if(route == null) {
+            return call;
+        }
+        return () -> runOn(route, call);
+    }
+
+    /**
+     * Runs the call with the given route set, restoring the previous route once it
+     * is done.
+     * 
+     * @param <T>   The return type of the call.
+     * @param route The route to use.
+     * @param call  The call to run.
+     * @return The result of the call.
+     */
+    private static <T> T runOn(DataSourceRoute route, Supplier<T> call) {
+        DataSourceRoute previous = CURRENT_ROUTE.get();
+        CURRENT_ROUTE.set(route);
+        try {
+            return call.get();
+        }
+        finally {
+            if(previous == null) {
+                CURRENT_ROUTE.remove();
+            }
+            else {
+                CURRENT_ROUTE.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hydro.sql.routing;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Datasource that routes connections between a primary and a set of read
+ * replicas. Connections requested inside of a replica scope from
+ * {@link DataSourceRouting} go to a replica picked by the
+ * {@link ReplicaLoadBalancer}, all other connections go to the primary.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+
+    private final List<DataSource> replicas;
+
+    private final ReplicaLoadBalancer loadBalancer;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas,
+            ReplicaLoadBalancer loadBalancer) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    /**
+     * Gets the primary datasource that all writes go to.
+     * 
+     * @return The primary {@link DataSource}.
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * Gets the replica datasources that reads are balanced between.
+     * 
+     * @return List of the replica {@link DataSource}.
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the primary and replica datasources if they hold resources, such as a
+     * connection pool.
+     */
+    @Override
+    public void close() {
+        closeTarget(primary);
+        replicas.forEach(this::closeTarget);
+    }
+
+    /**
+     * Picks the datasource for the route of the current thread.
+     * 
+     * @return The {@link DataSource} to take the connection from.
+     */
+    private DataSource determineTarget() {
+        if(replicas.isEmpty() || DataSourceRouting.current() != DataSourceRoute.REPLICA) {
+            return primary;
+        }
+        return loadBalancer.choose(replicas);
+    }
+
+    /**
+     * Closes the given datasource if it can be closed.
+     * 
+     * @param source The datasource to close.
+     */
+    private void closeTarget(DataSource source) {
+        if(source instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) source).close();
+            }
+            catch(Exception e) {
+                LOGGER.warn("Error closing datasource", e);
+            }
+        }
+    }
+}
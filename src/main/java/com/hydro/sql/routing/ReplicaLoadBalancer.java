@@ -0,0 +1,44 @@
+package com.hydro.sql.routing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * Policy for picking which replica a read should go to.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+@FunctionalInterface
+public interface ReplicaLoadBalancer {
+
+    /**
+     * Picks the replica to use for the next connection.
+     * 
+     * @param replicas The replicas to choose from. This will never be empty.
+     * @return The {@link DataSource} of the chosen replica.
+     */
+    DataSource choose(List<DataSource> replicas);
+
+    /**
+     * Creates a load balancer that cycles through the replicas in order.
+     * 
+     * @return Round robin {@link ReplicaLoadBalancer}.
+     */
+    static ReplicaLoadBalancer roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return replicas -> replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * Creates a load balancer that picks a random replica.
+     * 
+     * @return Random {@link ReplicaLoadBalancer}.
+     */
+    static ReplicaLoadBalancer random() {
+        return replicas -> replicas.get(ThreadLocalRandom.current().nextInt(replicas.size()));
+    }
+}
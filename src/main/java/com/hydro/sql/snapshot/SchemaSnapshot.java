@@ -0,0 +1,325 @@
+package com.hydro.sql.snapshot;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hydro.sql.snapshot.dao.SchemaSnapshotDAO;
+
+/**
+ * Snapshot of a migrated schema kept as its own schema on the same server.
+ * Once the migrations have run, the schema and its seed data are captured into
+ * the snapshot. New schemas are then restored from the snapshot by copying the
+ * table definitions and rows on the server, instead of running every migration
+ * script again. This is used for new local instances and to give each test
+ * suite its own throwaway schema.
+ * <p>
+ * The migration history table is copied with the rest of the tables, so the
+ * migration runner only applies the scripts added since the snapshot was
+ * captured. Only base tables are copied, views, routines and triggers are not
+ * part of the snapshot.
+ * <p>
+ * An embedded H2 database can be snapshot as well, with each schema of the
+ * database used as a schema of the server. H2 can not show the create
+ * statement of a table, so only the columns and rows of its tables are copied,
+ * without their keys and indexes.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SchemaSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaSnapshot.class);
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_$]+");
+
+    private static final String H2_PRODUCT_NAME = "H2";
+
+    public static final String SNAPSHOT_SUFFIX = "__snapshot";
+
+    private final DataSource source;
+
+    private final SchemaSnapshotDAO dao;
+
+    private final String name;
+
+    /**
+     * Private Constructor for the static of method.
+     *
+     * @param source The datasource of the server.
+     * @param name   The name of the snapshot schema.
+     */
+    private SchemaSnapshot(DataSource source, String name) {
+        this.source = source;
+        this.dao = new SchemaSnapshotDAO(source);
+        this.name = identifier(name);
+    }
+
+    /**
+     * Initialize the {@link SchemaSnapshot} stored in the given schema.
+     *
+     * @param source The datasource of the server, it does not need to point at a
+     *               schema.
+     * @param name   The name of the snapshot schema.
+     * @return {@link SchemaSnapshot} for the schema.
+     */
+    public static SchemaSnapshot of(DataSource source, String name) {
+        return new SchemaSnapshot(source, name);
+    }
+
+    /**
+     * Initialize the {@link SchemaSnapshot} for the given schema. The snapshot is
+     * stored in the schema name with the {@value #SNAPSHOT_SUFFIX} suffix.
+     *
+     * @param source The datasource of the server, it does not need to point at a
+     *               schema.
+     * @param schema The schema the snapshot is taken of.
+     * @return {@link SchemaSnapshot} for the schema.
+     */
+    public static SchemaSnapshot forSchema(DataSource source, String schema) {
+        return new SchemaSnapshot(source, schema + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Gets the name of the snapshot schema.
+     *
+     * @return The snapshot schema name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks to see if the snapshot has been captured.
+     *
+     * @return {@link Boolean} determining if the snapshot exists.
+     */
+    public boolean exists() {
+        return dao.doesSchemaExist(name);
+    }
+
+    /**
+     * Captures the tables and rows of the given schema into the snapshot. An
+     * existing snapshot is replaced.
+     *
+     * @param schema The schema to capture.
+     */
+    public void capture(String schema) {
+        long start = System.currentTimeMillis();
+        int tables = copySchema(identifier(schema), name);
+        LOGGER.info("Captured {} tables of '{}' into snapshot '{}' in {}ms", tables, schema, name,
+                    System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Restores the snapshot into the given schema. An existing schema with the
+     * same name is dropped first.
+     *
+     * @param schema The schema to restore into.
+     */
+    public void restore(String schema) {
+        if(!exists()) {
+            throw new IllegalStateException("Snapshot '" + name + "' has not been captured");
+        }
+
+        long start = System.currentTimeMillis();
+        int tables = copySchema(name, identifier(schema));
+        LOGGER.info("Restored {} tables from snapshot '{}' into '{}' in {}ms", tables, name, schema,
+                    System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Restores the snapshot into a new schema with a unique name, such as the
+     * schema of a single test suite. The schema should be dropped with
+     * {@link #drop(String)} once it is no longer needed.
+     *
+     * @return The name of the new schema.
+     */
+    public String restoreTemporary() {
+        String schema = temporaryName(name);
+        restore(schema);
+        return schema;
+    }
+
+    /**
+     * Drops the given schema if it exists, such as a schema made by
+     * {@link #restoreTemporary()}.
+     *
+     * @param schema The schema to drop.
+     */
+    public void drop(String schema) {
+        new JdbcTemplate(source).execute((ConnectionCallback<Void>) con -> {
+            try(Statement stmt = con.createStatement()) {
+                stmt.execute(dropSchemaSql(schema, isH2(con)));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Copies the tables and rows of one schema into another on a single
+     * connection. The target schema is created again from nothing. Each table is
+     * created from the {@code SHOW CREATE TABLE} of the source table, so the
+     * indexes, foreign keys and auto increment values are kept, and then filled
+     * with an {@code INSERT ... SELECT} that never leaves the server. Foreign key
+     * checks are turned off while copying, so the tables can be copied in any
+     * order. A table without any columns that can be written to is created but
+     * left empty.
+     *
+     * @param from The schema to copy from.
+     * @param to   The schema to copy into.
+     * @return The number of tables copied.
+     */
+    private int copySchema(String from, String to) {
+        List<String> tables = dao.getTables(from);
+        Map<String, List<String>> columns = dao.getCopyColumns(from);
+        return new JdbcTemplate(source).execute((ConnectionCallback<Integer>) con -> {
+            String catalog = con.getCatalog();
+            boolean h2 = isH2(con);
+            try(Statement stmt = con.createStatement()) {
+                stmt.execute(dropSchemaSql(to, h2));
+                stmt.execute((h2 ? "CREATE SCHEMA " : "CREATE DATABASE ") + quote(to));
+                stmt.execute(h2 ? "SET REFERENTIAL_INTEGRITY FALSE" : "SET FOREIGN_KEY_CHECKS = 0");
+                try {
+                    con.setCatalog(to);
+                    for(String table : tables) {
+                        stmt.execute(h2 ? copyTableSql(from, to, table) : showCreateTable(stmt, from, table));
+                        List<String> tableColumns = columns.getOrDefault(table, List.of());
+                        if(tableColumns.isEmpty()) {
+                            LOGGER.warn("Table '{}.{}' has no columns that can be copied, its rows are skipped", from,
+                                        table);
+                            continue;
+                        }
+                        stmt.execute(copyRowsSql(from, to, table, tableColumns));
+                    }
+                }
+                finally {
+                    stmt.execute(h2 ? "SET REFERENTIAL_INTEGRITY TRUE" : "SET FOREIGN_KEY_CHECKS = 1");
+                    restoreCatalog(con, catalog);
+                }
+            }
+            return tables.size();
+        });
+    }
+
+    /**
+     * Gets the create statement of the table. The table and its foreign keys are
+     * not qualified with the schema, so the statement creates the table in the
+     * current schema of the connection.
+     *
+     * @param stmt   The statement to run the query with.
+     * @param schema The schema of the table.
+     * @param table  The table to get the create statement of.
+     * @return The create table sql.
+     * @throws SQLException If the table could not be read.
+     */
+    private static String showCreateTable(Statement stmt, String schema, String table) throws SQLException {
+        try(ResultSet rs = stmt.executeQuery("SHOW CREATE TABLE " + quote(schema) + "." + quote(table))) {
+            if(!rs.next()) {
+                throw new IllegalStateException("Table '" + schema + "." + table + "' does not exist");
+            }
+            return rs.getString(2);
+        }
+    }
+
+    /**
+     * Builds the create statement that copies the columns of a table from one H2
+     * schema to another.
+     *
+     * @param from  The schema to copy from.
+     * @param to    The schema to copy into.
+     * @param table The table to copy.
+     * @return The create table sql.
+     */
+    static String copyTableSql(String from, String to, String table) {
+        return "CREATE TABLE " + quote(to) + "." + quote(table) + " AS SELECT * FROM " + quote(from) + "."
+                + quote(table) + " WITH NO DATA";
+    }
+
+    /**
+     * Builds the statement that drops the schema if it exists.
+     *
+     * @param schema The schema to drop.
+     * @param h2     If the server is an H2 database.
+     * @return The drop sql.
+     */
+    static String dropSchemaSql(String schema, boolean h2) {
+        return h2 ? "DROP SCHEMA IF EXISTS " + quote(schema) + " CASCADE" : "DROP DATABASE IF EXISTS " + quote(schema);
+    }
+
+    /**
+     * Builds the insert that copies the rows of a table from one schema to
+     * another.
+     *
+     * @param from    The schema to copy from.
+     * @param to      The schema to copy into.
+     * @param table   The table to copy.
+     * @param columns The columns to copy.
+     * @return The insert sql.
+     */
+    static String copyRowsSql(String from, String to, String table, List<String> columns) {
+        StringBuilder columnList = new StringBuilder();
+        for(String column : columns) {
+            columnList.append(columnList.length() == 0 ? "" : ", ").append(quote(column));
+        }
+        return "INSERT INTO " + quote(to) + "." + quote(table) + " (" + columnList + ") SELECT " + columnList
+                + " FROM " + quote(from) + "." + quote(table);
+    }
+
+    /**
+     * Builds a unique schema name for a temporary copy of the snapshot.
+     *
+     * @param name The name of the snapshot.
+     * @return The temporary schema name.
+     */
+    static String temporaryName(String name) {
+        String base = name.endsWith(SNAPSHOT_SUFFIX) ? name.substring(0, name.length() - SNAPSHOT_SUFFIX.length())
+                : name;
+        return base + "__" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    /**
+     * Quotes the identifier so it can be written into the sql.
+     *
+     * @param identifier The identifier to quote.
+     * @return The quoted identifier.
+     */
+    static String quote(String identifier) {
+        return "`" + identifier(identifier) + "`";
+    }
+
+    private static boolean isH2(Connection con) throws SQLException {
+        return H2_PRODUCT_NAME.equals(con.getMetaData().getDatabaseProductName());
+    }
+
+    private static void restoreCatalog(Connection con, String catalog) throws SQLException {
+        if(catalog != null && !catalog.isEmpty()) {
+            con.setCatalog(catalog);
+        }
+    }
+
+    /**
+     * Checks that the name is a plain identifier, since it is written into the sql
+     * as is.
+     *
+     * @param name The name to check.
+     * @return The name.
+     */
+    private static String identifier(String name) {
+        if(name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid schema identifier '" + name + "'");
+        }
+        return name;
+    }
+}
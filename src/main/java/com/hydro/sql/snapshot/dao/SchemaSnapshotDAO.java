@@ -0,0 +1,62 @@
+package com.hydro.sql.snapshot.dao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.hydro.sql.abstracts.BaseDao;
+
+/**
+ * Schema snapshot dao for reading the tables and columns of a schema from the
+ * information schema.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SchemaSnapshotDAO extends BaseDao {
+
+    public SchemaSnapshotDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Checks to see if the passed in schema exists for the given name.
+     * 
+     * @param name The name of schema to filter on.
+     * @return {@link Boolean} determining if the schema exists or not.
+     */
+    public boolean doesSchemaExist(String name) {
+        var params = parameterSource("schemaName", name);
+        return get(getSql("doesSchemaExist", params), params, Integer.class) > 0;
+    }
+
+    /**
+     * Gets the base tables of the schema, views are not included.
+     * 
+     * @param schema The schema to get the tables of.
+     * @return List of the table names.
+     */
+    public List<String> getTables(String schema) {
+        var params = parameterSource("schemaName", schema);
+        return getPage(getSql("getTables", params), params, (rs, rowNum) -> rs.getString("TABLE_NAME"));
+    }
+
+    /**
+     * Gets the columns of each base table in the schema that can be copied with
+     * an insert. Generated columns are left out since they can not be written to.
+     * 
+     * @param schema The schema to get the columns of.
+     * @return {@link Map} of the table names to their columns in table order.
+     */
+    public Map<String, List<String>> getCopyColumns(String schema) {
+        var params = parameterSource("schemaName", schema);
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+        getEach(getSql("getCopyColumns", params), params,
+                (rs, rowNum) -> Map.entry(rs.getString("TABLE_NAME"), rs.getString("COLUMN_NAME")),
+                column -> columns.computeIfAbsent(column.getKey(), k -> new ArrayList<>()).add(column.getValue()));
+        return columns;
+    }
+}
@@ -0,0 +1,102 @@
+package com.hydro.sql.statement;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cancels the queries of a unit of work from another thread. Statements run
+ * with the cancellation set in their {@link StatementOptions} are tracked while
+ * they run, and {@link #cancel()} asks the driver to stop each one. MySQL kills
+ * the running query on the server and the caller gets a
+ * {@link QueryCancelledException}. Once cancelled, any further queries with the
+ * same cancellation fail before they are sent.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class QueryCancellation {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryCancellation.class);
+
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean cancelled = false;
+
+    /**
+     * Private Constructor for the static create method.
+     */
+    private QueryCancellation() {}
+
+    /**
+     * Initialize a new {@link QueryCancellation} that has not been cancelled.
+     * 
+     * @return {@link QueryCancellation} object.
+     */
+    public static QueryCancellation create() {
+        return new QueryCancellation();
+    }
+
+    /**
+     * Cancels every statement that is running with this cancellation, and stops
+     * any new ones from being run. This can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+        for(Statement statement : statements) {
+            cancel(statement);
+        }
+    }
+
+    /**
+     * Checks to see if the cancellation has been cancelled.
+     * 
+     * @return {@link Boolean} saying if it is cancelled.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Gets the number of statements running with this cancellation.
+     * 
+     * @return The number of running statements.
+     */
+    public int getRunningCount() {
+        return statements.size();
+    }
+
+    /**
+     * Tracks the statement until it is released, so it can be cancelled. A
+     * statement registered after the cancel is cancelled right away.
+     * 
+     * @param statement The statement being run.
+     */
+    void register(Statement statement) {
+        statements.add(statement);
+        if(cancelled) {
+            cancel(statement);
+        }
+    }
+
+    /**
+     * Stops tracking the statement once its query is done.
+     * 
+     * @param statement The statement to release.
+     */
+    void release(Statement statement) {
+        statements.remove(statement);
+    }
+
+    private static void cancel(Statement statement) {
+        try {
+            statement.cancel();
+        }
+        catch(SQLException | RuntimeException e) {
+            LOGGER.debug("Unable to cancel statement: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hydro.sql.statement;
+
+import org.springframework.dao.NonTransientDataAccessException;
+
+/**
+ * Thrown when a query is stopped by its {@link QueryCancellation}, or is not
+ * run because the cancellation was already cancelled. It is not transient, so
+ * the query is never retried.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class QueryCancelledException extends NonTransientDataAccessException {
+    private static final long serialVersionUID = 1L;
+
+    public QueryCancelledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
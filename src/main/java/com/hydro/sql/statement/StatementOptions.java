@@ -0,0 +1,159 @@
+package com.hydro.sql.statement;
+
+import java.time.Duration;
+
+/**
+ * Options applied to the statements of a query, such as how long it can run and
+ * how many rows it can return. Options that are not set are left to the
+ * template and driver defaults. They can be set as the defaults of a dao with
+ * {@link com.hydro.sql.abstracts.AbstractSqlDao#setStatementOptions} or for a
+ * single call with {@link StatementScope#with(StatementOptions, java.util.function.Supplier)}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class StatementOptions {
+    private Duration timeout;
+
+    private Integer maxRows;
+
+    private Integer fetchSize;
+
+    private QueryCancellation cancellation;
+
+    /**
+     * Private Constructor for the static create method.
+     */
+    private StatementOptions() {}
+
+    /**
+     * Initialize the {@link StatementOptions} with nothing set.
+     * 
+     * @return {@link StatementOptions} with nothing set.
+     */
+    public static StatementOptions create() {
+        return new StatementOptions();
+    }
+
+    /**
+     * Sets how long a statement can run before the driver cancels it. JDBC counts
+     * query timeouts in seconds, so the timeout is rounded up to the next second.
+     * Inside of a transaction with a timeout, the time left in the transaction is
+     * used instead.
+     * 
+     * @param timeout The statement timeout, or null for none.
+     * @return this options object {@link StatementOptions}
+     */
+    public StatementOptions timeout(Duration timeout) {
+        if(timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("Timeout must be greater than 0");
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the max number of rows a statement can return. Any rows over the limit
+     * are dropped by the driver.
+     * 
+     * @param maxRows The max rows to return.
+     * @return this options object {@link StatementOptions}
+     */
+    public StatementOptions maxRows(int maxRows) {
+        if(maxRows <= 0) {
+            throw new IllegalArgumentException("Max rows must be greater than 0");
+        }
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * Sets the number of rows the driver reads from the server at a time. See
+     * {@link com.hydro.sql.abstracts.AbstractSqlDao#setStreamFetchSize(int)} for
+     * how MySQL uses the fetch size.
+     * 
+     * @param fetchSize The fetch size of the statements.
+     * @return this options object {@link StatementOptions}
+     */
+    public StatementOptions fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Sets the cancellation that can stop the statements from another thread,
+     * such as when the client of a request has gone away.
+     * 
+     * @param cancellation The cancellation of the statements.
+     * @return this options object {@link StatementOptions}
+     */
+    public StatementOptions cancellation(QueryCancellation cancellation) {
+        this.cancellation = cancellation;
+        return this;
+    }
+
+    /**
+     * Gets the statement timeout.
+     * 
+     * @return The timeout, or null if it is not set.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Gets the statement timeout in whole seconds, rounded up.
+     * 
+     * @return The timeout in seconds, or -1 if it is not set.
+     */
+    public int getTimeoutSeconds() {
+        if(timeout == null) {
+            return -1;
+        }
+        long seconds = (timeout.toMillis() + 999) / 1000;
+        return (int) Math.min(Math.max(seconds, 1), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the max rows of the statements.
+     * 
+     * @return The max rows, or null if it is not set.
+     */
+    public Integer getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Gets the fetch size of the statements.
+     * 
+     * @return The fetch size, or null if it is not set.
+     */
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gets the cancellation of the statements.
+     * 
+     * @return The cancellation, or null if it is not set.
+     */
+    public QueryCancellation getCancellation() {
+        return cancellation;
+    }
+
+    /**
+     * Merges the given options on top of these ones. Every option set on the
+     * overrides replaces the one set here, neither object is changed.
+     * 
+     * @param overrides The options that take priority.
+     * @return New {@link StatementOptions} with the merged options.
+     */
+    public StatementOptions merge(StatementOptions overrides) {
+        StatementOptions merged = new StatementOptions();
+        merged.timeout = overrides.timeout != null ? overrides.timeout : timeout;
+        merged.maxRows = overrides.maxRows != null ? overrides.maxRows : maxRows;
+        merged.fetchSize = overrides.fetchSize != null ? overrides.fetchSize : fetchSize;
+        merged.cancellation = overrides.cancellation != null ? overrides.cancellation : cancellation;
+        return merged;
+    }
+}
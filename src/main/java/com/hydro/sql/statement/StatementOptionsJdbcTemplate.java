@@ -0,0 +1,61 @@
+package com.hydro.sql.statement;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * {@link JdbcTemplate} that applies the {@link StatementOptions} of the current
+ * {@link StatementScope} to every statement it creates, including the ones made
+ * inside of a connection callback. The settings of the template itself are used
+ * for any option the scope does not set. Errors from a cancelled query are
+ * thrown as a {@link QueryCancelledException}.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class StatementOptionsJdbcTemplate extends JdbcTemplate {
+
+    public StatementOptionsJdbcTemplate(DataSource source) {
+        super(source);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        StatementOptions options = StatementScope.current();
+        if(options == null) {
+            return;
+        }
+
+        QueryCancellation cancellation = options.getCancellation();
+        if(cancellation != null && cancellation.isCancelled()) {
+            throw new SQLException("Query was cancelled before it was run", "70100");
+        }
+
+        if(options.getFetchSize() != null) {
+            stmt.setFetchSize(options.getFetchSize());
+        }
+        if(options.getMaxRows() != null) {
+            stmt.setMaxRows(options.getMaxRows());
+        }
+        if(options.getTimeout() != null) {
+            DataSourceUtils.applyTimeout(stmt, getDataSource(), options.getTimeoutSeconds());
+        }
+        StatementScope.register(stmt);
+    }
+
+    @Override
+    protected DataAccessException translateException(String task, String sql, SQLException ex) {
+        StatementOptions options = StatementScope.current();
+        if(options != null && options.getCancellation() != null && options.getCancellation().isCancelled()) {
+            return new QueryCancelledException(task + " was cancelled", ex);
+        }
+        return super.translateException(task, sql, ex);
+    }
+}
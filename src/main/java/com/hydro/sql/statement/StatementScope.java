@@ -0,0 +1,177 @@
+package com.hydro.sql.statement;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@link StatementOptions} for the queries run on the current thread.
+ * The options are applied by {@link StatementOptionsJdbcTemplate} to every
+ * statement it creates inside of the scope. Scopes can be nested, the options
+ * set on an inner scope replace the outer ones.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class StatementScope {
+
+    private static final ThreadLocal<Scope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private StatementScope() {}
+
+    /**
+     * Gets the options of the current thread.
+     * 
+     * @return {@link StatementOptions} of the current thread, or null if none are
+     *         set.
+     */
+    public static StatementOptions current() {
+        Scope scope = CURRENT_SCOPE.get();
+        return scope == null ? null : scope.options;
+    }
+
+    /**
+     * Runs the given call with the options applied to its statements. Options set
+     * by an outer scope are kept unless they are replaced by these ones.
+     * 
+     * @param <T>     The return type of the call.
+     * @param options The options to apply.
+     * @param call    The call to run.
+     * @return The result of the call.
+     */
+    public static <T> T with(StatementOptions options, Supplier<T> call) {
+        StatementOptions current = current();
+        return runWith(current == null ? options : current.merge(options), call);
+    }
+
+    /**
+     * Runs the given call with the options used as defaults. Options already set
+     * on the current thread take priority over them.
+     * 
+     * @param <T>      The return type of the call.
+     * @param defaults The default options to apply.
+     * @param call     The call to run.
+     * @return The result of the call.
+     */
+    public static <T> T withDefaults(StatementOptions defaults, Supplier<T> call) {
+        StatementOptions current = current();
+        return runWith(current == null ? defaults : defaults.merge(current), call);
+    }
+
+    /**
+     * Wraps the given call so that it runs with the options of the current
+     * thread. This is used to carry the options over to calls that run on another
+     * thread.
+     * 
+     * @param <T>  The return type of the call.
+     * @param call The call to wrap.
+     * @return {@link Supplier} that runs the call with the current options.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        StatementOptions options = current();
+        if(options == null) {
+            return call;
+        }
+        return () -> runWith(options, call);
+    }
+
+    /**
+     * Releases the statements of the current scope that have been closed, so a
+     * long scope only holds on to the statements that are still open. The daos
+     * call this once each query is done.
+     */
+    public static void releaseClosed() {
+        Scope scope = CURRENT_SCOPE.get();
+        if(scope != null) {
+            scope.releaseClosed();
+        }
+    }
+
+    /**
+     * Tracks the statement with the cancellation of the current scope, so it is
+     * cancelled if the cancellation is. It is released once it has been closed,
+     * or when the scope ends.
+     * 
+     * @param statement The statement being run.
+     */
+    static void register(Statement statement) {
+        Scope scope = CURRENT_SCOPE.get();
+        if(scope != null && scope.options.getCancellation() != null) {
+            scope.releaseClosed();
+            scope.options.getCancellation().register(statement);
+            scope.statements.add(statement);
+        }
+    }
+
+    /**
+     * Runs the call with the given options set, restoring the previous scope once
+     * it is done and releasing any statements it tracked.
+     * 
+     * @param <T>     The return type of the call.
+     * @param options The options to use.
+     * @param call    The call to run.
+     * @return The result of the call.
+     */
+    private static <T> T runWith(StatementOptions options, Supplier<T> call) {
+        Scope previous = CURRENT_SCOPE.get();
+        Scope scope = new Scope(options);
+        CURRENT_SCOPE.set(scope);
+        try {
+            return call.get();
+        }
+        finally {
+            scope.release();
+            if(previous == null) {
+                CURRENT_SCOPE.remove();
+            }
+            else {
+                CURRENT_SCOPE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The options of a scope and the statements it has tracked for cancellation.
+     */
+    private static class Scope {
+        private final StatementOptions options;
+
+        private final List<Statement> statements = new ArrayList<>(1);
+
+        private Scope(StatementOptions options) {
+            this.options = options;
+        }
+
+        private void release() {
+            QueryCancellation cancellation = options.getCancellation();
+            if(cancellation != null) {
+                statements.forEach(cancellation::release);
+            }
+        }
+
+        private void releaseClosed() {
+            QueryCancellation cancellation = options.getCancellation();
+            if(cancellation == null) {
+                return;
+            }
+            statements.removeIf(statement -> {
+                if(!isClosed(statement)) {
+                    return false;
+                }
+                cancellation.release(statement);
+                return true;
+            });
+        }
+
+        private static boolean isClosed(Statement statement) {
+            try {
+                return statement.isClosed();
+            }
+            catch(SQLException e) {
+                return true;
+            }
+        }
+    }
+}
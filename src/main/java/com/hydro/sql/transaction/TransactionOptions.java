@@ -0,0 +1,115 @@
+package com.hydro.sql.transaction;
+
+import java.time.Duration;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+/**
+ * Options for a {@link UnitOfWork}. By default the transaction uses the isolation
+ * level of the database, is not read only and has no timeout. A unit of work
+ * started inside of another one joins the outer transaction, unless
+ * {@link #requiresNew(boolean)} is set.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class TransactionOptions {
+    private Isolation isolation = Isolation.DEFAULT;
+
+    private boolean readOnly = false;
+
+    private Duration timeout;
+
+    private boolean requiresNew = false;
+
+    /**
+     * Private Constructor for the static create method.
+     */
+    private TransactionOptions() {}
+
+    /**
+     * Initialize the {@link TransactionOptions} with the default settings.
+     * 
+     * @return {@link TransactionOptions} with the default settings.
+     */
+    public static TransactionOptions create() {
+        return new TransactionOptions();
+    }
+
+    /**
+     * Sets the isolation level of the transaction.
+     * 
+     * @param isolation The isolation level.
+     * @return this options object {@link TransactionOptions}
+     */
+    public TransactionOptions isolation(Isolation isolation) {
+        this.isolation = isolation;
+        return this;
+    }
+
+    /**
+     * Marks the transaction as read only. The connection is set to read only, so
+     * MySQL can skip the transaction id and undo tracking, and when the datasource
+     * has replicas the transaction is run on a replica.
+     * 
+     * @param readOnly If the transaction is read only.
+     * @return this options object {@link TransactionOptions}
+     */
+    public TransactionOptions readOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        return this;
+    }
+
+    /**
+     * Sets how long the statements of the transaction can run before they are
+     * cancelled. The time is counted from the start of the transaction.
+     * 
+     * @param timeout The transaction timeout, or null for none.
+     * @return this options object {@link TransactionOptions}
+     */
+    public TransactionOptions timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Runs the unit of work in its own transaction, even when it is started inside
+     * of another one. The outer transaction is suspended until it is done.
+     * 
+     * @param requiresNew If a new transaction should always be started.
+     * @return this options object {@link TransactionOptions}
+     */
+    public TransactionOptions requiresNew(boolean requiresNew) {
+        this.requiresNew = requiresNew;
+        return this;
+    }
+
+    /**
+     * Checks to see if the transaction is read only.
+     * 
+     * @return {@link Boolean} saying if the transaction is read only.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Builds the spring transaction definition for the options.
+     * 
+     * @param name The name of the transaction, used in the logs.
+     * @return {@link TransactionDefinition} for the options.
+     */
+    public TransactionDefinition toDefinition(String name) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition(requiresNew
+                ? TransactionDefinition.PROPAGATION_REQUIRES_NEW : TransactionDefinition.PROPAGATION_REQUIRED);
+        definition.setName(name);
+        definition.setIsolationLevel(isolation.value());
+        definition.setReadOnly(readOnly);
+        if(timeout != null) {
+            definition.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        }
+        return definition;
+    }
+}
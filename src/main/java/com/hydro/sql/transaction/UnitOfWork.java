@@ -0,0 +1,148 @@
+package com.hydro.sql.transaction;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hydro.sql.cache.SqlResourceRegistry;
+import com.hydro.sql.routing.DataSourceRouting;
+
+/**
+ * A group of queries run in a single transaction on one connection. Every dao
+ * on the same datasource that is called inside of the unit of work uses the
+ * bound connection, so the writes are committed together once the work returns
+ * and rolled back together if it throws. Savepoints can be used to undo a single
+ * step without losing the rest of the work.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class UnitOfWork {
+    private final TransactionStatus status;
+
+    /**
+     * Private Constructor for the static run method.
+     * 
+     * @param status The status of the transaction.
+     */
+    private UnitOfWork(TransactionStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * Runs the work in a transaction on the given datasource. The transaction is
+     * committed when the work returns and rolled back when it throws. A read only
+     * transaction is run on a replica when the datasource has replicas.
+     * 
+     * @param <T>     The return type of the work.
+     * @param source  The datasource to run the transaction on.
+     * @param options The options of the transaction.
+     * @param work    The work to run.
+     * @return The result of the work.
+     */
+    public static <T> T run(DataSource source, TransactionOptions options, Function<UnitOfWork, T> work) {
+        TransactionTemplate template = new TransactionTemplate(SqlResourceRegistry.transactionManager(source),
+                                                               options.toDefinition(null));
+        Supplier<T> transaction = () -> template.execute(status -> work.apply(new UnitOfWork(status)));
+        return options.isReadOnly() ? DataSourceRouting.onReplica(transaction)
+                : DataSourceRouting.onPrimary(transaction);
+    }
+
+    /**
+     * Runs the step inside of a savepoint. If the step throws, only its changes
+     * are rolled back and the error is rethrown, the rest of the unit of work is
+     * kept and can still be committed.
+     * 
+     * @param <T>  The return type of the step.
+     * @param step The step to run.
+     * @return The result of the step.
+     */
+    public <T> T savepoint(Supplier<T> step) {
+        Object savepoint = createSavepoint();
+        T result;
+        try {
+            result = step.get();
+        }
+        catch(RuntimeException e) {
+            rollbackToSavepoint(savepoint);
+            throw e;
+        }
+        releaseSavepoint(savepoint);
+        return result;
+    }
+
+    /**
+     * Creates a savepoint at the current point of the transaction.
+     * 
+     * @return The savepoint, to pass to {@link #rollbackToSavepoint(Object)}.
+     */
+    public Object createSavepoint() {
+        return status.createSavepoint();
+    }
+
+    /**
+     * Rolls back every change made since the savepoint was created.
+     * 
+     * @param savepoint The savepoint to roll back to.
+     */
+    public void rollbackToSavepoint(Object savepoint) {
+        status.rollbackToSavepoint(savepoint);
+    }
+
+    /**
+     * Releases the savepoint once it is no longer needed.
+     * 
+     * @param savepoint The savepoint to release.
+     */
+    public void releaseSavepoint(Object savepoint) {
+        status.releaseSavepoint(savepoint);
+    }
+
+    /**
+     * Marks the transaction to be rolled back once the work returns, without
+     * having to throw an error.
+     */
+    public void setRollbackOnly() {
+        status.setRollbackOnly();
+    }
+
+    /**
+     * Checks to see if the transaction will be rolled back.
+     * 
+     * @return {@link Boolean} saying if the transaction is rollback only.
+     */
+    public boolean isRollbackOnly() {
+        return status.isRollbackOnly();
+    }
+
+    /**
+     * Checks to see if this unit of work started the transaction, or joined one
+     * that was already running.
+     * 
+     * @return {@link Boolean} saying if this is a new transaction.
+     */
+    public boolean isNewTransaction() {
+        return status.isNewTransaction();
+    }
+
+    /**
+     * Runs the callback once the transaction has been committed. It is not run if
+     * the transaction is rolled back.
+     * 
+     * @param callback The callback to run after the commit.
+     */
+    public void afterCommit(Runnable callback) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                callback.run();
+            }
+        });
+    }
+}
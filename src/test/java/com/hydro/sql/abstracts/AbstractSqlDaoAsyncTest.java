@@ -0,0 +1,91 @@
+package com.hydro.sql.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.hydro.sql.retry.RetryPolicy;
+import com.hydro.sql.routing.DataSourceRoute;
+import com.hydro.sql.routing.DataSourceRouting;
+import com.hydro.sql.statement.StatementOptions;
+import com.hydro.sql.statement.StatementScope;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Test class for the async reads of the Abstract Sql Dao.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class AbstractSqlDaoAsyncTest {
+    private HikariDataSource source;
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        source = DatabaseConnectionBuilder.create().embedded("dao_async").maximumPoolSize(2).minimumIdle(0)
+                .buildPooledSource();
+        SqlTestTables.createSystems(source, 5);
+        dao = new SqlTestDao(source);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        source.close();
+    }
+
+    @Test
+    public void testGetPageAsyncRunsOnExecutor() {
+        String caller = Thread.currentThread().getName();
+        List<QueryContext> contexts = dao.getSystemNamesAsync(QueryContext.MAPPER).join();
+
+        assertEquals(5, contexts.size(), "Every row should be returned");
+        assertNotEquals(caller, contexts.get(0).thread, "Query should run on the executor");
+        assertEquals(DataSourceRoute.REPLICA, contexts.get(0).route, "Reads should default to the replica");
+        assertNull(contexts.get(0).maxRows, "No statement options should be set");
+        assertFalse(contexts.get(0).idempotent, "Query should not be idempotent");
+    }
+
+    @Test
+    public void testGetPageAsyncCarriesCallerContext() {
+        String caller = Thread.currentThread().getName();
+        StatementOptions options = StatementOptions.create().maxRows(2);
+        CompletableFuture<List<QueryContext>> future = DataSourceRouting.onPrimary(
+                () -> StatementScope.with(options, () -> RetryPolicy.idempotent(this::getContextsAsync)));
+        List<QueryContext> contexts = future.join();
+
+        assertEquals(2, contexts.size(), "Max rows should be applied on the executor");
+        QueryContext context = contexts.get(0);
+        assertNotEquals(caller, context.thread, "Query should run on the executor");
+        assertEquals(DataSourceRoute.PRIMARY, context.route, "Primary route should carry over");
+        assertEquals(Integer.valueOf(2), context.maxRows, "Statement scope should carry over");
+        assertTrue(context.idempotent, "Idempotent flag should carry over");
+    }
+
+    private CompletableFuture<List<QueryContext>> getContextsAsync() {
+        return dao.getSystemNamesAsync(QueryContext.MAPPER);
+    }
+
+    /**
+     * Context of the thread a row was mapped on.
+     */
+    private static class QueryContext {
+        static final RowMapper<QueryContext> MAPPER = (rs, n) -> new QueryContext();
+
+        final String thread = Thread.currentThread().getName();
+
+        final DataSourceRoute route = DataSourceRouting.current();
+
+        final Integer maxRows = StatementScope.current() == null ? null : StatementScope.current().getMaxRows();
+
+        final boolean idempotent = RetryPolicy.isIdempotent();
+    }
+}
@@ -0,0 +1,99 @@
+package com.hydro.sql.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Test class for the batch writes of the Abstract Sql Dao.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class AbstractSqlDaoBatchTest {
+    private static final String URL = "jdbc:h2:mem:dao_batch;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        DriverManagerDataSource source = new DriverManagerDataSource(URL, "sa", "");
+        SqlTestTables.createSystems(source);
+        dao = new SqlTestDao(source);
+        dao.setBatchSize(2);
+    }
+
+    @Test
+    public void testPostBatchAcrossBatchSize() {
+        int[] counts = dao.insertSystems(List.of("a", "b", "c", "d", "e"), null);
+
+        assertArrayEquals(new int[] { 1, 1, 1, 1, 1 }, counts, "Each row should be inserted");
+        assertEquals(5, dao.getSystemCount(), "Every batch should be written");
+    }
+
+    @Test
+    public void testPostBatchGeneratedKeys() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        dao.insertSystems(List.of("a", "b", "c"), keyHolder);
+
+        List<Integer> ids = new ArrayList<>();
+        for(Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).intValue());
+        }
+        assertEquals(List.of(1, 2, 3), ids, "Keys should be in row order across batches");
+    }
+
+    @Test
+    public void testUpdateBatchAffectedCounts() {
+        dao.insertSystems(List.of("a", "b", "c"), null);
+
+        int[] counts = dao.updateSystemNames(List.of(row(1, "x"), row(4, "y"), row(3, "z")));
+
+        assertArrayEquals(new int[] { 1, 0, 1 }, counts, "Missing row should not be updated");
+    }
+
+    @Test
+    public void testDeleteBatchAffectedCounts() {
+        dao.insertSystems(List.of("a", "b", "c"), null);
+
+        int[] counts = dao.deleteSystems(List.of(row(1, null), row(2, null), row(2, null)));
+
+        assertArrayEquals(new int[] { 1, 1, 0 }, counts, "Deleted rows");
+        assertEquals(1, dao.getSystemCount(), "One row should be left");
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertEquals(0, dao.insertSystems(List.of(), null).length, "No counts for an empty batch");
+        assertEquals(0, dao.updateSystemNames(List.of()).length, "No counts for an empty batch");
+    }
+
+    @Test
+    public void testBatchRowsMustHaveSameShape() {
+        MapSqlParameterSource first = SqlParamBuilder.with().withParam("ids", List.of(1, 2)).build();
+        MapSqlParameterSource second = SqlParamBuilder.with().withParam("ids", List.of(3, 4, 5)).build();
+
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> dao.deleteSystemLists(List.of(first, second)),
+                     "Rows with a different number of values should be rejected");
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                     () -> dao.updateSystemNames(List.of(row(1, "x"), new MapSqlParameterSource("id", 2))),
+                     "Rows with missing params should be rejected");
+    }
+
+    private MapSqlParameterSource row(int id, String name) {
+        return SqlParamBuilder.with().withParam("id", id).withParam("name", name).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.hydro.sql.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hydro.sql.cache.QueryResultCache;
+
+/**
+ * Test class for the result cache of the Abstract Sql Dao.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class AbstractSqlDaoCacheTest {
+    private static final String URL = "jdbc:h2:mem:dao_cache;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private SqlTestDao dao;
+
+    private QueryResultCache cache;
+
+    @BeforeEach
+    public void setup() {
+        DriverManagerDataSource source = new DriverManagerDataSource(URL, "sa", "");
+        SqlTestTables.createSystems(source, 1);
+
+        cache = new QueryResultCache(100, Duration.ofMinutes(5));
+        dao = new SqlTestDao(source);
+        dao.setResultCache(cache);
+    }
+
+    @Test
+    public void testReadsAreCached() {
+        dao.getSystemName(1);
+        dao.getSystemName(1);
+
+        assertEquals(1, cache.stats().hitCount(), "Second read should come from the cache");
+    }
+
+    @Test
+    public void testUpdateEvictsCachedRead() {
+        assertEquals("system 1", dao.getSystemName(1), "First read");
+
+        dao.updateSystemName(1, "renamed");
+
+        assertEquals("renamed", dao.getSystemName(1), "Read after the update should not be stale");
+    }
+
+    @Test
+    public void testPostEvictsCachedRead() {
+        assertEquals(1, dao.getSystemCount(), "First count");
+
+        dao.insertSystem("system 2");
+
+        assertEquals(2, dao.getSystemCount(), "Count after the insert should not be stale");
+    }
+
+    @Test
+    public void testDeleteEvictsCachedRead() {
+        assertEquals("system 1", dao.getSystemName(1), "First read");
+
+        dao.deleteSystem(1);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> dao.getSystemName(1),
+                     "Read after the delete should not be stale");
+    }
+
+    @Test
+    public void testRolledBackWriteIsEvictedAfterCompletion() {
+        dao.inTransaction(work -> {
+            dao.updateSystemName(1, "uncommitted");
+            assertEquals("uncommitted", dao.getSystemName(1), "Read inside the transaction");
+            work.setRollbackOnly();
+            return null;
+        });
+
+        assertEquals("system 1", dao.getSystemName(1), "Uncommitted read should be evicted after the rollback");
+    }
+
+    @Test
+    public void testCommittedWriteIsEvictedAfterCompletion() {
+        assertEquals("system 1", dao.getSystemName(1), "First read");
+
+        dao.inTransaction(work -> dao.updateSystemName(1, "committed"));
+
+        assertEquals("committed", dao.getSystemName(1), "Read after the commit should not be stale");
+    }
+}
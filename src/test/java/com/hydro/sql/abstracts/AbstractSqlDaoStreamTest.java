@@ -0,0 +1,86 @@
+package com.hydro.sql.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.hydro.sql.columnar.ColumnarResult;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Test class for the streaming reads of the Abstract Sql Dao.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class AbstractSqlDaoStreamTest {
+    private HikariDataSource source;
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        source = DatabaseConnectionBuilder.create().embedded("dao_stream").maximumPoolSize(2).minimumIdle(0)
+                .buildPooledSource();
+        SqlTestTables.createSystems(source, 5);
+        dao = new SqlTestDao(source);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        source.close();
+    }
+
+    @Test
+    public void testGetStream() {
+        try(Stream<String> names = dao.streamSystemNames()) {
+            assertEquals(List.of("system 1", "system 2", "system 3", "system 4", "system 5"),
+                         names.collect(Collectors.toList()), "Every row should be streamed");
+        }
+        assertEquals(0, activeConnections(), "Connection should be released");
+    }
+
+    @Test
+    public void testGetStreamClosedEarly() {
+        try(Stream<String> names = dao.streamSystemNames()) {
+            Iterator<String> iterator = names.iterator();
+            assertEquals("system 1", iterator.next(), "First row");
+            assertEquals(1, activeConnections(), "Open stream should hold a connection");
+        }
+        assertEquals(0, activeConnections(), "Connection should be released when the stream is closed");
+    }
+
+    @Test
+    public void testGetEach() {
+        List<String> names = new ArrayList<>();
+
+        dao.forEachSystemName(names::add);
+
+        assertEquals(5, names.size(), "Every row should be consumed");
+        assertEquals("system 5", names.get(4), "Rows should be in order");
+        assertEquals(0, activeConnections(), "Connection should be released");
+    }
+
+    @Test
+    public void testGetColumns() {
+        ColumnarResult result = dao.getSystemPh();
+
+        assertEquals(5, result.size(), "Row count");
+        assertEquals(3, result.getLongs("id").get(2), "Id column");
+        assertEquals(6.5, result.getDoubles("ph").get(4), 0.0001, "Ph column");
+        assertEquals(0, activeConnections(), "Connection should be released");
+    }
+
+    private int activeConnections() {
+        return source.getHikariPoolMXBean().getActiveConnections();
+    }
+}
@@ -0,0 +1,157 @@
+package com.hydro.sql.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hydro.common.dictionary.enums.WebRole;
+
+/**
+ * Test class for the Compiled Row Mapper.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class CompiledRowMapperTest {
+    private static final LocalDateTime INSERT_DATE = LocalDateTime.of(2022, 8, 27, 12, 30);
+
+    private JdbcTemplate template;
+
+    @BeforeEach
+    public void setup() {
+        template = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:compiled_mapper;DB_CLOSE_DELAY=-1", "sa",
+                                                                ""));
+        template.execute("CREATE TABLE systems (id INT PRIMARY KEY, system_name VARCHAR(64), ph DOUBLE, "
+                + "tds DOUBLE, enabled BOOLEAN, web_role VARCHAR(16), insert_date_utc TIMESTAMP)");
+        template.update("INSERT INTO systems VALUES (1, 'tower', 6.2, 840.0, TRUE, 'ADMIN', ?)", INSERT_DATE);
+        template.update("INSERT INTO systems VALUES (2, 'raft', 5.8, NULL, FALSE, NULL, NULL)");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        template.execute("DROP TABLE systems");
+    }
+
+    @Test
+    public void testMapRowsFromSetters() {
+        List<TestSystem> systems = template.query("SELECT * FROM systems ORDER BY id",
+                                                  AbstractMapper.compiled(TestSystem.class)
+                                                          .withColumn("insertDate", "insert_date_utc"));
+
+        assertEquals(2, systems.size(), "Size should be 2");
+        assertEquals(1, systems.get(0).getId(), "Id");
+        assertEquals("tower", systems.get(0).getSystemName(), "System Name");
+        assertEquals(6.2, systems.get(0).getPh(), "Ph");
+        assertEquals(840.0, systems.get(0).getTds(), "Tds");
+        assertTrue(systems.get(0).isEnabled(), "Enabled");
+        assertEquals(WebRole.ADMIN, systems.get(0).getWebRole(), "Web Role");
+        assertEquals(INSERT_DATE, systems.get(0).getInsertDate(), "Insert Date");
+    }
+
+    @Test
+    public void testNullColumnsMapToNull() {
+        TestSystem system = template.queryForObject("SELECT * FROM systems WHERE id = 2",
+                                                    AbstractMapper.compiled(TestSystem.class));
+
+        assertNull(system.getTds(), "Tds should be null");
+        assertNull(system.getWebRole(), "Web Role should be null");
+        assertNull(system.getInsertDate(), "Insert Date should be null");
+    }
+
+    @Test
+    public void testMissingColumnsAreSkipped() {
+        CompiledRowMapper<TestSystem> mapper = AbstractMapper.compiled(TestSystem.class);
+        TestSystem system = template.queryForObject("SELECT id, ph FROM systems WHERE id = 1", mapper);
+        TestSystem other = template.queryForObject("SELECT id, system_name FROM systems WHERE id = 2", mapper);
+
+        assertEquals(6.2, system.getPh(), "Ph");
+        assertNull(system.getSystemName(), "System Name should not be mapped");
+        assertEquals("raft", other.getSystemName(), "Columns should be resolved again for a new result");
+        assertEquals(0, other.getPh(), "Ph should not be mapped");
+    }
+
+    @Test
+    public void testClassWithoutConstructorThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> AbstractMapper.compiled(Integer.class),
+                     "Class without a no-args constructor should not be mapped");
+    }
+
+    public static class TestSystem {
+        private int id;
+
+        private String systemName;
+
+        private double ph;
+
+        private Double tds;
+
+        private boolean enabled;
+
+        private WebRole webRole;
+
+        private LocalDateTime insertDate;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getSystemName() {
+            return systemName;
+        }
+
+        public void setSystemName(String systemName) {
+            this.systemName = systemName;
+        }
+
+        public double getPh() {
+            return ph;
+        }
+
+        public void setPh(double ph) {
+            this.ph = ph;
+        }
+
+        public Double getTds() {
+            return tds;
+        }
+
+        public void setTds(Double tds) {
+            this.tds = tds;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public WebRole getWebRole() {
+            return webRole;
+        }
+
+        public void setWebRole(WebRole webRole) {
+            this.webRole = webRole;
+        }
+
+        public LocalDateTime getInsertDate() {
+            return insertDate;
+        }
+
+        public void setInsertDate(LocalDateTime insertDate) {
+            this.insertDate = insertDate;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.hydro.sql.abstracts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.hydro.sql.builder.SqlParamBuilder;
+import com.hydro.sql.columnar.ColumnarResult;
+import com.hydro.sql.columnar.ColumnarResultSetExtractor;
+import com.hydro.sql.paging.Keyset;
+import com.hydro.sql.paging.KeysetPage;
+import com.hydro.sql.statement.StatementOptions;
+
+/**
+ * Test dao used to run the queries of the abstract sql dao.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SqlTestDao extends BaseDao {
+    private static final Keyset ID_KEYSET = Keyset.on("id");
+
+    public SqlTestDao(DataSource source) {
+        super(source);
+    }
+
+    public int[] insertSystems(List<String> names, KeyHolder keyHolder) {
+        List<MapSqlParameterSource> rows = new ArrayList<>(names.size());
+        for(int i = 0; i < names.size(); i++) {
+            rows.add(SqlParamBuilder.with().withParam("name", names.get(i)).withParam("ph", 6.0 + i).build());
+        }
+        return postBatch(getSql("insertSystem"), rows, keyHolder);
+    }
+
+    public int[] updateSystemNames(Collection<MapSqlParameterSource> rows) {
+        return updateBatch(getSql("updateSystemName"), rows);
+    }
+
+    public int[] deleteSystems(Collection<MapSqlParameterSource> rows) {
+        return deleteBatch(getSql("deleteSystem"), rows);
+    }
+
+    public int[] deleteSystemLists(Collection<MapSqlParameterSource> rows) {
+        return deleteBatch(getSql("deleteSystems"), rows);
+    }
+
+    public int getSystemCount() {
+        return get(getSql("getSystemCount"), Integer.class);
+    }
+
+    public List<String> getSystemNames() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return getPage(getSql("getSystemNames", params), params, (rs, n) -> rs.getString(1));
+    }
+
+    public List<String> getSystemNames(Collection<Integer> ids) {
+        String sql = getSql("getSystemNamesForIds", SqlParamBuilder.with().withInList("ids", ids).build());
+        return getForKeys(sql, new MapSqlParameterSource(), "ids", ids, (rs, n) -> rs.getString(1));
+    }
+
+    public Stream<String> streamSystemNames() {
+        return getStream(getSql("getSystemNames"), (rs, n) -> rs.getString(1));
+    }
+
+    public void forEachSystemName(Consumer<String> consumer) {
+        getEach(getSql("getSystemNames"), new MapSqlParameterSource(), (rs, n) -> rs.getString(1), consumer);
+    }
+
+    public <T> CompletableFuture<List<T>> getSystemNamesAsync(RowMapper<T> mapper) {
+        return getPageAsync(getSql("getSystemNames"), new MapSqlParameterSource(), mapper);
+    }
+
+    public ColumnarResult getSystemPh() {
+        return getColumns(getSql("getSystemPh"), new MapSqlParameterSource(),
+                          ColumnarResultSetExtractor.create().longColumns("id").doubleColumns("ph"));
+    }
+
+    public String getSystemName(int id) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("id", id).build();
+        return get(getSql("getSystemName", params), params, String.class);
+    }
+
+    public int insertSystem(String name) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("name", name).withParam("ph", 7.0).build();
+        return post(getSql("insertSystem", params), params);
+    }
+
+    public int insertSystem(int id, String name) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("id", id).withParam("name", name).build();
+        return post(getSql("insertSystemWithId", params), params);
+    }
+
+    public int updateSystemName(int id, String name) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("id", id).withParam("name", name).build();
+        return update(getSql("updateSystemName", params), params);
+    }
+
+    public int deleteSystem(int id) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("id", id).build();
+        return delete(getSql("deleteSystem", params), params);
+    }
+
+    public KeysetPage<Long> getReadingIds(int systemId, int pageSize, String pageToken) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("system_id", systemId).build();
+        return getKeysetPage("getReadingsPage", params, ID_KEYSET, pageSize, pageToken,
+                             (rs, rowNum) -> rs.getLong("id"));
+    }
+
+    public long getSlowSum() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        return get(getSql("getSlowSum", params), params, Long.class);
+    }
+
+    public <T> T withOptions(StatementOptions options, Supplier<T> call) {
+        return withStatementOptions(options, call);
+    }
+}
@@ -0,0 +1,49 @@
+package com.hydro.sql.abstracts;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Creates the tables read by the {@link SqlTestDao}.
+ *
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public final class SqlTestTables {
+
+    private SqlTestTables() {
+    }
+
+    /**
+     * Recreates the systems table with the given number of rows. The rows are
+     * named {@code system 1} to {@code system <count>} and get ids in the same
+     * order.
+     *
+     * @param source The data source to create the table in.
+     * @param count  The number of rows to insert.
+     */
+    public static void createSystems(DataSource source, int count) {
+        String[] names = new String[count];
+        for(int i = 0; i < count; i++) {
+            names[i] = "system " + (i + 1);
+        }
+        createSystems(source, names);
+    }
+
+    /**
+     * Recreates the systems table with one row per name. The rows get ids from 1
+     * in the order of the names and a ph of 6 plus a tenth of their id.
+     *
+     * @param source The data source to create the table in.
+     * @param names  The names of the rows to insert.
+     */
+    public static void createSystems(DataSource source, String... names) {
+        JdbcTemplate template = new JdbcTemplate(source);
+        template.execute("DROP TABLE IF EXISTS systems");
+        template.execute("CREATE TABLE systems (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(64), ph DOUBLE)");
+        for(int i = 1; i <= names.length; i++) {
+            template.update("INSERT INTO systems (name, ph) VALUES (?, ?)", names[i - 1], 6.0 + i / 10.0);
+        }
+    }
+}
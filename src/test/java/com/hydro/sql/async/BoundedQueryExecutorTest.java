@@ -0,0 +1,87 @@
+package com.hydro.sql.async;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.hydro.sql.routing.ReadWriteRoutingDataSource;
+
+/**
+ * Test class for the Bounded Query Executor.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class BoundedQueryExecutorTest {
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        BoundedQueryExecutor executor = new BoundedQueryExecutor(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for(int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        assertTrue(maxRunning.get() <= 2, "No more than 2 queries should run at once");
+        assertEquals(0, awaitIdle(executor), "All permits should be released");
+    }
+
+    @Test
+    public void testExecutorIsSizedToPool() {
+        BoundedQueryExecutor executor = BoundedQueryExecutor
+                .forDataSource(DatabaseConnectionBuilder.create().maximumPoolSize(4).build());
+        assertEquals(4, executor.getMaxConcurrency(), "Concurrency should match the pool size");
+        executor.shutdown();
+    }
+
+    @Test
+    public void testExecutorIsSizedToRoutingPools() {
+        ReadWriteRoutingDataSource source = DatabaseConnectionBuilder.create().url("fakeURL").maximumPoolSize(6)
+                .replicaUrl("fakeReplicaURL").buildRoutingSource();
+        BoundedQueryExecutor executor = BoundedQueryExecutor.forDataSource(source);
+        assertEquals(6, executor.getMaxConcurrency(), "Concurrency should match the routed pool sizes");
+        executor.shutdown();
+        source.close();
+    }
+
+    /**
+     * Waits for the running queries to release their permits. A future completes
+     * inside of its task, just before the permit is released, so the count can
+     * lag behind the join.
+     * 
+     * @param executor The executor to wait on.
+     * @return The active count once it is 0, or when the wait times out.
+     */
+    private int awaitIdle(BoundedQueryExecutor executor) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            sleep(1);
+        }
+        return executor.getActiveCount();
+    }
+
+    private void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hydro.sql.builder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Test class for the Bulk Insert Builder.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class BulkInsertBuilderTest {
+
+    @Test
+    public void testBuildSql() {
+        String sql = BulkInsertBuilder.into("sensor_readings").columns("system_id", "ph").buildSql(3);
+
+        assertEquals("INSERT INTO sensor_readings (system_id, ph) VALUES (?,?),(?,?),(?,?)", sql, "Insert Sql");
+    }
+
+    @Test
+    public void testBuildUpsertSql() {
+        String sql = BulkInsertBuilder.into("sensor_readings").columns("id", "ph", "tds")
+                .onDuplicateKeyUpdate("ph", "tds").buildSql(1);
+
+        assertEquals("INSERT INTO sensor_readings (id, ph, tds) VALUES (?,?,?) "
+                + "ON DUPLICATE KEY UPDATE ph = VALUES(ph), tds = VALUES(tds)", sql, "Upsert Sql");
+    }
+
+    @Test
+    public void testBuildLoadDataSql() {
+        String sql = BulkInsertBuilder.into("sensor_readings").columns("system_id", "ph").buildLoadDataSql();
+
+        assertEquals("LOAD DATA LOCAL INFILE 'stream' INTO TABLE sensor_readings CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (system_id, ph)", sql,
+                     "Load Data Sql");
+    }
+
+    @Test
+    public void testFullStatementSqlIsReused() {
+        BulkInsertBuilder insert = BulkInsertBuilder.into("sensor_readings").columns("ph").maxRowsPerStatement(2);
+
+        assertSame(insert.buildSql(2), insert.buildSql(2), "Full statement sql should be reused");
+    }
+
+    @Test
+    public void testChunksCappedByRows() {
+        BulkInsertBuilder insert = BulkInsertBuilder.into("sensor_readings").columns("ph").maxRowsPerStatement(2);
+
+        List<Integer> sizes = chunkSizes(insert, rows(5, "x"));
+
+        assertEquals(List.of(2, 2, 1), sizes, "Chunk sizes");
+    }
+
+    @Test
+    public void testChunksCappedByStatementBytes() {
+        BulkInsertBuilder insert = BulkInsertBuilder.into("sensor_readings").columns("ph").maxStatementBytes(400);
+
+        List<Integer> sizes = chunkSizes(insert, rows(4, "x".repeat(40)));
+
+        assertEquals(List.of(1, 1, 1, 1), sizes, "Each row should be in its own statement");
+    }
+
+    @Test
+    public void testMaxRowsLimitedByPlaceholders() {
+        BulkInsertBuilder insert = BulkInsertBuilder.into("sensor_readings").columns("a", "b", "c")
+                .maxRowsPerStatement(100000);
+
+        assertEquals(21845, insert.getMaxRowsPerStatement(), "Max rows per statement");
+    }
+
+    @Test
+    public void testInvalidIdentifierThrowsException() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> BulkInsertBuilder.into("sensor_readings; DROP TABLE x"));
+
+        assertEquals("Invalid identifier 'sensor_readings; DROP TABLE x' for bulk insert", e.getMessage(),
+                     "Exception Message");
+    }
+
+    @Test
+    public void testNoColumnsThrowsException() {
+        assertThrows(IllegalStateException.class, () -> BulkInsertBuilder.into("sensor_readings").buildSql(1),
+                     "Columns should be required");
+    }
+
+    private List<SqlParameterSource> rows(int count, String value) {
+        List<SqlParameterSource> rows = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            rows.add(new MapSqlParameterSource("ph", value));
+        }
+        return rows;
+    }
+
+    private List<Integer> chunkSizes(BulkInsertBuilder insert, List<SqlParameterSource> rows) {
+        List<Integer> sizes = new ArrayList<>();
+        Iterator<List<SqlParameterSource>> chunks = insert.chunks(rows.iterator());
+        while(chunks.hasNext()) {
+            sizes.add(chunks.next().size());
+        }
+        return sizes;
+    }
+}
@@ -2,12 +2,17 @@ package com.hydro.sql.builder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
 
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
+import com.zaxxer.hikari.HikariDataSource;
+
 /**
  * Test class for the Database Connection Builder.
  * 
@@ -46,4 +51,150 @@ public class DatabaseConnectionBuilderTest {
         assertEquals("SamIsAwesome.com?serverTimezone=EST&allowMultiQueries=false", source.getUrl(),
                      "Confirm Datasource URL.");
     }
+
+    @Test
+    public void testRewriteBatchedStatementsProperty() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL")
+                .rewriteBatchedStatements(true).buildManagerSource();
+        assertEquals("fakeURL?rewriteBatchedStatements=true", source.getUrl(), "Batch rewrite property");
+    }
+
+    @Test
+    public void testAllowLoadLocalInfileProperty() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL").allowLoadLocalInfile(true)
+                .buildManagerSource();
+        assertEquals("fakeURL?allowLoadLocalInfile=true", source.getUrl(), "Load local infile property");
+    }
+
+    @Test
+    public void testUseCursorFetchProperty() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL").useCursorFetch(true)
+                .buildManagerSource();
+        assertEquals("fakeURL?useCursorFetch=true", source.getUrl(), "Cursor fetch property");
+    }
+
+    @Test
+    public void testTimeoutProperties() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL").socketTimeout(60000)
+                .maxExecutionTime(30000).buildManagerSource();
+        assertEquals("fakeURL?socketTimeout=60000&sessionVariables=max_execution_time=30000", source.getUrl(),
+                     "Timeout properties");
+    }
+
+    @Test
+    public void testDataSourceIsPooled() {
+        DataSource source = DatabaseConnectionBuilder.create().url("fakeURL").useDefaultProperties().build();
+        assertTrue(source instanceof HikariDataSource, "Datasource should be pooled");
+        assertEquals("fakeURL?useSSL=false&useJDBCCompliantTimezoneShift=true&useLegacyDatetimeCode=false&useUnicode=true&serverTimezone=UTC",
+                     ((HikariDataSource) source).getJdbcUrl(), "Pooled source url");
+    }
+
+    @Test
+    public void testDefaultPoolSettings() {
+        HikariDataSource source = DatabaseConnectionBuilder.create().buildPooledSource();
+        assertEquals(10, source.getMaximumPoolSize(), "Maximum pool size");
+        assertEquals(10, source.getMinimumIdle(), "Minimum idle");
+        assertEquals(1800000, source.getMaxLifetime(), "Max lifetime");
+        assertEquals(30000, source.getConnectionTimeout(), "Connection timeout");
+        assertEquals(600000, source.getIdleTimeout(), "Idle timeout");
+        assertEquals(0, source.getLeakDetectionThreshold(), "Leak detection should be off");
+    }
+
+    @Test
+    public void testPoolConfigIsApplied() {
+        DataSourcePoolProperties properties = new DataSourcePoolProperties();
+        properties.setMaximumPoolSize(20);
+        properties.setIdleTimeout(120000);
+        properties.setLeakDetectionThreshold(30000);
+
+        HikariDataSource source = DatabaseConnectionBuilder.create().poolConfig(properties).minimumIdle(2)
+                .buildPooledSource();
+        assertEquals(20, source.getMaximumPoolSize(), "Maximum pool size");
+        assertEquals(120000, source.getIdleTimeout(), "Idle timeout");
+        assertEquals(30000, source.getLeakDetectionThreshold(), "Leak detection threshold");
+        assertEquals(2, source.getMinimumIdle(), "Minimum idle set after the config");
+    }
+
+    @Test
+    public void testPoolSettingsAreApplied() {
+        HikariDataSource source = DatabaseConnectionBuilder.create().maximumPoolSize(25).minimumIdle(5)
+                .maxLifetime(600000).leakDetectionThreshold(0).poolName("hydro-test").buildPooledSource();
+        assertEquals(25, source.getMaximumPoolSize(), "Maximum pool size");
+        assertEquals(5, source.getMinimumIdle(), "Minimum idle");
+        assertEquals(600000, source.getMaxLifetime(), "Max lifetime");
+        assertEquals(0, source.getLeakDetectionThreshold(), "Leak detection threshold");
+        assertEquals("hydro-test", source.getPoolName(), "Pool name");
+    }
+
+    @Test
+    public void testPoolPropertiesAreApplied() {
+        Properties props = new Properties();
+        props.setProperty("maxLifetime", "900000");
+        props.setProperty("idleTimeout", "300000");
+
+        HikariDataSource source = DatabaseConnectionBuilder.create().poolProperties(props).buildPooledSource();
+        assertEquals(900000, source.getMaxLifetime(), "Max lifetime");
+        assertEquals(300000, source.getIdleTimeout(), "Idle timeout");
+    }
+
+    @Test
+    public void testDatabaseIsAddedToUrl() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL").database("hydro_db")
+                .serverTimezone("UTC").buildManagerSource();
+        assertEquals("fakeURL/hydro_db?serverTimezone=UTC", source.getUrl(), "Database should be in url path");
+    }
+
+    @Test
+    public void testBuildManagerSourceCanBeCalledMultipleTimes() {
+        DatabaseConnectionBuilder builder = DatabaseConnectionBuilder.create().url("fakeURL");
+        builder.buildManagerSource();
+        assertEquals("fakeURL", builder.buildManagerSource().getUrl(), "Url should not change");
+    }
+
+    @Test
+    public void testEmbeddedUrlIsInMySqlMode() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().embedded("hydro_embedded")
+                .useDefaultProperties().database("hydro_db").buildManagerSource();
+
+        assertEquals("jdbc:h2:mem:hydro_embedded;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                     source.getUrl(), "Embedded url");
+        assertEquals("sa", source.getUsername(), "Embedded username");
+    }
+
+    @Test
+    public void testEmbeddedUrlKeepsExistingSettings() {
+        DatabaseConnectionBuilder builder = DatabaseConnectionBuilder.create()
+                .url("jdbc:h2:mem:hydro_embedded;MODE=MySQL;DB_CLOSE_DELAY=0");
+
+        assertTrue(builder.isEmbedded(), "Builder should be embedded");
+        assertEquals("jdbc:h2:mem:hydro_embedded;MODE=MySQL;DB_CLOSE_DELAY=0;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                     builder.buildManagerSource().getUrl(), "Embedded url");
+    }
+
+    @Test
+    public void testUrlAfterEmbeddedIsNotEmbedded() {
+        DatabaseConnectionBuilder builder = DatabaseConnectionBuilder.create().embedded("hydro_embedded")
+                .url("fakeURL");
+
+        assertFalse(builder.isEmbedded(), "Builder should not be embedded");
+        assertEquals("fakeURL", builder.buildManagerSource().getUrl(), "Url should not get the embedded settings");
+    }
+
+    @Test
+    public void testHighThroughputPropertiesAreAddedToUrl() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL")
+                .useHighThroughputProperties().buildManagerSource();
+        assertEquals("fakeURL?cachePrepStmts=true&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048&useServerPrepStmts=true"
+                + "&rewriteBatchedStatements=true&cacheResultSetMetadata=true&elideSetAutoCommits=true"
+                + "&useLocalSessionState=true", source.getUrl(), "High throughput properties get added to url");
+    }
+
+    @Test
+    public void testHighThroughputPropertiesKeepExistingValues() {
+        DriverManagerDataSource source = DatabaseConnectionBuilder.create().url("fakeURL").useServerPrepStmts(false)
+                .prepStmtCacheSize(500).useHighThroughputProperties().buildManagerSource();
+        assertTrue(source.getUrl().startsWith("fakeURL?useServerPrepStmts=false&prepStmtCacheSize=500&cachePrepStmts=true"),
+                   "Existing values are kept");
+        assertEquals(1, source.getUrl().split("useServerPrepStmts").length - 1, "Property is only added once");
+    }
 }
@@ -0,0 +1,104 @@
+package com.hydro.sql.builder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hydro.sql.abstracts.SqlTestDao;
+import com.hydro.sql.abstracts.SqlTestTables;
+import com.hydro.sql.async.BoundedQueryExecutor;
+
+/**
+ * Test class for the In List.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class InListTest {
+    private static final String URL = "jdbc:h2:mem:in_list;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Test
+    public void testBucketSize() {
+        assertEquals(0, InList.bucketSize(0), "Empty list");
+        assertEquals(1, InList.bucketSize(1), "Single value");
+        assertEquals(4, InList.bucketSize(3), "Three values");
+        assertEquals(8, InList.bucketSize(8), "Power of two");
+        assertEquals(1024, InList.bucketSize(513), "Just over a power of two");
+    }
+
+    @Test
+    public void testPadRepeatsLastValue() {
+        assertEquals(List.of("a", "b", "c", "c"), InList.pad(List.of("a", "b", "c")), "Padded list");
+        assertEquals(List.of("a", "b"), InList.pad(List.of("a", "b")), "List should not be padded");
+        assertTrue(InList.pad(List.of()).isEmpty(), "Empty list should stay empty");
+    }
+
+    @Test
+    public void testPadRemovesDuplicates() {
+        assertEquals(List.of("a", "b", "c", "c"), InList.pad(List.of("a", "b", "a", "c", "b")),
+                     "Duplicates should be removed before padding");
+    }
+
+    @Test
+    public void testPadNullValue() {
+        assertThrows(IllegalArgumentException.class, () -> InList.pad(Arrays.asList("a", null)),
+                     "Null values are not allowed");
+    }
+
+    @Test
+    public void testChunks() {
+        List<Integer> values = new ArrayList<>();
+        for(int i = 0; i < 10; i++) {
+            values.add(i);
+        }
+
+        List<List<Integer>> chunks = InList.chunks(values, 4);
+
+        assertEquals(3, chunks.size(), "Chunk count");
+        assertEquals(List.of(0, 1, 2, 3), chunks.get(0), "First chunk");
+        assertEquals(List.of(4, 5, 6, 7), chunks.get(1), "Second chunk");
+        assertEquals(List.of(8, 9), chunks.get(2), "Last chunk");
+        assertTrue(InList.chunks(List.of(), 4).isEmpty(), "No chunks for an empty list");
+    }
+
+    @Test
+    public void testGetForKeysMergesChunks() {
+        SqlTestDao dao = createDao();
+        dao.setInListChunkSize(4);
+
+        assertEquals(List.of("system 1", "system 2", "system 3", "system 5", "system 6", "system 7", "system 9"),
+                     dao.getSystemNames(List.of(1, 2, 3, 5, 6, 7, 9, 11)), "Rows of every chunk should be returned");
+        assertTrue(dao.getSystemNames(List.of()).isEmpty(), "No rows for no keys");
+    }
+
+    @Test
+    public void testGetForKeysOnQueryThread() {
+        BoundedQueryExecutor executor = new BoundedQueryExecutor(1);
+        SqlTestDao dao = createDao();
+        dao.setInListChunkSize(4);
+        dao.setQueryExecutor(executor);
+        try {
+            List<String> names = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> CompletableFuture
+                    .supplyAsync(() -> dao.getSystemNames(List.of(1, 2, 3, 5, 6, 7, 9, 11)), executor).join());
+
+            assertEquals(List.of("system 1", "system 2", "system 3", "system 5", "system 6", "system 7", "system 9"),
+                         names, "Chunks should run on the query thread without waiting on the executor");
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private SqlTestDao createDao() {
+        DriverManagerDataSource source = new DriverManagerDataSource(URL, "sa", "");
+        SqlTestTables.createSystems(source, 10);
+        return new SqlTestDao(source);
+    }
+}
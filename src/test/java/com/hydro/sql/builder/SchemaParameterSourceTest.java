@@ -0,0 +1,112 @@
+package com.hydro.sql.builder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Test class for the Schema Parameter Source.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SchemaParameterSourceTest {
+    private static final SqlParamSchema SCHEMA = SqlParamSchema.of("systemId", "ph", "insertDate");
+
+    private SchemaParameterSource params;
+
+    @BeforeEach
+    public void setup() {
+        params = SCHEMA.newSource();
+    }
+
+    @Test
+    public void testAddValue() {
+        params.addValue("systemId", 12).addValue("ph", 6.2);
+
+        assertEquals(12, params.getValue("systemId"), "System Id Value");
+        assertEquals(6.2, params.getValue("ph"), "Ph Value");
+        assertTrue(params.hasValue("ph"), "Ph should have a value");
+        assertFalse(params.hasValue("insertDate"), "Insert date should not have a value");
+        assertArrayEquals(new String[] {"systemId", "ph"}, params.getParameterNames(), "Parameter names");
+    }
+
+    @Test
+    public void testNullValueIsSet() {
+        params.addValue("ph", null);
+
+        assertTrue(params.hasValue("ph"), "Null value should still be set");
+        assertNull(params.getValue("ph"), "Ph Value");
+    }
+
+    @Test
+    public void testResetClearsValues() {
+        params.addValue("systemId", 12).addValue("ph", 6.2);
+        params.reset().addValue("systemId", 13);
+
+        assertEquals(13, params.getValue("systemId"), "System Id Value");
+        assertFalse(params.hasValue("ph"), "Ph should be cleared");
+        assertArrayEquals(new String[] {"systemId"}, params.getParameterNames(), "Parameter names");
+    }
+
+    @Test
+    public void testResetKeepsSqlTypes() {
+        params.addValue("ph", 6.2, Types.DECIMAL);
+        params.reset();
+
+        assertEquals(Types.DECIMAL, params.getSqlType("ph"), "Sql type should be kept");
+    }
+
+    @Test
+    public void testUnknownParamThrowsException() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> params.addValue("tds", 840.0));
+
+        assertEquals("Param 'tds' is not part of the sql param schema", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testMissingValueThrowsException() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> params.getValue("ph"));
+
+        assertEquals("No value registered for key 'ph'", e.getMessage(), "Exception Message");
+    }
+
+    @Test
+    public void testDuplicateSchemaParamThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> SqlParamSchema.of("ph", "ph"),
+                     "Duplicate params should not be allowed");
+    }
+
+    @Test
+    public void testAddTimestamp() {
+        LocalDateTime insertDate = LocalDateTime.of(2022, 8, 27, 12, 30);
+        params.addTimestamp("insertDate", insertDate);
+
+        assertEquals(Timestamp.valueOf(insertDate), params.getValue("insertDate"), "Insert Date Value");
+    }
+
+    @Test
+    public void testReuseWithSqlParamBuilder() {
+        MapSqlParameterSource first = SqlParamBuilder.with(SCHEMA).withParam("systemId", 12).build();
+        MapSqlParameterSource second = SqlParamBuilder.with(params.reset()).withParam("systemId", 13).build();
+
+        assertTrue(first instanceof SchemaParameterSource, "Builder should use a schema source");
+        assertSame(params, second, "Builder should reuse the given source");
+        assertEquals(13, second.getValue("systemId"), "System Id Value");
+    }
+
+    @Test
+    public void testGetValues() {
+        params.addValue("ph", 6.2).addValue("systemId", 12);
+
+        assertEquals(2, params.getValues().size(), "Values size");
+        assertEquals("systemId", params.getValues().keySet().iterator().next(), "Values should be in schema order");
+    }
+}
@@ -3,6 +3,7 @@ package com.hydro.sql.builder;
 import static com.hydro.common.datetime.DateTimeMapper.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
@@ -73,6 +74,17 @@ public class SqlParamBuilderTest {
         assertEquals(printDate(dateNow), params.getValue("TEST"), "Date Value");
     }
 
+    @Test
+    public void testBuildObjectParamsTimestamp() {
+        LocalDateTime nowValue = LocalDateTime.now();
+        Date dateNow = new Date();
+        MapSqlParameterSource params = SqlParamBuilder.with().withTimestamp("TEST", nowValue)
+                .withTimestamp("TEST_DATE", dateNow).build();
+
+        assertEquals(Timestamp.valueOf(nowValue), params.getValue("TEST"), "Local Date Time Timestamp Value");
+        assertEquals(new Timestamp(dateNow.getTime()), params.getValue("TEST_DATE"), "Date Timestamp Value");
+    }
+
     @Test
     public void testBuildObjectParamsTextEnumCollection() {
         List<WebRole> roles = new ArrayList<>();
@@ -88,6 +100,13 @@ public class SqlParamBuilderTest {
         assertEquals("DEVELOPER", returnedRoles.get(1), "Should be role DEVELOPER");
     }
 
+    @Test
+    public void testBuildObjectParamsInList() {
+        MapSqlParameterSource params = SqlParamBuilder.with().withInList("TEST", List.of(1, 2, 3, 4, 5)).build();
+
+        assertEquals(8, ((List<?>) params.getValue("TEST")).size(), "List should be padded to 8");
+    }
+
     private <T> List<T> convertToList(Object v) {
         return new ObjectMapper().convertValue(v, new TypeReference<List<T>>() {});
     }
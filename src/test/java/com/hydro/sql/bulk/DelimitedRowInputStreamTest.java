@@ -0,0 +1,66 @@
+package com.hydro.sql.bulk;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.hydro.sql.builder.SqlParamBuilder;
+
+/**
+ * Test class for the Delimited Row Input Stream.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class DelimitedRowInputStreamTest {
+
+    @Test
+    public void testRowsAreTabSeparated() throws IOException {
+        List<SqlParameterSource> rows = List.of(SqlParamBuilder.with().withParam("system_id", 1).withParam("ph", 6.2)
+                .withParam("light_status", (Object) true).build(),
+                                                SqlParamBuilder.with().withParam("system_id", 2).withParam("ph", 5.8)
+                                                        .withParam("light_status", (Object) false).build());
+        DelimitedRowInputStream data = new DelimitedRowInputStream(rows.iterator(),
+                                                                   List.of("system_id", "ph", "light_status"));
+
+        assertEquals("1\t6.2\t1\n2\t5.8\t0\n", read(data), "Rows");
+        assertEquals(2, data.getRowCount(), "Row count");
+    }
+
+    @Test
+    public void testNullAndMissingValues() throws IOException {
+        MapSqlParameterSource row = new MapSqlParameterSource("system_id", null);
+        DelimitedRowInputStream data = new DelimitedRowInputStream(List.of(row).iterator(),
+                                                                   List.of("system_id", "ph"));
+
+        assertEquals("\\N\t\\N\n", read(data), "Null values");
+    }
+
+    @Test
+    public void testSpecialCharactersAreEscaped() throws IOException {
+        MapSqlParameterSource row = new MapSqlParameterSource("name", "a\tb\nc\\d \u00e9");
+        DelimitedRowInputStream data = new DelimitedRowInputStream(List.of(row).iterator(), List.of("name"));
+
+        assertEquals("a\\tb\\nc\\\\d \u00e9\n", read(data), "Escaped value");
+    }
+
+    @Test
+    public void testDateTimeValue() throws IOException {
+        MapSqlParameterSource row = new MapSqlParameterSource("insert_date_utc", LocalDateTime.of(2022, 8, 27, 12, 30));
+        DelimitedRowInputStream data = new DelimitedRowInputStream(List.of(row).iterator(),
+                                                                   List.of("insert_date_utc"));
+
+        assertEquals("2022-08-27 12:30:00.0\n", read(data), "Date time value");
+    }
+
+    private String read(DelimitedRowInputStream data) throws IOException {
+        return new String(data.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package com.hydro.sql.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.hydro.sql.builder.SqlParamBuilder;
+import com.opengamma.elsql.ElSqlConfig;
+
+/**
+ * Test class for the ElSql Fragment Cache.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ElSqlFragmentCacheTest {
+
+    private ElSqlFragmentCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = ElSqlFragmentCache.of(ElSqlConfig.MYSQL, ElSqlFragmentCacheTest.class);
+    }
+
+    @Test
+    public void testSameParamShapeIsCached() {
+        String first = cache.getSql("getSystems", SqlParamBuilder.with().withParam("id", 1).build());
+        String second = cache.getSql("getSystems", SqlParamBuilder.with().withParam("id", 2).build());
+
+        assertSame(first, second, "Same param shape should return the cached sql");
+        assertEquals(1, cache.stats().hitCount(), "Hit count");
+        assertEquals(1, cache.stats().missCount(), "Miss count");
+    }
+
+    @Test
+    public void testDifferentParamShapeIsNotShared() {
+        String withId = cache.getSql("getSystems", SqlParamBuilder.with().withParam("id", 1).build());
+        String withoutId = cache.getSql("getSystems", new MapSqlParameterSource());
+
+        assertTrue(withId.contains("id = :id"), "Id filter should be included");
+        assertFalse(withoutId.contains("id = :id"), "Id filter should not be included");
+        assertEquals(2, cache.stats().missCount(), "Miss count");
+    }
+
+    @Test
+    public void testBooleanValueIsPartOfShape() {
+        String enabled = cache.getSql("getSystems", SqlParamBuilder.with().withParam("enabled", (Object) true).build());
+        String disabled = cache.getSql("getSystems",
+                                       SqlParamBuilder.with().withParam("enabled", (Object) false).build());
+
+        assertTrue(enabled.contains("enabled = 1"), "Enabled filter should be included");
+        assertFalse(disabled.contains("enabled = 1"), "Enabled filter should not be included");
+    }
+
+    @Test
+    public void testFragmentNameOfRenderedSql() {
+        String sql = cache.getSql("getSystems", SqlParamBuilder.with().withParam("id", 1).build());
+
+        assertEquals("getSystems", cache.fragmentName(sql), "Fragment name");
+        assertNull(cache.fragmentName("SELECT 1"), "Unknown sql should not have a fragment name");
+    }
+
+    @Test
+    public void testInvalidateClearsCache() {
+        cache.getSql("getSystems");
+        cache.invalidate();
+        cache.getSql("getSystems");
+
+        assertEquals(0, cache.stats().hitCount(), "Hit count");
+        assertEquals(2, cache.stats().missCount(), "Miss count");
+    }
+
+    @Test
+    public void testValueDependentTagsAreDetected() {
+        assertTrue(ElSqlFragmentCache.isShapeOnly("@NAME(test)\n  SELECT * FROM t\n  @WHERE\n    @AND(:id)\n      id = :id"),
+                   "Conditional tags only depend on shape");
+        assertFalse(ElSqlFragmentCache.isShapeOnly("@NAME(test)\n  SELECT * FROM t WHERE name @LIKE :name"),
+                    "Like tag depends on value");
+        assertFalse(ElSqlFragmentCache.isShapeOnly("@NAME(test)\n  SELECT * FROM t\n  @PAGING(:offset,:fetch)"),
+                    "Paging tag depends on value");
+        assertFalse(ElSqlFragmentCache.isShapeOnly("@NAME(test)\n  SELECT * FROM t\n  @WHERE\n    @AND(:type = ADMIN)\n      a = 1"),
+                    "Match value depends on value");
+    }
+}
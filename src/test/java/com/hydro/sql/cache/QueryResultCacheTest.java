@@ -0,0 +1,105 @@
+package com.hydro.sql.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.hydro.sql.builder.SqlParamBuilder;
+import com.hydro.sql.cache.QueryResultCache.QueryKey;
+
+/**
+ * Test class for the Query Result Cache.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class QueryResultCacheTest {
+    private static final String SQL = "SELECT name FROM systems WHERE id = :id";
+
+    @Test
+    public void testResultIsCached() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+        AtomicInteger queries = new AtomicInteger();
+
+        assertEquals("system", cache.get(key(1), Set.of("systems"), () -> load(queries)), "First result");
+        assertEquals("system", cache.get(key(1), Set.of("systems"), () -> load(queries)), "Cached result");
+        assertEquals(1, queries.get(), "Query should only run once");
+        assertEquals(1, cache.stats().hitCount(), "Hit count");
+    }
+
+    @Test
+    public void testDifferentParamsAreNotShared() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+        AtomicInteger queries = new AtomicInteger();
+
+        cache.get(key(1), Set.of("systems"), () -> load(queries));
+        cache.get(key(2), Set.of("systems"), () -> load(queries));
+        assertEquals(2, queries.get(), "Each param set should run the query");
+    }
+
+    @Test
+    public void testInvalidateTagsEvictsResults() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+        AtomicInteger queries = new AtomicInteger();
+
+        cache.get(key(1), Set.of("systems"), () -> load(queries));
+        cache.get(key(2), Set.of("parts"), () -> load(queries));
+        cache.invalidateTags("systems");
+
+        assertEquals(1, cache.size(), "Only the parts result should be left");
+        cache.get(key(1), Set.of("systems"), () -> load(queries));
+        assertEquals(3, queries.get(), "Invalidated result should be queried again");
+    }
+
+    @Test
+    public void testResultIsNotCachedWhenInvalidatedDuringLoad() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+
+        cache.get(key(1), Set.of("systems"), () -> {
+            cache.invalidateTags("systems");
+            return "stale";
+        });
+        assertEquals(0, cache.size(), "Stale result should not be cached");
+    }
+
+    @Test
+    public void testInvalidateTagsAfterDoubleLoad() {
+        QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+
+        cache.get(key(1), Set.of("systems"), () -> {
+            cache.get(key(1), Set.of("systems"), () -> "first");
+            return "second";
+        });
+        assertEquals("second", cache.get(key(1), Set.of("systems"), () -> "unused"), "Second load should be cached");
+
+        cache.invalidateTags("systems");
+        assertEquals(0, cache.size(), "Replaced result should still be evicted by its tag");
+        assertEquals("fresh", cache.get(key(1), Set.of("systems"), () -> "fresh"), "Result after invalidation");
+    }
+
+    @Test
+    public void testMaximumSizeEvictsResults() {
+        QueryResultCache cache = new QueryResultCache(1, Duration.ofMinutes(1));
+        AtomicInteger queries = new AtomicInteger();
+
+        cache.get(key(1), Set.of("systems"), () -> load(queries));
+        cache.get(key(2), Set.of("systems"), () -> load(queries));
+        assertEquals(1, cache.size(), "Cache should be capped at one result");
+        assertEquals(1, cache.stats().evictionCount(), "Eviction count");
+    }
+
+    private QueryKey key(int id) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam("id", id).build();
+        return new QueryKey("get", SQL, params, String.class);
+    }
+
+    private String load(AtomicInteger queries) {
+        queries.incrementAndGet();
+        return "system";
+    }
+}
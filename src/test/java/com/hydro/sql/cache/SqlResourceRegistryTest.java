@@ -0,0 +1,34 @@
+package com.hydro.sql.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.opengamma.elsql.ElSqlConfig;
+
+/**
+ * Test class for the Sql Resource Registry.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SqlResourceRegistryTest {
+
+    @Test
+    public void testFragmentsAreSharedPerClass() {
+        ElSqlFragmentCache first = SqlResourceRegistry.fragments(ElSqlConfig.MYSQL, ElSqlFragmentCacheTest.class);
+        ElSqlFragmentCache second = SqlResourceRegistry.fragments(ElSqlConfig.MYSQL, ElSqlFragmentCacheTest.class);
+        assertSame(first, second, "Fragments should only be loaded once");
+    }
+
+    @Test
+    public void testTemplatesAreSharedPerDataSource() {
+        DriverManagerDataSource source = new DriverManagerDataSource();
+        assertSame(SqlResourceRegistry.template(source), SqlResourceRegistry.template(source),
+                   "Template should be shared for the same datasource");
+        assertNotSame(SqlResourceRegistry.template(source),
+                      SqlResourceRegistry.template(new DriverManagerDataSource()),
+                      "Template should not be shared between datasources");
+    }
+}
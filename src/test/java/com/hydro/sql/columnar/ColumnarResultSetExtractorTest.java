@@ -0,0 +1,82 @@
+package com.hydro.sql.columnar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Test class for the Columnar Result Set Extractor.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ColumnarResultSetExtractorTest {
+    private static final LocalDateTime INSERT_DATE = LocalDateTime.of(2022, 8, 27, 12, 30);
+
+    private JdbcTemplate template;
+
+    @BeforeEach
+    public void setup() {
+        template = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:columnar;DB_CLOSE_DELAY=-1", "sa", ""));
+        template.execute("CREATE TABLE sensor_readings (id BIGINT PRIMARY KEY, ph DOUBLE, insert_date_utc TIMESTAMP)");
+        for(int i = 1; i <= 10; i++) {
+            template.update("INSERT INTO sensor_readings VALUES (?, ?, ?)", i, i == 5 ? null : i / 2.0,
+                            INSERT_DATE.plusMinutes(i));
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        template.execute("DROP TABLE sensor_readings");
+    }
+
+    @Test
+    public void testExtractColumns() {
+        ColumnarResult result = template.query("SELECT * FROM sensor_readings ORDER BY id",
+                                               ColumnarResultSetExtractor.create().chunkSize(3).longColumns("id")
+                                                       .doubleColumns("ph").timestampColumns("insert_date_utc"));
+
+        assertEquals(10, result.size(), "Size should be 10");
+        assertEquals(10, result.getLongs("id").get(9), "Last id");
+        assertEquals(1.5, result.getDoubles("ph").get(2), "Ph value");
+        assertEquals(Timestamp.valueOf(INSERT_DATE.plusMinutes(1)).getTime(),
+                     result.getLongs("insert_date_utc").get(0), "Insert date millis");
+        assertArrayEquals(new long[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, result.getLongs("id").toArray(), "Ids");
+    }
+
+    @Test
+    public void testNullValues() {
+        ColumnarResult result = template.query("SELECT * FROM sensor_readings ORDER BY id",
+                                               ColumnarResultSetExtractor.create().doubleColumns("ph"));
+
+        assertTrue(result.getDoubles("ph").isNull(4), "Ph should be null");
+        assertTrue(Double.isNaN(result.getDoubles("ph").get(4)), "Null ph should be NaN");
+        assertFalse(result.getDoubles("ph").isNull(3), "Ph should not be null");
+    }
+
+    @Test
+    public void testEmptyResult() {
+        ColumnarResult result = template.query("SELECT * FROM sensor_readings WHERE id < 0",
+                                               ColumnarResultSetExtractor.create().doubleColumns("ph"));
+
+        assertTrue(result.isEmpty(), "Result should be empty");
+        assertEquals(0, result.getDoubles("ph").toArray().length, "Column should be empty");
+    }
+
+    @Test
+    public void testMissingColumnThrowsException() {
+        ColumnarResult result = template.query("SELECT * FROM sensor_readings",
+                                               ColumnarResultSetExtractor.create().doubleColumns("ph"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> result.getLongs("ph"));
+        assertEquals("No long column 'ph' in the result", e.getMessage(), "Exception Message");
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getDoubles("ph").get(10), "Row out of bounds");
+    }
+}
@@ -0,0 +1,87 @@
+package com.hydro.sql.ingest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the Ring Buffer.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class RingBufferTest {
+
+    @Test
+    public void testOfferAndPollInOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+        assertEquals(4, buffer.capacity(), "Capacity is rounded up");
+        for(int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i), "Offer " + i);
+        }
+        assertFalse(buffer.offer(4), "Buffer should be full");
+        assertEquals(4, buffer.size(), "Size");
+
+        assertEquals(0, buffer.poll(), "First item");
+        assertTrue(buffer.offer(4), "Offer after poll");
+        assertEquals(List.of(1, 2, 3, 4), drain(buffer), "Remaining items");
+        assertNull(buffer.poll(), "Buffer should be empty");
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ConcurrentLinkedQueue<Integer> taken = new ConcurrentLinkedQueue<>();
+        int producers = 4;
+        int perProducer = 2500;
+        CountDownLatch produced = new CountDownLatch(producers);
+        List<Thread> threads = new ArrayList<>();
+
+        for(int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            threads.add(new Thread(() -> {
+                for(int i = 0; i < perProducer; i++) {
+                    while(!buffer.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+                produced.countDown();
+            }));
+        }
+        for(int c = 0; c < 2; c++) {
+            threads.add(new Thread(() -> {
+                while(produced.getCount() > 0 || !buffer.isEmpty()) {
+                    Integer item = buffer.poll();
+                    if(item != null) {
+                        taken.add(item);
+                    }
+                    else {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for(Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, taken.size(), "Items taken");
+        assertEquals(producers * perProducer, taken.stream().distinct().count(), "Items are taken once");
+    }
+
+    private static List<Integer> drain(RingBuffer<Integer> buffer) {
+        List<Integer> items = new ArrayList<>();
+        for(Integer item = buffer.poll(); item != null; item = buffer.poll()) {
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,200 @@
+package com.hydro.sql.ingest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the Write Behind Queue.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class WriteBehindQueueTest {
+
+    @Test
+    public void testRowsAreWrittenInBatches() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> written = new ConcurrentLinkedQueue<>();
+        AtomicInteger largestBatch = new AtomicInteger();
+        WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(rows -> {
+            largestBatch.accumulateAndGet(rows.size(), Math::max);
+            written.addAll(rows);
+        }).capacity(128).batchSize(50).maxDelay(Duration.ofMillis(5)).flushers(2).start();
+
+        List<Thread> producers = new ArrayList<>();
+        for(int p = 0; p < 4; p++) {
+            int offset = p * 2500;
+            producers.add(new Thread(() -> {
+                for(int i = 0; i < 2500; i++) {
+                    queue.put(offset + i);
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for(Thread producer : producers) {
+            producer.join();
+        }
+        queue.close();
+
+        assertEquals(10000, written.size(), "Rows written");
+        assertEquals(10000, written.stream().distinct().count(), "Rows are written once");
+        assertTrue(largestBatch.get() <= 50, "Batches are capped at the batch size");
+        assertEquals(10000, queue.getFlushedCount(), "Flushed count");
+        assertEquals(0, queue.getQueueDepth(), "Queue depth");
+    }
+
+    @Test
+    public void testPartialBatchIsWrittenAfterMaxDelay() {
+        ConcurrentLinkedQueue<Integer> written = new ConcurrentLinkedQueue<>();
+        WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(written::addAll).batchSize(100)
+                .maxDelay(Duration.ofMillis(10)).start();
+        try {
+            assertTrue(queue.offer(1), "Offer");
+            assertTrue(queue.flush(Duration.ofSeconds(5)), "Flush should finish");
+            assertEquals(List.of(1), new ArrayList<>(written), "Rows written");
+            assertEquals(1, queue.getBatchCount(), "Batch count");
+        }
+        finally {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void testFullQueuePushesBack() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(rows -> await(release)).capacity(2)
+                .batchSize(1).maxDelay(Duration.ZERO).start();
+        try {
+            queue.put(1);
+            while(queue.getQueueDepth() > 0) {
+                Thread.onSpinWait();
+            }
+            assertTrue(queue.offer(2), "First buffered row");
+            assertTrue(queue.offer(3), "Second buffered row");
+
+            assertFalse(queue.offer(4), "Offer should fail when full");
+            assertFalse(queue.put(4, Duration.ofMillis(20)), "Put should time out when full");
+            assertEquals(2, queue.getRejectedCount(), "Rejected count");
+        }
+        finally {
+            release.countDown();
+            queue.close();
+        }
+        assertEquals(3, queue.getFlushedCount(), "Flushed count");
+    }
+
+    @Test
+    public void testIdleFlusherIsWokenByOffer() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> written = new ConcurrentLinkedQueue<>();
+        WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(written::addAll).batchSize(1)
+                .maxDelay(Duration.ofSeconds(30)).start();
+        try {
+            Thread.sleep(50);
+            assertTrue(queue.offer(1), "Offer");
+            assertTrue(queue.flush(Duration.ofSeconds(5)), "Idle flusher should be woken by the offer");
+            assertEquals(List.of(1), new ArrayList<>(written), "Rows written");
+        }
+        finally {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), queue::close, "Close should wake the flusher");
+        }
+    }
+
+    @Test
+    public void testBlockedPutIsWokenWhenRoomIsMade() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(rows -> await(release)).capacity(2)
+                .batchSize(1).maxDelay(Duration.ofSeconds(30)).start();
+        try {
+            queue.put(1);
+            while(queue.getQueueDepth() > 0) {
+                Thread.onSpinWait();
+            }
+            queue.put(2);
+            queue.put(3);
+
+            Thread producer = new Thread(() -> queue.put(4));
+            producer.start();
+            Thread.sleep(200);
+            release.countDown();
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> producer.join(),
+                                      "Blocked put should be woken by the flusher");
+        }
+        finally {
+            release.countDown();
+            queue.close();
+        }
+        assertEquals(4, queue.getFlushedCount(), "Flushed count");
+    }
+
+    @Test
+    public void testFailedBatchesGoToListener() {
+        List<Integer> failed = new ArrayList<>();
+        WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(rows -> {
+            throw new IllegalStateException("Database is down");
+        }).listener(new WriteBehindListener<Integer>() {
+            @Override
+            public void onFailed(List<Integer> rows, RuntimeException error) {
+                failed.addAll(rows);
+            }
+        }).start();
+
+        queue.offer(1);
+        queue.offer(2);
+        queue.close();
+
+        assertEquals(List.of(1, 2), failed, "Failed rows");
+        assertEquals(2, queue.getFailedCount(), "Failed count");
+        assertFalse(queue.offer(3), "Closed queue should not take rows");
+    }
+
+    @Test
+    public void testRowsOfferedDuringCloseAreWritten() throws InterruptedException {
+        for(int round = 0; round < 50; round++) {
+            ConcurrentLinkedQueue<Integer> written = new ConcurrentLinkedQueue<>();
+            WriteBehindQueue<Integer> queue = WriteBehindQueue.<Integer>create(written::addAll).batchSize(10)
+                    .maxDelay(Duration.ofMillis(1)).start();
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicBoolean done = new AtomicBoolean();
+            CountDownLatch started = new CountDownLatch(2);
+            List<Thread> producers = new ArrayList<>();
+            for(int p = 0; p < 2; p++) {
+                producers.add(new Thread(() -> {
+                    started.countDown();
+                    for(int i = 0; !done.get(); i++) {
+                        if(queue.offer(i)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            producers.forEach(Thread::start);
+            started.await();
+            queue.close();
+            done.set(true);
+            for(Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(accepted.get(), written.size(), "Every accepted row should be written");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hydro.sql.local.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Test class for the Local Instance Builder.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class LocalInstanceBuilderTest {
+
+    @Test
+    public void testLocalServeUrls() {
+        assertTrue(LocalInstanceBuilder.isLocalServe("jdbc:mysql://localhost:3306"), "Localhost is local");
+        assertTrue(LocalInstanceBuilder.isLocalServe("jdbc:h2:mem:hydro_db"), "Embedded is local");
+        assertFalse(LocalInstanceBuilder.isLocalServe("jdbc:mysql://hydro-db.example.com:3306"),
+                    "Remote is not local");
+        assertFalse(LocalInstanceBuilder.isEmbeddedServe("jdbc:mysql://localhost:3306"),
+                    "Localhost is not embedded");
+    }
+
+    @Test
+    public void testEmbeddedDatabaseIsMigrated() {
+        DataSource source = LocalInstanceBuilder.create(DatabaseConnectionBuilder.create()
+                .url("jdbc:h2:mem:local_embedded").username("sa").password("").leakDetectionThreshold(0));
+        try {
+            JdbcTemplate template = new JdbcTemplate(source);
+            assertEquals("V1__create_water_systems.sql",
+                         template.queryForObject("SELECT script FROM schema_migration_history", String.class),
+                         "Script on the classpath should be applied");
+            assertEquals(0, template.queryForObject("SELECT COUNT(*) FROM water_systems", Integer.class),
+                         "Table of the script should be created");
+            assertTrue(((HikariDataSource) source).getJdbcUrl().contains(";MODE=MySQL"), "Database mode");
+        }
+        finally {
+            ((HikariDataSource) source).close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hydro.sql.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the Micrometer Sql Metrics.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MicrometerSqlMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private MicrometerSqlMetrics metrics;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerSqlMetrics(registry);
+    }
+
+    @Test
+    public void testSuccessfulQueryRecordsTimerAndRows() {
+        metrics.record("SystemDao", "getSystems", "getPage", TimeUnit.MILLISECONDS.toNanos(5), 12, true);
+
+        Timer timer = registry.find("hydro.sql.query").tag("dao", "SystemDao").tag("fragment", "getSystems")
+                .tag("operation", "getPage").tag("outcome", "success").timer();
+        DistributionSummary rows = registry.find("hydro.sql.rows").tag("fragment", "getSystems").summary();
+
+        assertNotNull(timer, "Query timer should be registered");
+        assertEquals(1, timer.count(), "Timer count");
+        assertEquals(5, timer.totalTime(TimeUnit.MILLISECONDS), 0.001, "Timer total time");
+        assertNotNull(rows, "Row summary should be registered");
+        assertEquals(12, rows.totalAmount(), 0.001, "Total rows");
+    }
+
+    @Test
+    public void testFailedQueryDoesNotRecordRows() {
+        metrics.record("SystemDao", "getSystems", "get", 1000, 0, false);
+
+        assertNotNull(registry.find("hydro.sql.query").tag("outcome", "error").timer(), "Error timer");
+        assertNull(registry.find("hydro.sql.rows").summary(), "Rows should not be recorded on error");
+    }
+}
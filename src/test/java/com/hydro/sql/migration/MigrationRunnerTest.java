@@ -0,0 +1,130 @@
+package com.hydro.sql.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Test class for the Migration Runner.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MigrationRunnerTest {
+    private static final String SCRIPTS = "classpath*:com/hydro/sql/migration/scripts/*.sql";
+
+    private HikariDataSource source;
+
+    private JdbcTemplate template;
+
+    @BeforeEach
+    public void setup() {
+        source = new HikariDataSource();
+        source.setJdbcUrl("jdbc:h2:mem:migration;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        source.setUsername("sa");
+        source.setMaximumPoolSize(4);
+        template = new JdbcTemplate(source);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        template.execute("DROP ALL OBJECTS");
+        source.close();
+    }
+
+    @Test
+    public void testScriptsLoadedInVersionOrder() {
+        List<String> names = MigrationRunner.load(SCRIPTS).stream().map(MigrationScript::getName)
+                .collect(Collectors.toList());
+
+        assertEquals(List.of("V1__create_systems.sql", "V2__create_users.sql", "V3__create_sensor_readings.sql",
+                             "V10__seed_systems.sql"),
+                     names, "Scripts should be in version order");
+    }
+
+    @Test
+    public void testIndependentScriptsShareAWave() {
+        List<List<MigrationScript>> waves = MigrationRunner.plan(MigrationRunner.load(SCRIPTS));
+
+        assertEquals(3, waves.size(), "Wave count");
+        assertEquals(List.of("V1__create_systems.sql", "V2__create_users.sql"), names(waves.get(0)), "First wave");
+        assertEquals(List.of("V3__create_sensor_readings.sql"), names(waves.get(1)), "Second wave");
+        assertEquals(List.of("V10__seed_systems.sql"), names(waves.get(2)), "Third wave");
+    }
+
+    @Test
+    public void testScriptWithoutTablesRunsAlone() {
+        List<MigrationScript> scripts = List.of(MigrationScript.of("V1__a.sql", "CREATE TABLE a (id INT)"),
+                                                MigrationScript.of("V2__settings.sql", "SET @x = 1"),
+                                                MigrationScript.of("V3__b.sql", "CREATE TABLE b (id INT)"));
+
+        assertEquals(3, MigrationRunner.plan(scripts).size(), "Each script should be in its own wave");
+    }
+
+    @Test
+    public void testMigrateAppliesScripts() {
+        int applied = MigrationRunner.create(source).run(SCRIPTS);
+
+        assertEquals(4, applied, "Applied scripts");
+        assertEquals(2, template.queryForObject("SELECT COUNT(*) FROM systems", Integer.class), "Seeded systems");
+        assertEquals(4, template.queryForObject("SELECT COUNT(*) FROM schema_migration_history", Integer.class),
+                     "History rows");
+    }
+
+    @Test
+    public void testUnchangedScriptsAreSkipped() {
+        MigrationRunner.create(source).run(SCRIPTS);
+        int applied = MigrationRunner.create(source).run(SCRIPTS);
+
+        assertEquals(0, applied, "No scripts should be applied again");
+    }
+
+    @Test
+    public void testChangedScriptThrowsException() {
+        MigrationRunner.create(source).migrate(List.of(MigrationScript.of("V1__a.sql", "CREATE TABLE a (id INT)")));
+        List<MigrationScript> scripts = List.of(MigrationScript.of("V1__a.sql", "CREATE TABLE a (id BIGINT)"),
+                                                MigrationScript.of("V2__b.sql", "CREATE TABLE b (id INT)"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> MigrationRunner.create(source).migrate(scripts));
+
+        assertTrue(e.getMessage().startsWith("Migration script 'V1__a.sql' has changed since it was applied"),
+                   "Exception Message");
+        assertEquals(1, template.queryForObject("SELECT COUNT(*) FROM schema_migration_history", Integer.class),
+                     "No scripts should be run after a checksum mismatch");
+    }
+
+    @Test
+    public void testBaselineRecordsScriptsWithoutRunning() {
+        int applied = MigrationRunner.create(source).baselineOnMigrate(true).run(SCRIPTS);
+
+        assertEquals(0, applied, "No scripts should be run");
+        assertEquals(4, template.queryForObject("SELECT COUNT(*) FROM schema_migration_history", Integer.class),
+                     "History rows");
+    }
+
+    @Test
+    public void testFailedScriptStopsMigration() {
+        List<MigrationScript> scripts = List.of(MigrationScript.of("V1__bad.sql", "CREATE TABLE bad (id NOT_A_TYPE)"),
+                                                MigrationScript.of("V2__after.sql", "INSERT INTO bad VALUES (1)"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> MigrationRunner.create(source).migrate(scripts));
+
+        assertEquals("Migration script 'V1__bad.sql' failed", e.getMessage(), "Exception Message");
+        assertEquals(0, template.queryForObject("SELECT COUNT(*) FROM schema_migration_history", Integer.class),
+                     "Failed scripts should not be recorded");
+    }
+
+    private List<String> names(List<MigrationScript> scripts) {
+        return scripts.stream().map(MigrationScript::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.hydro.sql.migration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the Migration Script.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class MigrationScriptTest {
+
+    @Test
+    public void testRenameTableTouchesBothNames() {
+        MigrationScript script = MigrationScript.of("V2__rename.sql",
+                                                    "RENAME TABLE systems TO towers, users TO people;");
+
+        assertEquals(Set.of("systems", "towers", "users", "people"), script.getTables(), "Tables");
+        assertFalse(script.isIsolated(), "Script should not be isolated");
+    }
+
+    @Test
+    public void testRenameTableIsNotParallelWithUsers() {
+        List<MigrationScript> scripts = List.of(MigrationScript.of("V1__rename.sql", "RENAME TABLE systems TO towers"),
+                                                MigrationScript.of("V2__old.sql", "INSERT INTO systems VALUES (1)"),
+                                                MigrationScript.of("V3__new.sql", "DELETE FROM towers"));
+
+        List<List<MigrationScript>> waves = MigrationRunner.plan(scripts);
+        assertEquals(2, waves.size(), "Wave count");
+        assertEquals(List.of(scripts.get(0)), waves.get(0), "Rename should run first");
+    }
+
+    @Test
+    public void testOnClausesAreNotTables() {
+        MigrationScript create = MigrationScript.of("V1__create.sql",
+                                                    "CREATE TABLE readings (id INT, system_id INT, "
+                                                            + "updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP "
+                                                            + "ON UPDATE CURRENT_TIMESTAMP, FOREIGN KEY (system_id) "
+                                                            + "REFERENCES systems (id) ON DELETE CASCADE "
+                                                            + "ON UPDATE CASCADE)");
+        MigrationScript upsert = MigrationScript.of("V2__upsert.sql", "INSERT INTO systems (id, name) VALUES (1, 'a') "
+                + "ON DUPLICATE KEY UPDATE name = VALUES(name)");
+
+        assertEquals(Set.of("readings", "systems"), create.getTables(), "Create tables");
+        assertEquals(Set.of("systems"), upsert.getTables(), "Upsert tables");
+    }
+
+    @Test
+    public void testCreateIndexTouchesItsTable() {
+        MigrationScript script = MigrationScript.of("V1__index.sql",
+                                                    "CREATE UNIQUE INDEX idx_systems_name ON systems (name);\n"
+                                                            + "DROP INDEX idx_users_email ON users;");
+
+        assertEquals(Set.of("systems", "users"), script.getTables(), "Tables");
+    }
+
+    @Test
+    public void testUnknownStatementIsolatesScript() {
+        MigrationScript script = MigrationScript.of("V1__mixed.sql",
+                                                    "CREATE TABLE a (id INT);\nSET @x = 1;\n-- comment\n");
+        MigrationScript other = MigrationScript.of("V2__b.sql", "CREATE TABLE b (id INT)");
+
+        assertTrue(script.isIsolated(), "Script with an unknown statement should be isolated");
+        assertEquals(Set.of("a"), script.getTables(), "Known tables are still read");
+        assertEquals(2, MigrationRunner.plan(List.of(script, other)).size(), "Scripts should not share a wave");
+    }
+}
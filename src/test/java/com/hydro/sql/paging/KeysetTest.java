@@ -0,0 +1,110 @@
+package com.hydro.sql.paging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hydro.sql.abstracts.SqlTestDao;
+
+/**
+ * Test class for the Keyset pagination.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class KeysetTest {
+    private DriverManagerDataSource source;
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        source = new DriverManagerDataSource("jdbc:h2:mem:keyset;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(source);
+        template.execute("CREATE TABLE sensor_readings (id BIGINT PRIMARY KEY, system_id INT, ph DOUBLE)");
+        for(int i = 1; i <= 25; i++) {
+            template.update("INSERT INTO sensor_readings VALUES (?, ?, ?)", i, i % 5 == 0 ? 2 : 1, 6.0);
+        }
+        dao = new SqlTestDao(source);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        new JdbcTemplate(source).execute("DROP TABLE sensor_readings");
+    }
+
+    @Test
+    public void testPagesWalkAllRows() {
+        List<Long> ids = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String token = null;
+        do {
+            KeysetPage<Long> page = dao.getReadingIds(1, 8, token);
+            ids.addAll(page.getItems());
+            pageSizes.add(page.getItems().size());
+            token = page.getNextPageToken();
+        } while(token != null);
+
+        assertEquals(List.of(8, 8, 4), pageSizes, "Page sizes");
+        assertEquals(20, ids.size(), "All rows should be returned");
+        assertEquals(24L, ids.get(19), "Last id");
+    }
+
+    @Test
+    public void testExactLastPageHasNoNextToken() {
+        KeysetPage<Long> page = dao.getReadingIds(2, 5, null);
+
+        assertEquals(5, page.getItems().size(), "Page size");
+        assertFalse(page.hasNextPage(), "Page should be the last page");
+    }
+
+    @Test
+    public void testTokenRoundTrip() {
+        Keyset keyset = Keyset.on("insert_date_utc", "id");
+        LocalDateTime insertDate = LocalDateTime.of(2022, 8, 27, 12, 30, 15, 500);
+
+        Object[] values = keyset.decode(keyset.encode(new Object[] {insertDate, 42}));
+
+        assertEquals(Timestamp.valueOf(insertDate), values[0], "Insert date");
+        assertEquals(42L, values[1], "Id");
+    }
+
+    @Test
+    public void testBindAddsParams() {
+        Keyset keyset = Keyset.on("id");
+        MapSqlParameterSource params = keyset.bind(new MapSqlParameterSource(), keyset.encode(new Object[] {7L}), 10);
+
+        assertEquals(7L, params.getValue("after_id"), "After id");
+        assertEquals(11, params.getValue("page_fetch"), "Page fetch");
+    }
+
+    @Test
+    public void testNullKeyThrowsException() {
+        Keyset keyset = Keyset.on("insert_date_utc", "id");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> keyset.encode(new Object[] {null, 42}),
+                                                  "Null key should be rejected");
+        assertTrue(e.getMessage().contains("insert_date_utc"), "Message should name the column");
+    }
+
+    @Test
+    public void testTokenForOtherKeysetThrowsException() {
+        String token = Keyset.on("id").encode(new Object[] {7L});
+
+        assertThrows(IllegalArgumentException.class, () -> Keyset.on("insert_date_utc").decode(token),
+                     "Token should only work for its keyset");
+        assertThrows(IllegalArgumentException.class, () -> Keyset.on("id").decode("not a token!"),
+                     "Garbage token should be rejected");
+    }
+}
@@ -0,0 +1,157 @@
+package com.hydro.sql.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the Retry Policy and Circuit Breaker.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class RetryPolicyTest {
+    private static final UncategorizedSQLException DEADLOCK = error("40001", 1213);
+
+    private static final UncategorizedSQLException CONNECTION_LOST = error("08S01", 0);
+
+    private static final UncategorizedSQLException NOT_SENT = error("08001", 0);
+
+    @Test
+    public void testDeadlockIsRetried() {
+        RetryPolicy policy = RetryPolicy.create().backoff(Duration.ZERO, Duration.ZERO);
+        List<SqlErrorType> retries = new ArrayList<>();
+
+        int result = policy.execute(RetryScope.WRITE, failing(2, DEADLOCK),
+                                    (type, attempt, error) -> retries.add(type));
+
+        assertEquals(3, result, "Attempts");
+        assertEquals(List.of(SqlErrorType.ROLLED_BACK, SqlErrorType.ROLLED_BACK), retries, "Retried errors");
+        assertEquals(2, policy.getRetryCount(), "Retry count");
+    }
+
+    @Test
+    public void testLostWriteIsOnlyRetriedWhenIdempotent() {
+        RetryPolicy policy = RetryPolicy.create().backoff(Duration.ZERO, Duration.ZERO);
+
+        assertThrows(UncategorizedSQLException.class,
+                     () -> policy.execute(RetryScope.WRITE, failing(1, CONNECTION_LOST), RetryListener.NONE));
+        assertEquals(2, RetryPolicy.idempotent(() -> policy.execute(RetryPolicy.isIdempotent()
+                ? RetryScope.IDEMPOTENT_WRITE : RetryScope.WRITE, failing(1, CONNECTION_LOST), RetryListener.NONE)),
+                     "Idempotent write attempts");
+        assertFalse(RetryPolicy.isIdempotent(), "Idempotent scope should be cleared");
+    }
+
+    @Test
+    public void testConnectOnlyScope() {
+        RetryPolicy policy = RetryPolicy.create().backoff(Duration.ZERO, Duration.ZERO);
+
+        assertEquals(2, policy.execute(RetryScope.CONNECT_ONLY, failing(1, NOT_SENT), RetryListener.NONE),
+                     "Not sent attempts");
+        assertThrows(UncategorizedSQLException.class,
+                     () -> policy.execute(RetryScope.CONNECT_ONLY, failing(1, DEADLOCK), RetryListener.NONE));
+    }
+
+    @Test
+    public void testAttemptsAreExhausted() {
+        RetryPolicy policy = RetryPolicy.create().maxAttempts(3).backoff(Duration.ZERO, Duration.ZERO);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(UncategorizedSQLException.class, () -> policy.execute(RetryScope.READ, () -> {
+            attempts.incrementAndGet();
+            throw CONNECTION_LOST;
+        }, RetryListener.NONE));
+        assertEquals(3, attempts.get(), "Attempts");
+        assertEquals(1, policy.getExhaustedCount(), "Exhausted count");
+    }
+
+    @Test
+    public void testNothingIsRetriedInTransaction() {
+        RetryPolicy policy = RetryPolicy.create().backoff(Duration.ZERO, Duration.ZERO);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(UncategorizedSQLException.class,
+                         () -> policy.execute(RetryScope.READ, failing(1, DEADLOCK), RetryListener.NONE));
+            assertEquals(0, policy.getRetryCount(), "Retry count");
+        }
+        finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    public void testBackoffIsCappedWithJitter() {
+        RetryPolicy policy = RetryPolicy.create().backoff(Duration.ofMillis(100), Duration.ofMillis(400));
+
+        for(int i = 0; i < 100; i++) {
+            long first = policy.backoffNanos(1);
+            long capped = policy.backoffNanos(10);
+            assertTrue(first >= Duration.ofMillis(50).toNanos() && first <= Duration.ofMillis(100).toNanos(),
+                       "First backoff " + first);
+            assertTrue(capped >= Duration.ofMillis(200).toNanos() && capped <= Duration.ofMillis(400).toNanos(),
+                       "Capped backoff " + capped);
+        }
+    }
+
+    @Test
+    public void testCircuitBreakerTripsAndRecovers() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofNanos(1000), clock::get);
+
+        breaker.onFailure(SqlErrorType.CONNECTION_LOST);
+        breaker.onFailure(SqlErrorType.ROLLED_BACK);
+        breaker.onFailure(SqlErrorType.CONNECTION_LOST);
+        assertFalse(breaker.isOpen(), "Deadlocks reset the failure count");
+
+        breaker.onFailure(SqlErrorType.NOT_SENT);
+        assertTrue(breaker.isOpen(), "Breaker should be open");
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquire);
+
+        clock.set(1000);
+        breaker.acquire();
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquire, "Only one trial query");
+        breaker.onSuccess();
+
+        assertFalse(breaker.isOpen(), "Breaker should be closed");
+        assertEquals(1, breaker.getTripCount(), "Trip count");
+        assertEquals(2, breaker.getRejectedCount(), "Rejected count");
+    }
+
+    @Test
+    public void testOpenBreakerFailsFast() {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofMinutes(1));
+        RetryPolicy policy = RetryPolicy.create().backoff(Duration.ZERO, Duration.ZERO).circuitBreaker(breaker);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(CircuitBreakerOpenException.class, () -> policy.execute(RetryScope.READ, () -> {
+            attempts.incrementAndGet();
+            throw CONNECTION_LOST;
+        }, RetryListener.NONE));
+        assertEquals(1, attempts.get(), "Attempts before the breaker opened");
+        assertEquals(1, breaker.getTripCount(), "Trip count");
+    }
+
+    private static Supplier<Integer> failing(int failures, RuntimeException error) {
+        AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if(attempts.incrementAndGet() <= failures) {
+                throw error;
+            }
+            return attempts.get();
+        };
+    }
+
+    private static UncategorizedSQLException error(String state, int code) {
+        return new UncategorizedSQLException("test", "", new SQLException("test error", state, code));
+    }
+}
@@ -0,0 +1,67 @@
+package com.hydro.sql.retry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+/**
+ * Test class for the Sql Error Type.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SqlErrorTypeTest {
+
+    @Test
+    public void testDeadlockIsRolledBack() {
+        SQLException deadlock = new SQLException("Deadlock found when trying to get lock", "40001", 1213);
+        SQLException lockWait = new SQLException("Lock wait timeout exceeded", "HY000", 1205);
+
+        assertEquals(SqlErrorType.ROLLED_BACK,
+                     SqlErrorType.of(new DeadlockLoserDataAccessException("update", deadlock)), "Deadlock");
+        assertEquals(SqlErrorType.ROLLED_BACK, SqlErrorType.of(new UncategorizedSQLException("update", "", lockWait)),
+                     "Lock wait timeout");
+        assertFalse(SqlErrorType.ROLLED_BACK.isUnavailable(), "Deadlocks do not mean the database is down");
+    }
+
+    @Test
+    public void testReadOnlyServerIsRejected() {
+        SQLException readOnly = new SQLException("The MySQL server is running with the --read-only option",
+                                                 "HY000", 1290);
+
+        assertEquals(SqlErrorType.REJECTED, SqlErrorType.of(new UncategorizedSQLException("post", "", readOnly)),
+                     "Read only server");
+    }
+
+    @Test
+    public void testConnectionErrors() {
+        SQLException lost = new SQLException("Communications link failure", "08S01", 0);
+        SQLException goneAway = new SQLException("MySQL server has gone away", "HY000", 2006);
+        SQLException refused = new SQLTransientConnectionException("Connection is not available", "08001");
+
+        assertEquals(SqlErrorType.CONNECTION_LOST, SqlErrorType.of(new RecoverableDataAccessException("get", lost)),
+                     "Communications link failure");
+        assertEquals(SqlErrorType.CONNECTION_LOST,
+                     SqlErrorType.of(new UncategorizedSQLException("get", "", goneAway)), "Server gone away");
+        assertEquals(SqlErrorType.NOT_SENT, SqlErrorType.of(new CannotGetJdbcConnectionException("pool", refused)),
+                     "No connection from the pool");
+        assertEquals(SqlErrorType.NOT_SENT, SqlErrorType.of(refused), "Connection refused");
+    }
+
+    @Test
+    public void testOtherErrorsAreNotTransient() {
+        SQLException syntax = new SQLException("You have an error in your SQL syntax", "42000", 1064);
+
+        assertEquals(SqlErrorType.NOT_TRANSIENT, SqlErrorType.of(new UncategorizedSQLException("get", "", syntax)),
+                     "Syntax error");
+        assertEquals(SqlErrorType.NOT_TRANSIENT, SqlErrorType.of(new IllegalStateException("No sql")),
+                     "Non sql error");
+    }
+}
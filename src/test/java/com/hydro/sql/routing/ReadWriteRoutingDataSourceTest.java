@@ -0,0 +1,84 @@
+package com.hydro.sql.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hydro.sql.abstracts.SqlTestDao;
+import com.hydro.sql.abstracts.SqlTestTables;
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+
+/**
+ * Test class for the Read Write Routing DataSource.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class ReadWriteRoutingDataSourceTest {
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private ReadWriteRoutingDataSource source;
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        SqlTestTables.createSystems(new DriverManagerDataSource(PRIMARY_URL, "sa", ""), "primary");
+        SqlTestTables.createSystems(new DriverManagerDataSource(REPLICA_URL, "sa", ""), "replica");
+
+        source = DatabaseConnectionBuilder.create().driverClassName("org.h2.Driver").url(PRIMARY_URL)
+                .replicaUrl(REPLICA_URL).username("sa").password("").maximumPoolSize(2).minimumIdle(0)
+                .buildRoutingSource();
+        dao = new SqlTestDao(source);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        source.close();
+    }
+
+    @Test
+    public void testReadsGoToReplica() {
+        assertEquals("replica", dao.getSystemName(1), "Read should go to the replica");
+    }
+
+    @Test
+    public void testWritesGoToPrimary() {
+        dao.insertSystem(2, "new system");
+
+        assertEquals(1, count(PRIMARY_URL), "Write should go to the primary");
+        assertEquals(0, count(REPLICA_URL), "Write should not go to the replica");
+    }
+
+    @Test
+    public void testPrimaryOverrideReadsOwnWrites() {
+        assertEquals("primary", DataSourceRouting.onPrimary(() -> dao.getSystemName(1)),
+                     "Read should go to the primary");
+    }
+
+    @Test
+    public void testRoundRobinLoadBalancer() {
+        DataSource first = new DriverManagerDataSource();
+        DataSource second = new DriverManagerDataSource();
+        List<DataSource> replicas = List.of(first, second);
+        ReplicaLoadBalancer balancer = ReplicaLoadBalancer.roundRobin();
+
+        assertSame(first, balancer.choose(replicas), "First replica");
+        assertSame(second, balancer.choose(replicas), "Second replica");
+        assertSame(first, balancer.choose(replicas), "Back to first replica");
+    }
+
+    private int count(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""))
+                .queryForObject("SELECT COUNT(*) FROM systems WHERE id = 2", Integer.class);
+    }
+}
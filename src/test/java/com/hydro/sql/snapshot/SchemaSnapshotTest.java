@@ -0,0 +1,75 @@
+package com.hydro.sql.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hydro.sql.builder.DatabaseConnectionBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Test class for the Schema Snapshot.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class SchemaSnapshotTest {
+
+    @Test
+    public void testCopyRowsSql() {
+        assertEquals("INSERT INTO `hydro_db_test`.`sensor_readings` (`id`, `system_id`, `ph`) SELECT `id`, `system_id`, "
+                + "`ph` FROM `hydro_db_dev__local__snapshot`.`sensor_readings`",
+                     SchemaSnapshot.copyRowsSql("hydro_db_dev__local__snapshot", "hydro_db_test", "sensor_readings",
+                                                List.of("id", "system_id", "ph")),
+                     "Copy rows sql");
+    }
+
+    @Test
+    public void testCaptureAndRestoreOnH2() {
+        HikariDataSource source = DatabaseConnectionBuilder.create().embedded("snapshot").buildPooledSource();
+        JdbcTemplate template = new JdbcTemplate(source);
+        SchemaSnapshot snapshot = SchemaSnapshot.forSchema(source, "app");
+        try {
+            template.execute("CREATE SCHEMA app");
+            template.execute("CREATE TABLE app.systems (id INT PRIMARY KEY, name VARCHAR(64))");
+            template.execute("CREATE TABLE app.totals (total INT GENERATED ALWAYS AS (1))");
+            template.update("INSERT INTO app.systems (id, name) VALUES (1, 'tower'), (2, 'raft')");
+
+            snapshot.capture("app");
+            snapshot.restore("app_copy");
+
+            assertTrue(snapshot.exists(), "Snapshot should exist");
+            assertEquals(List.of("tower", "raft"),
+                         template.queryForList("SELECT name FROM app_copy.systems ORDER BY id", String.class),
+                         "Copied rows");
+            assertEquals(0, template.queryForObject("SELECT COUNT(*) FROM app_copy.totals", Integer.class),
+                         "Table without copy columns should be created empty");
+        }
+        finally {
+            snapshot.drop("app_copy");
+            snapshot.drop(snapshot.getName());
+            snapshot.drop("app");
+            source.close();
+        }
+    }
+
+    @Test
+    public void testTemporaryNameIsUnique() {
+        String first = SchemaSnapshot.temporaryName("hydro_db_dev__local__snapshot");
+        String second = SchemaSnapshot.temporaryName("hydro_db_dev__local__snapshot");
+
+        assertTrue(first.matches("hydro_db_dev__local__[0-9a-f]{12}"), "Temporary name format");
+        assertNotEquals(first, second, "Temporary names");
+    }
+
+    @Test
+    public void testInvalidIdentifierThrowsException() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                                                  () -> SchemaSnapshot.quote("hydro`; DROP DATABASE x; --"));
+
+        assertEquals("Invalid schema identifier 'hydro`; DROP DATABASE x; --'", e.getMessage(), "Exception message");
+    }
+}
@@ -0,0 +1,128 @@
+package com.hydro.sql.statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.hydro.sql.abstracts.SqlTestDao;
+import com.hydro.sql.abstracts.SqlTestTables;
+
+/**
+ * Test class for the Statement Options.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class StatementOptionsTest {
+    private static final String URL = "jdbc:h2:mem:statement_options;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        DriverManagerDataSource source = new DriverManagerDataSource(URL, "sa", "");
+        SqlTestTables.createSystems(source, "one", "two", "three");
+        dao = new SqlTestDao(source);
+    }
+
+    @Test
+    public void testMergeKeepsUnsetOptions() {
+        QueryCancellation cancellation = QueryCancellation.create();
+        StatementOptions defaults = StatementOptions.create().timeout(Duration.ofSeconds(5)).maxRows(100);
+        StatementOptions merged = defaults.merge(StatementOptions.create().maxRows(10)
+                .cancellation(cancellation));
+
+        assertEquals(Duration.ofSeconds(5), merged.getTimeout(), "Timeout should be kept from the defaults");
+        assertEquals(10, merged.getMaxRows(), "Max rows should be overridden");
+        assertNull(merged.getFetchSize(), "Fetch size should not be set");
+        assertSame(cancellation, merged.getCancellation(), "Cancellation should be set");
+        assertEquals(100, defaults.getMaxRows(), "Defaults should not be changed");
+    }
+
+    @Test
+    public void testTimeoutRoundsUpToSeconds() {
+        assertEquals(-1, StatementOptions.create().getTimeoutSeconds(), "Unset timeout");
+        assertEquals(1, StatementOptions.create().timeout(Duration.ofMillis(10)).getTimeoutSeconds(),
+                     "Timeout under a second");
+        assertEquals(3, StatementOptions.create().timeout(Duration.ofMillis(2001)).getTimeoutSeconds(),
+                     "Timeout should round up");
+        assertThrows(IllegalArgumentException.class, () -> StatementOptions.create().timeout(Duration.ZERO),
+                     "Zero timeout");
+    }
+
+    @Test
+    public void testDaoDefaultMaxRows() {
+        dao.setStatementOptions(StatementOptions.create().maxRows(2));
+
+        assertEquals(List.of("one", "two"), dao.getSystemNames(), "Rows should be limited by the dao default");
+    }
+
+    @Test
+    public void testCallOptionsOverrideDaoDefaults() {
+        dao.setStatementOptions(StatementOptions.create().maxRows(2));
+
+        List<String> names = dao.withOptions(StatementOptions.create().maxRows(1), dao::getSystemNames);
+
+        assertEquals(List.of("one"), names, "Rows should be limited by the call options");
+    }
+
+    @Test
+    public void testCancelledBeforeRun() {
+        QueryCancellation cancellation = QueryCancellation.create();
+        cancellation.cancel();
+
+        assertThrows(QueryCancelledException.class,
+                     () -> dao.withOptions(StatementOptions.create().cancellation(cancellation),
+                                           dao::getSystemNames),
+                     "Query should not be run");
+    }
+
+    @Test
+    public void testCancelRunningQuery() {
+        QueryCancellation cancellation = QueryCancellation.create();
+        Thread canceller = new Thread(() -> {
+            while(cancellation.getRunningCount() == 0) {
+                Thread.yield();
+            }
+            cancellation.cancel();
+        });
+        canceller.setDaemon(true);
+        canceller.start();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            assertThrows(QueryCancelledException.class,
+                         () -> dao.withOptions(StatementOptions.create().cancellation(cancellation),
+                                               dao::getSlowSum),
+                         "Query should be cancelled");
+        }, "Cancel should stop the query");
+        assertEquals(0, cancellation.getRunningCount(), "Statement should be released");
+    }
+
+    @Test
+    public void testClosedStatementsAreReleased() {
+        QueryCancellation cancellation = QueryCancellation.create();
+
+        dao.withOptions(StatementOptions.create().cancellation(cancellation), () -> {
+            for(int i = 0; i < 5; i++) {
+                dao.getSystemNames();
+                assertEquals(0, cancellation.getRunningCount(), "Closed statements should be released");
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testStatementTimeout() {
+        dao.setStatementOptions(StatementOptions.create().timeout(Duration.ofSeconds(1)));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            assertThrows(DataAccessException.class, dao::getSlowSum, "Query should time out");
+        }, "Timeout should stop the query");
+    }
+}
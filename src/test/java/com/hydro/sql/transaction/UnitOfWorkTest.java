@@ -0,0 +1,133 @@
+package com.hydro.sql.transaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hydro.sql.abstracts.SqlTestDao;
+import com.hydro.sql.abstracts.SqlTestTables;
+
+/**
+ * Test class for the Unit Of Work.
+ * 
+ * @author Sam Butler
+ * @since October 18, 2026
+ */
+public class UnitOfWorkTest {
+    private static final String URL = "jdbc:h2:mem:unit_of_work;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private SqlTestDao dao;
+
+    @BeforeEach
+    public void setup() {
+        DriverManagerDataSource source = new DriverManagerDataSource(URL, "sa", "");
+        SqlTestTables.createSystems(source);
+        dao = new SqlTestDao(source);
+    }
+
+    @Test
+    public void testWritesCommitTogether() {
+        int count = dao.inTransaction(work -> {
+            dao.insertSystem(1, "first");
+            dao.insertSystem(2, "second");
+            return dao.getSystemCount();
+        });
+
+        assertEquals(2, count, "Reads in the unit of work should see its own writes");
+        assertEquals(2, dao.getSystemCount(), "Both writes should be committed");
+    }
+
+    @Test
+    public void testErrorRollsBackAllWrites() {
+        assertThrows(DataIntegrityViolationException.class, () -> dao.inTransaction(work -> {
+            dao.insertSystem(1, "first");
+            dao.insertSystem(1, "duplicate");
+            return null;
+        }), "Duplicate key should be thrown");
+
+        assertEquals(0, dao.getSystemCount(), "First write should be rolled back");
+    }
+
+    @Test
+    public void testSetRollbackOnly() {
+        dao.inTransaction(work -> {
+            dao.insertSystem(1, "first");
+            work.setRollbackOnly();
+            return null;
+        });
+
+        assertEquals(0, dao.getSystemCount(), "Write should be rolled back");
+    }
+
+    @Test
+    public void testSavepointRollsBackOnlyTheStep() {
+        dao.inTransaction(work -> {
+            dao.insertSystem(1, "first");
+            assertThrows(DataIntegrityViolationException.class, () -> work.savepoint(() -> {
+                dao.insertSystem(2, "second");
+                dao.insertSystem(1, "duplicate");
+                return null;
+            }), "Duplicate key should be rethrown");
+            return null;
+        });
+
+        assertEquals(1, dao.getSystemCount(), "Only the write before the savepoint should be committed");
+    }
+
+    @Test
+    public void testNestedUnitOfWorkJoinsTransaction() {
+        assertThrows(IllegalStateException.class, () -> dao.inTransaction(outer -> {
+            dao.inTransaction(inner -> {
+                assertFalse(inner.isNewTransaction(), "Inner unit of work should join the outer one");
+                dao.insertSystem(1, "first");
+                return null;
+            });
+            throw new IllegalStateException("rollback");
+        }), "Error should be rethrown");
+
+        assertEquals(0, dao.getSystemCount(), "Inner write should be rolled back with the outer one");
+    }
+
+    @Test
+    public void testOptions() {
+        TransactionOptions options = TransactionOptions.create().readOnly(true)
+                .isolation(Isolation.READ_COMMITTED);
+
+        int count = dao.inTransaction(options, work -> {
+            assertTrue(TransactionSynchronizationManager.isCurrentTransactionReadOnly(),
+                       "Transaction should be read only");
+            assertEquals(Isolation.READ_COMMITTED.value(),
+                         TransactionSynchronizationManager.getCurrentTransactionIsolationLevel(),
+                         "Isolation level should be set");
+            return dao.getSystemCount();
+        });
+
+        assertEquals(0, count, "Read should run in the transaction");
+    }
+
+    @Test
+    public void testAfterCommit() {
+        AtomicBoolean committed = new AtomicBoolean();
+        AtomicBoolean rolledBack = new AtomicBoolean();
+
+        dao.inTransaction(work -> {
+            work.afterCommit(() -> committed.set(true));
+            return null;
+        });
+        dao.inTransaction(work -> {
+            work.afterCommit(() -> rolledBack.set(true));
+            work.setRollbackOnly();
+            return null;
+        });
+
+        assertTrue(committed.get(), "Callback should run after the commit");
+        assertFalse(rolledBack.get(), "Callback should not run after a rollback");
+    }
+}
@@ -0,0 +1,3 @@
+-- Seed data for the test systems
+INSERT INTO systems (id, name) VALUES (1, 'tower');
+INSERT INTO systems (id, name) VALUES (2, 'raft');
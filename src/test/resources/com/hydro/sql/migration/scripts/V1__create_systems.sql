@@ -0,0 +1,4 @@
+CREATE TABLE systems (
+    id INT PRIMARY KEY,
+    name VARCHAR(64) NOT NULL
+);
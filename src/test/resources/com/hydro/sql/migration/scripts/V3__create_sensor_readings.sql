@@ -0,0 +1,6 @@
+CREATE TABLE sensor_readings (
+    id BIGINT PRIMARY KEY,
+    system_id INT NOT NULL,
+    ph DOUBLE,
+    FOREIGN KEY (system_id) REFERENCES systems (id)
+);
@@ -0,0 +1,4 @@
+CREATE TABLE water_systems (
+    id INT PRIMARY KEY,
+    name VARCHAR(64) NOT NULL
+);